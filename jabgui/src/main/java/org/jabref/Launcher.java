@@ -72,7 +72,7 @@ public class Launcher {
 
         PreferencesMigrations.runMigrations(preferences);
 
-        PostgreServer postgreServer = new PostgreServer();
+        PostgreServer postgreServer = new PostgreServer(Directories.getSearchIndexDirectory());
         Injector.setModelOrService(PostgreServer.class, postgreServer);
 
         CSLStyleLoader.loadInternalStyles();
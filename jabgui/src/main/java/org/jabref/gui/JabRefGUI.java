@@ -424,11 +424,12 @@ public class JabRefGUI extends Application {
         LOGGER.trace("Shutting down directoryMonitor");
         DirectoryMonitor directoryMonitor = Injector.instantiateModelOrService(DirectoryMonitor.class);
         directoryMonitor.shutdown();
+        LOGGER.trace("Shutting down HeadlessExecutorService");
+        HeadlessExecutorService.INSTANCE.shutdownEverything();
+        // After the HeadlessExecutorService, because closing the libraries stores their search index
         LOGGER.trace("Shutting down postgreServer");
         PostgreServer postgreServer = Injector.instantiateModelOrService(PostgreServer.class);
         postgreServer.shutdown();
-        LOGGER.trace("Shutting down HeadlessExecutorService");
-        HeadlessExecutorService.INSTANCE.shutdownEverything();
         LOGGER.trace("Finished shutdownThreadPools");
     }
 }
@@ -2,8 +2,10 @@ package org.jabref.gui;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.beans.Observable;
 import javafx.beans.binding.Bindings;
@@ -17,6 +19,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.collections.transformation.FilteredList;
@@ -35,6 +38,7 @@ import org.jabref.logic.search.IndexManager;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.search.query.SearchQuery;
 
@@ -66,6 +70,7 @@ public class StateManager {
     private final ObservableList<BibEntry> selectedEntries = FXCollections.observableArrayList();
     private final ObservableMap<String, ObservableList<GroupTreeNode>> selectedGroups = FXCollections.observableHashMap();
     private final ObservableMap<String, IndexManager> indexManagers = FXCollections.observableHashMap();
+    private final Map<String, GroupMembershipIndex> groupMembershipIndexes = new ConcurrentHashMap<>();
     private final OptionalObjectProperty<SearchQuery> activeSearchQuery = OptionalObjectProperty.empty();
     private final OptionalObjectProperty<SearchQuery> activeGlobalSearchQuery = OptionalObjectProperty.empty();
     private final StringProperty searchQueryProperty = new SimpleStringProperty();
@@ -85,6 +90,14 @@ public class StateManager {
     private final List<AiChatWindow> aiChatWindows = new ArrayList<>();
     private final BooleanProperty editorShowing = new SimpleBooleanProperty(false);
 
+    public StateManager() {
+        openDatabases.addListener((ListChangeListener<BibDatabaseContext>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(database -> groupMembershipIndexes.remove(database.getUid()));
+            }
+        });
+    }
+
     public ObservableList<SidePaneType> getVisibleSidePaneComponents() {
         return visibleSidePanes;
     }
@@ -146,6 +159,10 @@ public class StateManager {
         return Optional.ofNullable(indexManagers.get(database.getUid()));
     }
 
+    public GroupMembershipIndex getGroupMembershipIndex(BibDatabaseContext database) {
+        return groupMembershipIndexes.computeIfAbsent(database.getUid(), _ -> new GroupMembershipIndex(database.getDatabase()));
+    }
+
     public Optional<BibDatabaseContext> getActiveDatabase() {
         return activeDatabase.get();
     }
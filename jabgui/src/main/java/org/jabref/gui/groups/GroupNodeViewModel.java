@@ -34,6 +34,7 @@ import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AllEntriesGroup;
 import org.jabref.model.groups.AutomaticGroup;
@@ -41,6 +42,7 @@ import org.jabref.model.groups.AutomaticKeywordGroup;
 import org.jabref.model.groups.AutomaticPersonsGroup;
 import org.jabref.model.groups.ExplicitGroup;
 import org.jabref.model.groups.GroupEntryChanger;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.LastNameGroup;
@@ -66,6 +68,7 @@ public class GroupNodeViewModel {
     private final BibDatabaseContext databaseContext;
     private final StateManager stateManager;
     private final GroupTreeNode groupNode;
+    private final GroupMembershipIndex groupMembershipIndex;
     @ADR(38)
     private final ObservableSet<String> matchedEntries = FXCollections.observableSet();
     private final SimpleBooleanProperty hasChildren;
@@ -87,6 +90,7 @@ public class GroupNodeViewModel {
         this.groupNode = Objects.requireNonNull(groupNode);
         this.localDragBoard = Objects.requireNonNull(localDragBoard);
         this.preferences = preferences;
+        this.groupMembershipIndex = stateManager.getGroupMembershipIndex(databaseContext);
 
         displayName = new SimpleObjectProperty<>(new LatexToUnicodeFormatter().format(groupNode.getName()));
         isRoot = groupNode.isRoot();
@@ -126,6 +130,7 @@ public class GroupNodeViewModel {
         allSelectedEntriesMatched = selectedEntriesMatchStatus.isEmptyBinding().not().and(selectedEntriesMatchStatus.allMatch(matched -> matched));
 
         this.databaseContext.getDatabase().registerListener(new SearchIndexListener());
+        this.databaseContext.getDatabase().registerListener(new EntryChangeListener());
     }
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, AbstractGroup group, CustomLocalDragboard localDragboard, GuiPreferences preferences) {
@@ -251,7 +256,7 @@ public class GroupNodeViewModel {
     }
 
     /**
-     * Gets invoked if an entry in the current database changes.
+     * Gets invoked if entries are added to or removed from the current database. Changes of the entries themselves are handled by {@link EntryChangeListener}.
      *
      * @implNote Search groups are updated in {@link SearchIndexListener}.
      */
@@ -262,16 +267,6 @@ public class GroupNodeViewModel {
         while (change.next()) {
             if (change.wasPermutated()) {
                 // Nothing to do, as permutation doesn't change matched entries
-            } else if (change.wasUpdated()) {
-                for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
-                    if (groupNode.matches(changedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(changedEntry.getId());
-                    } else {
-                        // ADR-0038
-                        matchedEntries.remove(changedEntry.getId());
-                    }
-                }
             } else {
                 for (BibEntry removedEntry : change.getRemoved()) {
                     // ADR-0038
@@ -289,6 +284,8 @@ public class GroupNodeViewModel {
 
     private void refreshGroup() {
         UiTaskExecutor.runInJavaFXThread(() -> {
+            // The matches of search groups and LaTeX groups changed without a change of the entries
+            groupMembershipIndex.invalidate(groupNode);
             updateMatchedEntries(); // Update the entries matched by the group
             // "Re-add" to the selected groups if it were selected, this refreshes the entries the user views
             ObservableList<GroupTreeNode> selectedGroups = this.stateManager.getSelectedGroups(this.databaseContext);
@@ -299,12 +296,11 @@ public class GroupNodeViewModel {
     }
 
     private void updateMatchedEntries() {
-        // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The index only checks the entries against the group when the group is queried the first time,
+        // afterwards it keeps the matches up to date when entries change
         if (preferences.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
-                    .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
+                    .wrap(() -> groupMembershipIndex.getMatches(groupNode))
                     .onSuccess(entries -> {
                         matchedEntries.clear();
                         // ADR-0038
@@ -522,6 +518,33 @@ public class GroupNodeViewModel {
         };
     }
 
+    /**
+     * Re-evaluates the group for an entry of the current database that changed.
+     * The entries list of the database does not report updates of its entries, thus the changes are taken from the event bus.
+     *
+     * @implNote Search groups are updated in {@link SearchIndexListener}.
+     */
+    class EntryChangeListener {
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            if (groupNode.getGroup() instanceof SearchGroup) {
+                return;
+            }
+            BibEntry changedEntry = event.getBibEntry();
+            // Entries removed from the database (e.g., kept by the undo manager) still post their changes
+            if (databaseContext.getDatabase().getEntryById(changedEntry.getId()) != changedEntry) {
+                return;
+            }
+            if (groupNode.matches(changedEntry)) {
+                // ADR-0038
+                matchedEntries.add(changedEntry.getId());
+            } else {
+                // ADR-0038
+                matchedEntries.remove(changedEntry.getId());
+            }
+        }
+    }
+
     class SearchIndexListener {
         @Subscribe
         public void listen(IndexStartedEvent event) {
@@ -540,6 +563,7 @@ public class GroupNodeViewModel {
                 stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> BackgroundTask.wrap(() -> {
                     for (BibEntry entry : event.entries()) {
                         searchGroup.updateMatches(entry, indexManager.isEntryMatched(entry, searchGroup.getSearchQuery()));
+                        groupMembershipIndex.update(entry);
                     }
                 }).onFinished(() -> {
                     for (BibEntry entry : event.entries()) {
@@ -558,6 +582,7 @@ public class GroupNodeViewModel {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 for (BibEntry entry : event.entries()) {
                     searchGroup.updateMatches(entry, false);
+                    groupMembershipIndex.update(entry);
                     matchedEntries.remove(entry.getId());
                 }
             }
@@ -5,6 +5,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -37,6 +38,7 @@ import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AutomaticKeywordGroup;
 import org.jabref.model.groups.AutomaticPersonsGroup;
 import org.jabref.model.groups.ExplicitGroup;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.SearchGroup;
@@ -66,14 +68,17 @@ public class GroupTreeViewModel extends AbstractViewModel {
     private final Comparator<GroupTreeNode> compAlphabetIgnoreCaseReverse = (GroupTreeNode v1, GroupTreeNode v2) -> v2
             .getName()
             .compareToIgnoreCase(v1.getName());
+    // The sizes of the groups are taken from the index, as the comparators are called several times per group
     private final Comparator<GroupTreeNode> compEntries = (GroupTreeNode v1, GroupTreeNode v2) -> {
-        int numChildren1 = v1.getEntriesInGroup(this.currentDatabase.get().getEntries()).size();
-        int numChildren2 = v2.getEntriesInGroup(this.currentDatabase.get().getEntries()).size();
+        GroupMembershipIndex groupMembershipIndex = getGroupMembershipIndex();
+        int numChildren1 = groupMembershipIndex.getNumberOfMembers(v1);
+        int numChildren2 = groupMembershipIndex.getNumberOfMembers(v2);
         return Integer.compare(numChildren2, numChildren1);
     };
     private final Comparator<GroupTreeNode> compEntriesReverse = (GroupTreeNode v1, GroupTreeNode v2) -> {
-        int numChildren1 = v1.getEntriesInGroup(this.currentDatabase.get().getEntries()).size();
-        int numChildren2 = v2.getEntriesInGroup(this.currentDatabase.get().getEntries()).size();
+        GroupMembershipIndex groupMembershipIndex = getGroupMembershipIndex();
+        int numChildren1 = groupMembershipIndex.getNumberOfMembers(v1);
+        int numChildren2 = groupMembershipIndex.getNumberOfMembers(v2);
         return Integer.compare(numChildren1, numChildren2);
     };
     private Optional<BibDatabaseContext> currentDatabase = Optional.empty();
@@ -209,6 +214,10 @@ public class GroupTreeViewModel extends AbstractViewModel {
         currentDatabase.ifPresent(database -> database.getMetaData().setGroups(rootGroup.get().getGroupNode()));
     }
 
+    private GroupMembershipIndex getGroupMembershipIndex() {
+        return stateManager.getGroupMembershipIndex(currentDatabase.get());
+    }
+
     private boolean isGroupTypeEqual(AbstractGroup oldGroup, AbstractGroup newGroup) {
         return oldGroup.getClass().equals(newGroup.getClass());
     }
@@ -440,7 +449,10 @@ public class GroupTreeViewModel extends AbstractViewModel {
         groupNameProperty.addListener((obs, oldValue, newValue) -> nameProperty.setValue(Localization.lang("Group %0", groupNameProperty.get())));
 
         ObservableList<ChatMessage> chatHistory = aiService.getChatHistoryService().getChatHistoryForGroup(currentDatabase.get(), group.getGroupNode());
-        ObservableList<BibEntry> bibEntries = FXCollections.observableArrayList(group.getGroupNode().findMatches(currentDatabase.get().getDatabase()));
+        Set<BibEntry> matches = getGroupMembershipIndex().getMatches(List.of(group.getGroupNode()), true);
+        ObservableList<BibEntry> bibEntries = currentDatabase.get().getEntries().stream()
+                                                             .filter(matches::contains)
+                                                             .collect(Collectors.toCollection(FXCollections::observableArrayList));
 
         openAiChat(nameProperty, chatHistory, currentDatabase.get(), bibEntries);
     }
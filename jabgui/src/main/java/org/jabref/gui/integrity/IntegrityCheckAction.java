@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -18,12 +17,18 @@ import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
 public class IntegrityCheckAction extends SimpleCommand {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(IntegrityCheckAction.class);
+
     private final UiTaskExecutor taskExecutor;
     private final DialogService dialogService;
     private final Supplier<LibraryTab> tabSupplier;
@@ -31,6 +36,12 @@ public class IntegrityCheckAction extends SimpleCommand {
     private final StateManager stateManager;
     private final JournalAbbreviationRepository abbreviationRepository;
 
+    // Kept to reuse the cached results of unchanged entries when the same library is checked again
+    private IntegrityCheck lastCheck;
+    private BibDatabaseContext lastCheckedDatabase;
+    private BibDatabaseMode lastCheckedMode;
+    private boolean lastAllowIntegerEdition;
+
     public IntegrityCheckAction(Supplier<LibraryTab> tabSupplier,
                                 GuiPreferences preferences,
                                 DialogService dialogService,
@@ -49,26 +60,15 @@ public class IntegrityCheckAction extends SimpleCommand {
     @Override
     public void execute() {
         BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
-        IntegrityCheck check = new IntegrityCheck(database,
-                preferences.getFilePreferences(),
-                preferences.getCitationKeyPatternPreferences(),
-                abbreviationRepository,
-                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+        IntegrityCheck check = getIntegrityCheck(database);
 
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
+                List<BibEntry> entries = List.copyOf(database.getDatabase().getEntries());
                 List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
+                result.addAll(check.checkEntries(entries, checkedEntries -> updateProgress(checkedEntries, entries.size()), this::isCancelled));
+                LOGGER.debug("Time spent in the integrity checkers: {}", check.getCheckerDurations());
                 return result;
             }
         };
@@ -88,4 +88,22 @@ public class IntegrityCheckAction extends SimpleCommand {
                 task);
         taskExecutor.execute(task);
     }
+
+    private IntegrityCheck getIntegrityCheck(BibDatabaseContext database) {
+        boolean allowIntegerEdition = preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex();
+        if ((lastCheck == null)
+                || (lastCheckedDatabase != database)
+                || (lastCheckedMode != database.getMode())
+                || (lastAllowIntegerEdition != allowIntegerEdition)) {
+            lastCheck = new IntegrityCheck(database,
+                    preferences.getFilePreferences(),
+                    preferences.getCitationKeyPatternPreferences(),
+                    abbreviationRepository,
+                    allowIntegerEdition);
+            lastCheckedDatabase = database;
+            lastCheckedMode = database.getMode();
+            lastAllowIntegerEdition = allowIntegerEdition;
+        }
+        return lastCheck;
+    }
 }
@@ -2,6 +2,7 @@ package org.jabref.gui.maintable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -25,6 +26,7 @@ import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.search.SearchDisplayMode;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
@@ -62,6 +64,7 @@ public class MainTableDataModel {
     private final SearchIndexListener indexUpdatedListener;
     private final OptionalObjectProperty<SearchQuery> searchQueryProperty;
     @Nullable private final IndexManager indexManager;
+    private final GroupMembershipIndex groupMembershipIndex;
 
     private Optional<MatcherSet> groupsMatcher;
 
@@ -69,6 +72,7 @@ public class MainTableDataModel {
                               GuiPreferences preferences,
                               TaskExecutor taskExecutor,
                               @Nullable IndexManager indexManager,
+                              GroupMembershipIndex groupMembershipIndex,
                               ListProperty<GroupTreeNode> selectedGroupsProperty,
                               OptionalObjectProperty<SearchQuery> searchQueryProperty,
                               IntegerProperty resultSizeProperty) {
@@ -77,6 +81,7 @@ public class MainTableDataModel {
         this.nameDisplayPreferences = preferences.getNameDisplayPreferences();
         this.taskExecutor = taskExecutor;
         this.indexManager = indexManager;
+        this.groupMembershipIndex = groupMembershipIndex;
         this.bibDatabaseContext = context;
         this.searchQueryProperty = searchQueryProperty;
         this.indexUpdatedListener = new SearchIndexListener();
@@ -85,7 +90,8 @@ public class MainTableDataModel {
         this.bibDatabaseContext.getDatabase().registerListener(indexUpdatedListener);
         resetFieldFormatter();
 
-        ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
+        // Updates of the entries are needed to re-filter and re-sort the table when an entry is edited
+        ObservableList<BibEntry> allEntries = BindingsHelper.forUI(BindingsHelper.withUpdates(context.getDatabase().getEntries(), BibEntry::getObservables));
         entriesViewModel = EasyBind.mapBacked(allEntries, entry -> new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter), false);
         entriesFiltered = new FilteredList<>(entriesViewModel, BibEntryTableViewModel::isVisible);
 
@@ -152,13 +158,23 @@ public class MainTableDataModel {
             groupsMatcher = createGroupMatcher(groups, groupsPreferences);
             boolean isInvertMode = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT);
             boolean isFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
-            entriesViewModel.forEach(entry -> updateEntryGroupMatch(entry, groupsMatcher, isInvertMode, isFloatingMode));
+            // The index knows the matches of the groups, thus the entries are not checked against the groups again
+            Optional<Set<BibEntry>> groupMatches = getGroupMatches(groups);
+            entriesViewModel.forEach(entry -> {
+                boolean isMatched = groupMatches.map(matches -> matches.contains(entry.getEntry()) ^ isInvertMode)
+                                                .orElse(true);
+                updateEntryGroupMatch(entry, isMatched, isFloatingMode);
+            });
         }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
     }
 
     private void updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<MatcherSet> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
         boolean isMatched = groupsMatcher.map(matcher -> matcher.isMatch(entry.getEntry()) ^ isInvertMode)
                                          .orElse(true);
+        updateEntryGroupMatch(entry, isMatched, isFloatingMode);
+    }
+
+    private static void updateEntryGroupMatch(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
         entry.isMatchedByGroup().set(isMatched);
         entry.updateMatchCategory();
         if (isMatched) {
@@ -168,6 +184,16 @@ public class MainTableDataModel {
         }
     }
 
+    /**
+     * Returns the entries matched by the selected groups, combined like {@link #createGroupMatcher(List, GroupsPreferences)} combines their matchers.
+     */
+    private Optional<Set<BibEntry>> getGroupMatches(List<GroupTreeNode> selectedGroups) {
+        if ((selectedGroups == null) || selectedGroups.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(groupMembershipIndex.getMatches(selectedGroups, groupsPreferences.getGroupViewMode().contains(GroupViewMode.INTERSECTION)));
+    }
+
     private static Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import javafx.beans.Observable;
 import javafx.beans.binding.BooleanBinding;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.binding.StringBinding;
@@ -19,6 +20,7 @@ import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.css.PseudoClass;
 import javafx.scene.Node;
+import javafx.util.Callback;
 
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.PreboundBinding;
@@ -165,6 +167,14 @@ public class BindingsHelper {
         return new UiThreadList<>(list);
     }
 
+    /**
+     * Returns a wrapper around the given list that additionally reports updates of its elements, i.e., changes of the observables returned by the extractor.
+     * The observables are only created for the elements while the wrapper is in use.
+     */
+    public static <T> ObservableList<T> withUpdates(ObservableList<T> list, Callback<T, Observable[]> extractor) {
+        return new ElementUpdatesList<>(list, extractor);
+    }
+
     public static <T> ObservableValue<T> ifThenElse(ObservableValue<Boolean> condition, T value, T other) {
         return EasyBind.map(condition, conditionValue -> {
             if (conditionValue) {
@@ -0,0 +1,102 @@
+package org.jabref.gui.util;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import javafx.util.Callback;
+
+/**
+ * Wraps a list and additionally reports updates of its elements, i.e., invalidations of the observables returned by the extractor.
+ * In contrast to giving the extractor to the wrapped list, the observables of the elements are only created when a view needs them.
+ */
+class ElementUpdatesList<T> extends TransformationList<T, T> {
+    private final Callback<T, Observable[]> extractor;
+    private final Map<T, ElementObserver> observers = new IdentityHashMap<>();
+
+    public ElementUpdatesList(ObservableList<T> source, Callback<T, Observable[]> extractor) {
+        super(source);
+        this.extractor = extractor;
+        source.forEach(this::observe);
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            // Observe first, so that elements re-added by setAll keep their observers
+            change.getAddedSubList().forEach(this::observe);
+            change.getRemoved().forEach(this::stopObserving);
+        }
+        change.reset();
+        fireChange(change);
+    }
+
+    private synchronized void observe(T element) {
+        observers.computeIfAbsent(element, ElementObserver::new).count++;
+    }
+
+    private synchronized void stopObserving(T element) {
+        ElementObserver observer = observers.get(element);
+        if ((observer != null) && (--observer.count == 0)) {
+            observers.remove(element);
+            observer.detach();
+        }
+    }
+
+    private void elementUpdated(T element) {
+        beginChange();
+        for (int i = 0; i < size(); i++) {
+            if (get(i) == element) {
+                nextUpdate(i);
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index;
+    }
+
+    @Override
+    public T get(int index) {
+        return getSource().get(index);
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    private class ElementObserver {
+        private final Observable[] observables;
+        private final InvalidationListener listener;
+        private int count;
+
+        ElementObserver(T element) {
+            this.observables = extractor.call(element);
+            this.listener = _ -> elementUpdated(element);
+            for (Observable observable : observables) {
+                observable.addListener(listener);
+            }
+        }
+
+        void detach() {
+            for (Observable observable : observables) {
+                observable.removeListener(listener);
+            }
+        }
+    }
+}
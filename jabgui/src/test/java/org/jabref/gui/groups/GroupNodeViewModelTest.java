@@ -19,6 +19,7 @@ import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AutomaticKeywordGroup;
 import org.jabref.model.groups.ExplicitGroup;
 import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.WordKeywordGroup;
 
@@ -43,6 +44,7 @@ class GroupNodeViewModelTest {
         stateManager = mock(StateManager.class);
         when(stateManager.getSelectedEntries()).thenReturn(FXCollections.emptyObservableList());
         databaseContext = new BibDatabaseContext();
+        when(stateManager.getGroupMembershipIndex(databaseContext)).thenReturn(new GroupMembershipIndex(databaseContext.getDatabase()));
         taskExecutor = new CurrentThreadTaskExecutor();
         preferences = mock(GuiPreferences.class);
         when(preferences.getGroupsPreferences()).thenReturn(new GroupsPreferences(
@@ -176,6 +178,33 @@ class GroupNodeViewModelTest {
         assertEquals(groupName, entry.getField(StandardField.GROUPS).get());
     }
 
+    @Test
+    void hitsAreUpdatedWhenEntryIsChanged() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "other");
+        databaseContext.getDatabase().insertEntry(entry);
+        GroupNodeViewModel model = getViewModelForGroup(
+                new WordKeywordGroup("Test group", GroupHierarchyType.INDEPENDENT, StandardField.TITLE, "search", true, ',', false));
+        assertEquals(0, model.getHits().get());
+
+        entry.setField(StandardField.TITLE, "search");
+        assertEquals(1, model.getHits().get());
+
+        entry.setField(StandardField.TITLE, "other");
+        assertEquals(0, model.getHits().get());
+    }
+
+    @Test
+    void changeOfRemovedEntryDoesNotUpdateHits() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "other");
+        databaseContext.getDatabase().insertEntry(entry);
+        GroupNodeViewModel model = getViewModelForGroup(
+                new WordKeywordGroup("Test group", GroupHierarchyType.INDEPENDENT, StandardField.TITLE, "search", true, ',', false));
+        databaseContext.getDatabase().removeEntry(entry);
+
+        entry.setField(StandardField.TITLE, "search");
+        assertEquals(0, model.getHits().get());
+    }
+
     private GroupNodeViewModel getViewModelForGroup(AbstractGroup group) {
         return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, group, new CustomLocalDragboard(), preferences);
     }
@@ -7,12 +7,13 @@ import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 
+import org.jabref.gui.util.BindingsHelper;
 import org.jabref.logic.bibtex.comparator.EntryComparator;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -28,8 +29,8 @@ class MainTableDataModelTest {
     @Test
     void additionToObservableMapTriggersUpdate() {
         BibDatabaseContext bibDatabaseContext = new BibDatabaseContext();
-        ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
-        ObservableList<BibEntry> allEntries = FXCollections.unmodifiableObservableList(entries);
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        ObservableList<BibEntry> allEntries = BindingsHelper.withUpdates(database.getEntries(), BibEntry::getObservables);
         NameDisplayPreferences nameDisplayPreferences = new NameDisplayPreferences(NameDisplayPreferences.DisplayStyle.AS_IS, NameDisplayPreferences.AbbreviationStyle.FULL);
         SimpleObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter = new SimpleObjectProperty<>(new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
         ObservableList<BibEntryTableViewModel> entriesViewModel = EasyBind.mapBacked(allEntries, entry ->
@@ -46,13 +47,13 @@ class MainTableDataModelTest {
         entriesFilteredAndSorted.addListener((InvalidationListener) observable -> changed[0] = true);
 
         BibEntry bibEntryAuthorT = new BibEntry().withField(StandardField.AUTHOR, "T");
-        entries.add(bibEntryAuthorT);
+        database.insertEntry(bibEntryAuthorT);
 
         List<BibEntry> result = entriesFilteredAndSorted.stream().map(BibEntryTableViewModel::getEntry).toList();
         assertEquals(List.of(bibEntryAuthorT), result);
 
         BibEntry bibEntryNothingToZ = new BibEntry();
-        entries.add(bibEntryNothingToZ);
+        database.insertEntry(bibEntryNothingToZ);
         result = entriesFilteredAndSorted.stream().map(BibEntryTableViewModel::getEntry).toList();
         assertEquals(List.of(bibEntryNothingToZ, bibEntryAuthorT), result);
 
@@ -51,6 +51,9 @@ class Search implements Runnable {
     @Option(names = {"--output-format"}, description = "Output format: bib, txt, etc.")
     private String outputFormat = "bibtex";
 
+    @Option(names = {"--limit"}, description = "Maximum number of matches")
+    private int limit = Integer.MAX_VALUE;
+
     @Override
     public void run() {
         Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
@@ -83,7 +86,7 @@ class Search implements Runnable {
                     new CurrentThreadTaskExecutor(),
                     argumentProcessor.cliPreferences,
                     postgreServer
-            ).getMatches();
+            ).getMatches(limit);
         } catch (IOException ex) {
             LOGGER.error("Error occurred when searching", ex);
             return;
@@ -49,6 +49,8 @@ public class Benchmarks {
 
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
+    private final BibDatabase incrementallySavedDatabase = new BibDatabase();
+    private int numberOfEdits;
     private String latexConversionString;
     private String htmlConversionString;
 
@@ -67,9 +69,12 @@ public class Benchmarks {
             entry.setField(StandardField.YEAR, "1" + i);
             entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
             database.insertEntry(entry);
+            incrementallySavedDatabase.insertEntry((BibEntry) entry.clone());
         }
 
         bibtexString = getOutputWriter().toString();
+        // The first save serializes all entries, the following ones only the edited entries
+        getOutputWriter(incrementallySavedDatabase, true);
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
@@ -77,9 +82,14 @@ public class Benchmarks {
     }
 
     private StringWriter getOutputWriter() throws IOException {
+        return getOutputWriter(database, false);
+    }
+
+    private StringWriter getOutputWriter(BibDatabase databaseToWrite, boolean incrementalSave) throws IOException {
         StringWriter outputWriter = new StringWriter();
         BibWriter bibWriter = new BibWriter(outputWriter, OS.NEWLINE);
         SelfContainedSaveConfiguration saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
+        saveConfiguration.withIncrementalSave(incrementalSave);
         FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(), List.of());
         CitationKeyPatternPreferences citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class, Answers.RETURNS_DEEP_STUBS);
 
@@ -89,7 +99,7 @@ public class Benchmarks {
                 fieldPreferences,
                 citationKeyPatternPreferences,
                 new BibEntryTypesManager());
-        databaseWriter.savePartOfDatabase(new BibDatabaseContext(database, new MetaData()), database.getEntries());
+        databaseWriter.savePartOfDatabase(new BibDatabaseContext(databaseToWrite, new MetaData()), databaseToWrite.getEntries());
         return outputWriter;
     }
 
@@ -105,6 +115,14 @@ public class Benchmarks {
         return getOutputWriter().toString();
     }
 
+    @Benchmark
+    public String writeIncrementallyAfterSingleEdit() throws IOException {
+        numberOfEdits++;
+        List<BibEntry> entries = incrementallySavedDatabase.getEntries();
+        entries.get(numberOfEdits % entries.size()).setField(StandardField.NOTE, "Edit " + numberOfEdits);
+        return getOutputWriter(incrementallySavedDatabase, true).toString();
+    }
+
     @Benchmark
     public List<BibEntry> search() {
         // TODO: Create Benchmark for LuceneSearch
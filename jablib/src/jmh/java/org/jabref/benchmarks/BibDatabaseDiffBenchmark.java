@@ -0,0 +1,45 @@
+package org.jabref.benchmarks;
+
+import org.jabref.logic.bibtex.comparator.BibDatabaseDiff;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link BibDatabaseDiff#compare(BibDatabaseContext, BibDatabaseContext)} for two snapshots of a library differing in a few entries,
+ * which is the typical case when the library file is modified externally.
+ */
+@State(Scope.Benchmark)
+public class BibDatabaseDiffBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private BibDatabaseContext originalDatabase;
+    private BibDatabaseContext changedDatabase;
+
+    @Setup
+    public void init() {
+        originalDatabase = new BibDatabaseContext(SearchBenchmarkLibrary.createDatabase(numberOfEntries));
+
+        BibDatabase changed = SearchBenchmarkLibrary.createDatabase(numberOfEntries);
+        for (int i = 0; i < 5; i++) {
+            changed.getEntries().get(i * 1000).setField(StandardField.YEAR, "2000");
+        }
+        changed.removeEntry(changed.getEntries().get(1));
+        changed.insertEntry(new BibEntry().withCitationKey("added").withField(StandardField.TITLE, "An added entry"));
+        changedDatabase = new BibDatabaseContext(changed);
+    }
+
+    @Benchmark
+    public BibDatabaseDiff compare() {
+        return BibDatabaseDiff.compare(originalDatabase, changedDatabase);
+    }
+}
@@ -0,0 +1,73 @@
+package org.jabref.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reports the retained heap per entry of a library, as secondary result {@code bytesPerEntry}.
+ * The entries are measured inside a {@link BibDatabase}, which does not create their observables.
+ * With {@code observed}, the entries are additionally observed through a list that observes their fields and type, as the main table of the GUI does.
+ * Run it on two revisions to compare the memory layout of {@link BibEntry}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class BibEntryMemoryBenchmark {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    @Param({"10000", "200000"})
+    private int numberOfEntries;
+
+    @Param({"false", "true"})
+    private boolean observed;
+
+    // Kept reachable until the heap is measured
+    private ObservableList<BibEntry> observedEntries;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class MemoryCounters {
+        public long bytesPerEntry;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerEntry = 0;
+        }
+    }
+
+    @Benchmark
+    public BibDatabase createLibrary(MemoryCounters counters) {
+        long before = usedHeap();
+        BibDatabase database = SearchBenchmarkLibrary.createDatabase(numberOfEntries);
+        if (observed) {
+            observedEntries = FXCollections.observableArrayList(BibEntry::getObservables);
+            observedEntries.setAll(database.getEntries());
+        }
+        counters.bytesPerEntry = (usedHeap() - before) / numberOfEntries;
+        observedEntries = null;
+        return database;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            MEMORY.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,93 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares adding a library to the bib fields index using the COPY based bulk load with adding it entry by entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class BibFieldsIndexerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    private PostgreServer postgreServer;
+    private BibDatabaseContext databaseContext;
+    private BibEntryPreferences bibEntryPreferences;
+    private BibFieldsIndexer indexer;
+
+    @Setup(Level.Trial)
+    public void init() {
+        postgreServer = new PostgreServer();
+        bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+
+        BibDatabase database = new BibDatabase();
+        Random randomizer = new Random(42);
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCitationKey("id" + i);
+            entry.setField(StandardField.TITLE, "This is my title " + i);
+            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+            entry.setField(StandardField.JOURNAL, "Journal Title " + i);
+            entry.setField(StandardField.KEYWORDS, "testkeyword, keyword" + i % 100);
+            entry.setField(StandardField.YEAR, "1" + i);
+            entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
+            database.insertEntry(entry);
+        }
+        databaseContext = new BibDatabaseContext(database);
+    }
+
+    @Setup(Level.Invocation)
+    public void createIndexer() {
+        indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeIndexer() {
+        indexer.closeAndWait();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        postgreServer.shutdown();
+    }
+
+    @Benchmark
+    public void bulkLoad() {
+        indexer.bulkLoad(databaseContext.getDatabase().getEntries(), BackgroundTask.wrap(() -> null));
+    }
+
+    @Benchmark
+    public void addPerEntry() {
+        BackgroundTask<?> task = BackgroundTask.wrap(() -> null);
+        for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
+            indexer.addToIndex(List.of(entry), task);
+        }
+    }
+}
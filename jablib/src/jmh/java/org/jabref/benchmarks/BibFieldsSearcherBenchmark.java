@@ -0,0 +1,78 @@
+package org.jabref.benchmarks;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures searches in the bib fields index for representative query shapes.
+ * {@link #search()} measures the query execution, {@link #cachedSearch()} a repeated search answered from the result cache.
+ */
+@State(Scope.Benchmark)
+public class BibFieldsSearcherBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    @Param({
+            "lastname42",
+            "author = lastname42",
+            "title == \"This is my title 42\"",
+            "title =~ \"title 4[0-9]{2}$\"",
+            "journal != \"Journal Title 7\"",
+            "keywords == keyword42",
+            "author = lastname42 AND year = 2001"
+    })
+    private String query;
+
+    private PostgreServer postgreServer;
+    private BibFieldsIndexer indexer;
+    private BibFieldsSearcher searcher;
+    private SearchQuery searchQuery;
+
+    @Setup
+    public void init() {
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+
+        postgreServer = new PostgreServer();
+        BibDatabaseContext databaseContext = new BibDatabaseContext(SearchBenchmarkLibrary.createDatabase(numberOfEntries));
+        indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+        indexer.updateOnStart(BackgroundTask.wrap(() -> null));
+        searcher = new BibFieldsSearcher(postgreServer.getConnection(), indexer.getTable());
+        searchQuery = new SearchQuery(query);
+    }
+
+    @TearDown
+    public void shutdown() {
+        searcher.close();
+        indexer.closeAndWait();
+        postgreServer.shutdown();
+    }
+
+    @Benchmark
+    public SearchResults search() {
+        searcher.invalidateCache();
+        return searcher.search(searchQuery);
+    }
+
+    @Benchmark
+    public SearchResults cachedSearch() {
+        return searcher.search(searchQuery);
+    }
+}
@@ -0,0 +1,64 @@
+package org.jabref.benchmarks;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures generating the citation keys of all entries of a library ("Generate keys" for all entries), one entry
+ * after another and with {@link CitationKeyGenerator#generateAndSetKeys(java.util.List)}.
+ * The pattern {@code [auth][year]} leads to many equal keys, which have to be made unique by appending letters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class CitationKeyGenerationBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private BibDatabase database;
+    private CitationKeyGenerator keyGenerator;
+
+    @Setup(Level.Invocation)
+    public void init() {
+        database = SearchBenchmarkLibrary.createDatabase(numberOfEntries);
+        CitationKeyPatternPreferences preferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+                "",
+                "",
+                CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+                "",
+                ',');
+        keyGenerator = new CitationKeyGenerator(new BibDatabaseContext(database), preferences);
+    }
+
+    @Benchmark
+    public BibDatabase generateKeys() {
+        for (BibEntry entry : database.getEntries()) {
+            keyGenerator.generateAndSetKey(entry);
+        }
+        return database;
+    }
+
+    @Benchmark
+    public BibDatabase generateKeysForAllEntries() {
+        keyGenerator.generateAndSetKeys(database.getEntries());
+        return database;
+    }
+}
@@ -0,0 +1,116 @@
+package org.jabref.benchmarks;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javafx.collections.FXCollections;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.shared.DBMSConnection;
+import org.jabref.logic.shared.DBMSConnectionPropertiesBuilder;
+import org.jabref.logic.shared.DBMSProcessor;
+import org.jabref.logic.shared.DBMSSynchronizer;
+import org.jabref.logic.shared.DBMSType;
+import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
+import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures {@link DBMSSynchronizer#synchronizeLocalDatabase()} after a few entries have been changed by another client.
+ * <p>
+ * Requires a local PostgreSQL server with the same credentials as the database tests (user and password "postgres").
+ * The shared tables in the schema "jabref" are recreated.
+ */
+@State(Scope.Benchmark)
+public class DBMSSynchronizerBenchmark {
+
+    private static final int CHANGED_ENTRIES = 10;
+
+    @Param({"10000", "60000"})
+    private int numberOfEntries;
+
+    private DBMSConnection localConnection;
+    private DBMSConnection remoteConnection;
+    private DBMSProcessor remoteProcessor;
+    private DBMSSynchronizer synchronizer;
+    private List<Integer> sharedIDs;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void init() throws SQLException, InvalidDBMSConnectionPropertiesException {
+        remoteConnection = createConnection();
+        try (Statement statement = remoteConnection.getConnection().createStatement()) {
+            statement.executeUpdate("DROP TABLE IF EXISTS jabref.\"FIELD\"");
+            statement.executeUpdate("DROP TABLE IF EXISTS jabref.\"ENTRY\"");
+            statement.executeUpdate("DROP TABLE IF EXISTS jabref.\"METADATA\"");
+        }
+        remoteProcessor = DBMSProcessor.getProcessorInstance(remoteConnection);
+        remoteProcessor.setupSharedDatabase();
+        remoteProcessor.insertEntries(SearchBenchmarkLibrary.createDatabase(numberOfEntries).getEntries());
+        sharedIDs = remoteProcessor.getSharedIDVersionMapping().keySet().stream().sorted().toList();
+
+        FieldPreferences fieldPreferences = mock(FieldPreferences.class);
+        when(fieldPreferences.getNonWrappableFields()).thenReturn(FXCollections.observableArrayList());
+        BibDatabase localDatabase = new BibDatabase();
+        synchronizer = new DBMSSynchronizer(new BibDatabaseContext(localDatabase), ',', fieldPreferences,
+                GlobalCitationKeyPatterns.fromPattern("[auth][year]"), new DummyFileUpdateMonitor());
+        localDatabase.registerListener(synchronizer);
+
+        localConnection = createConnection();
+        // Pulls all shared entries
+        synchronizer.openSharedDatabase(localConnection);
+    }
+
+    @Setup(Level.Invocation)
+    public void changeRemoteEntries() throws SQLException, OfflineLockException {
+        round++;
+        List<Integer> changedIDs = IntStream.range(0, CHANGED_ENTRIES)
+                                            .mapToObj(i -> sharedIDs.get((i * sharedIDs.size()) / CHANGED_ENTRIES))
+                                            .toList();
+        for (BibEntry entry : remoteProcessor.getSharedEntries(changedIDs)) {
+            entry.setField(StandardField.NOTE, "changed in round " + round);
+            remoteProcessor.updateEntry(entry);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() throws SQLException {
+        synchronizer.closeSharedDatabase();
+        remoteConnection.getConnection().close();
+    }
+
+    @Benchmark
+    public void synchronizeLocalDatabase() {
+        synchronizer.synchronizeLocalDatabase();
+    }
+
+    private static DBMSConnection createConnection() throws SQLException, InvalidDBMSConnectionPropertiesException {
+        return new DBMSConnection(new DBMSConnectionPropertiesBuilder()
+                .setType(DBMSType.POSTGRESQL)
+                .setHost("localhost")
+                .setPort(DBMSType.POSTGRESQL.getDefaultPort())
+                .setDatabase("postgres")
+                .setUser("postgres")
+                .setPassword("postgres")
+                .setUseSSL(false)
+                .createDBMSConnectionProperties());
+    }
+}
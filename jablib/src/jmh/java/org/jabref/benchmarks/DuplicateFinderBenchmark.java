@@ -0,0 +1,58 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.database.DuplicateFinder;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link DuplicateFinder#findDuplicates(List, BibDatabaseMode)} on a library in which about one percent of the entries are near-duplicates of other entries.
+ */
+@State(Scope.Benchmark)
+public class DuplicateFinderBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private DuplicateFinder duplicateFinder;
+    private List<BibEntry> entries;
+
+    @Setup
+    public void init() {
+        duplicateFinder = new DuplicateFinder(new BibEntryTypesManager());
+
+        Random randomizer = new Random(42);
+        entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            if ((i > 0) && (randomizer.nextInt(100) == 0)) {
+                BibEntry original = entries.get(randomizer.nextInt(i));
+                entries.add(new BibEntry(original.getType())
+                        .withField(StandardField.AUTHOR, original.getField(StandardField.AUTHOR).orElseThrow())
+                        .withField(StandardField.TITLE, original.getField(StandardField.TITLE).orElseThrow().toUpperCase() + ".")
+                        .withField(StandardField.YEAR, original.getField(StandardField.YEAR).orElseThrow()));
+            } else {
+                entries.add(new BibEntry(i % 3 == 0 ? StandardEntryType.InProceedings : StandardEntryType.Article)
+                        .withField(StandardField.AUTHOR, "Firstname Lastname" + randomizer.nextInt(5000) + " and Another Author" + randomizer.nextInt(1000))
+                        .withField(StandardField.TITLE, SearchBenchmarkLibrary.sentence(randomizer, 8))
+                        .withField(StandardField.YEAR, String.valueOf(1980 + randomizer.nextInt(45))));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<List<BibEntry>> findDuplicates() {
+        return duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX);
+    }
+}
@@ -0,0 +1,131 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jabref.logic.ai.ingestion.MVStoreEmbeddingStore;
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the search of {@link MVStoreEmbeddingStore} with the search of langchain4j's {@link InMemoryEmbeddingStore},
+ * which compares the query with every embedding.
+ * <p>
+ * The recall of {@link MVStoreEmbeddingStore} is reported as secondary results: {@code foundMatches} of {@code expectedMatches}
+ * exact matches were found.
+ */
+@State(Scope.Benchmark)
+public class EmbeddingStoreSearchBenchmark {
+
+    private static final int DIMENSION = 384;
+    private static final int MAX_RESULTS = 10;
+    private static final int NUMBER_OF_QUERIES = 100;
+
+    @Param({"10000", "100000"})
+    private int numberOfEmbeddings;
+
+    private Path directory;
+    private MVStoreEmbeddingStore mvStoreEmbeddingStore;
+    private InMemoryEmbeddingStore<TextSegment> inMemoryEmbeddingStore;
+    private List<Embedding> queries;
+    private List<List<String>> exactMatches;
+    private int nextQuery;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RecallCounters {
+        public long foundMatches;
+        public long expectedMatches;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            foundMatches = 0;
+            expectedMatches = 0;
+        }
+    }
+
+    @Setup
+    public void init() throws IOException {
+        directory = Files.createTempDirectory("embeddings");
+        mvStoreEmbeddingStore = new MVStoreEmbeddingStore(directory.resolve("embeddings.mv"), mock(NotificationService.class));
+        inMemoryEmbeddingStore = new InMemoryEmbeddingStore<>();
+
+        Random random = new Random(42);
+        for (int i = 0; i < numberOfEmbeddings; i++) {
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = new TextSegment("segment " + i, new Metadata(Map.of(LINK_METADATA_KEY, "file" + (i / 100) + ".pdf")));
+            mvStoreEmbeddingStore.add(embedding, segment);
+            inMemoryEmbeddingStore.add(embedding, segment);
+        }
+        mvStoreEmbeddingStore.commit();
+
+        queries = new ArrayList<>();
+        exactMatches = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_QUERIES; i++) {
+            Embedding query = randomEmbedding(random);
+            queries.add(query);
+            exactMatches.add(inMemoryEmbeddingStore.search(request(query)).matches().stream()
+                                                   .map(match -> match.embedded().text())
+                                                   .toList());
+        }
+    }
+
+    @TearDown
+    public void shutdown() throws IOException {
+        mvStoreEmbeddingStore.close();
+        Files.deleteIfExists(directory.resolve("embeddings.mv"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public List<EmbeddingMatch<TextSegment>> searchMVStoreEmbeddingStore(RecallCounters counters) {
+        int queryIndex = nextQuery++ % NUMBER_OF_QUERIES;
+        List<EmbeddingMatch<TextSegment>> matches = mvStoreEmbeddingStore.search(request(queries.get(queryIndex))).matches();
+        List<String> expected = exactMatches.get(queryIndex);
+        counters.foundMatches += matches.stream().filter(match -> expected.contains(match.embedded().text())).count();
+        counters.expectedMatches += expected.size();
+        return matches;
+    }
+
+    @Benchmark
+    public List<EmbeddingMatch<TextSegment>> searchInMemoryEmbeddingStore() {
+        return inMemoryEmbeddingStore.search(request(queries.get(nextQuery++ % NUMBER_OF_QUERIES))).matches();
+    }
+
+    private static EmbeddingSearchRequest request(Embedding query) {
+        return EmbeddingSearchRequest.builder()
+                                     .queryEmbedding(query)
+                                     .maxResults(MAX_RESULTS)
+                                     .build();
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+}
@@ -0,0 +1,84 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.AllEntriesGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupMembershipIndex;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.WordKeywordGroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures computing the number of entries of all groups after an entry was edited, as the groups side pane does.
+ * There is one keyword group for each keyword of the library, each with one subgroup for each word including the
+ * entries of its subgroups.
+ */
+@State(Scope.Benchmark)
+public class GroupMembershipBenchmark {
+
+    @Param({"10000", "80000"})
+    private int numberOfEntries;
+
+    private BibEntry editedEntry;
+    private List<GroupTreeNode> groups;
+    private GroupMembershipIndex index;
+    private BibDatabase database;
+    private int edits;
+
+    @Setup
+    public void init() {
+        database = SearchBenchmarkLibrary.createDatabase(numberOfEntries);
+        editedEntry = database.getEntries().getFirst();
+
+        GroupTreeNode root = new GroupTreeNode(new AllEntriesGroup("All entries"));
+        groups = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            GroupTreeNode keywordNode = root.addSubgroup(keywordGroup("keyword" + i, GroupHierarchyType.INCLUDING));
+            groups.add(keywordNode);
+            for (int j = 0; j < 8; j++) {
+                groups.add(keywordNode.addSubgroup(keywordGroup(SearchBenchmarkLibrary.WORDS[(i + j) % SearchBenchmarkLibrary.WORDS.length], GroupHierarchyType.INDEPENDENT)));
+            }
+        }
+
+        index = new GroupMembershipIndex(database);
+        groups.forEach(index::getNumberOfMatches);
+    }
+
+    @Benchmark
+    public int findMatchesOfAllGroups() {
+        edit();
+        int hits = 0;
+        for (GroupTreeNode group : groups) {
+            hits += group.findMatches(database).size();
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int getNumberOfMatchesOfAllGroups() {
+        edit();
+        int hits = 0;
+        for (GroupTreeNode group : groups) {
+            hits += index.getNumberOfMatches(group);
+        }
+        return hits;
+    }
+
+    private void edit() {
+        editedEntry.setField(StandardField.KEYWORDS, "keyword" + (edits++ % 100));
+    }
+
+    private static WordKeywordGroup keywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, false, ',', false);
+    }
+}
@@ -0,0 +1,87 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.IndexManager;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures {@link IndexManager#isEntryMatched(BibEntry, SearchQuery)}, which is called for each entry when search groups are updated.
+ */
+@State(Scope.Benchmark)
+public class IndexManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    @Param({"author = lastname42", "keywords == keyword42", "author = lastname42 AND year = 2022"})
+    private String query;
+
+    private Path indexDirectory;
+    private PostgreServer postgreServer;
+    private IndexManager indexManager;
+    private BibEntry matchingEntry;
+    private BibEntry otherEntry;
+    private SearchQuery searchQuery;
+
+    @Setup
+    public void init() throws IOException {
+        CliPreferences preferences = mock(CliPreferences.class);
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(false));
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+
+        indexDirectory = Files.createTempDirectory("jabref-benchmark-index");
+        BibDatabaseContext databaseContext = spy(new BibDatabaseContext(SearchBenchmarkLibrary.createDatabase(numberOfEntries)));
+        when(databaseContext.getFulltextIndexPath()).thenReturn(indexDirectory);
+
+        postgreServer = new PostgreServer();
+        indexManager = new IndexManager(databaseContext, new CurrentThreadTaskExecutor(), preferences, postgreServer);
+        matchingEntry = databaseContext.getEntries().get(42);
+        otherEntry = databaseContext.getEntries().get(43);
+        searchQuery = new SearchQuery(query);
+    }
+
+    @TearDown
+    public void shutdown() throws IOException {
+        indexManager.closeAndWait();
+        postgreServer.shutdown();
+        FileUtils.deleteDirectory(indexDirectory.toFile());
+    }
+
+    @Benchmark
+    public boolean matchingEntry() {
+        return indexManager.isEntryMatched(matchingEntry, searchQuery);
+    }
+
+    @Benchmark
+    public boolean notMatchingEntry() {
+        return indexManager.isEntryMatched(otherEntry, searchQuery);
+    }
+}
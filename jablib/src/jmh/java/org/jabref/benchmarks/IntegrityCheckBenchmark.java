@@ -0,0 +1,85 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures checking the integrity of a complete library, the first time and again after one entry was edited.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class IntegrityCheckBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private BibDatabaseContext databaseContext;
+    private JournalAbbreviationRepository abbreviationRepository;
+    private IntegrityCheck checkedBefore;
+
+    @Setup(Level.Trial)
+    public void init() {
+        databaseContext = new BibDatabaseContext(SearchBenchmarkLibrary.createDatabase(numberOfEntries));
+        abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+    }
+
+    @Setup(Level.Invocation)
+    public void checkBefore() {
+        checkedBefore = createIntegrityCheck();
+        check(checkedBefore);
+        databaseContext.getEntries().getFirst().setField(StandardField.NOTE, "edited");
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkLibrary() {
+        return check(createIntegrityCheck());
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkLibraryAgainAfterEdit() {
+        return check(checkedBefore);
+    }
+
+    private List<IntegrityMessage> check(IntegrityCheck integrityCheck) {
+        List<IntegrityMessage> messages = integrityCheck.checkDatabase(databaseContext.getDatabase());
+        messages.addAll(integrityCheck.checkEntries(databaseContext.getEntries(), _ -> {
+        }, () -> false));
+        return messages;
+    }
+
+    private IntegrityCheck createIntegrityCheck() {
+        CitationKeyPatternPreferences citationKeyPatternPreferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+                "",
+                "",
+                CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+                "",
+                ',');
+        return new IntegrityCheck(databaseContext, mock(FilePreferences.class), citationKeyPatternPreferences, abbreviationRepository, false);
+    }
+}
@@ -0,0 +1,104 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Random;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.search.LuceneIndexer;
+import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.search.LinkedFilesConstants;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures fulltext searches over a synthetic in-memory Lucene corpus with {@value #PAGES_PER_FILE} pages for each linked file.
+ * {@link #searchFirstHits()} stops after the first hits, as the streaming search of the search bar does.
+ */
+@State(Scope.Benchmark)
+public class LinkedFilesSearcherBenchmark {
+
+    private static final int PAGES_PER_FILE = 3;
+    private static final int WORDS_PER_PAGE = 100;
+    private static final int FIRST_HITS = 20;
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    @Param({"latency", "parallel AND retrieval", "\"distributed database\"", "ranking OR throughput"})
+    private String query;
+
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    private LinkedFilesSearcher searcher;
+    private SearchQuery searchQuery;
+
+    @Setup
+    public void init() throws IOException {
+        directory = new ByteBuffersDirectory();
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(LinkedFilesConstants.LINKED_FILES_ANALYZER));
+        Random randomizer = new Random(42);
+        for (int i = 0; i < numberOfEntries; i++) {
+            for (int page = 1; page <= PAGES_PER_FILE; page++) {
+                Document document = new Document();
+                document.add(new StringField(LinkedFilesConstants.PATH.toString(), SearchBenchmarkLibrary.getFileLink(i), Field.Store.YES));
+                document.add(new StringField(LinkedFilesConstants.PAGE_NUMBER.toString(), String.valueOf(page), Field.Store.YES));
+                document.add(new StringField(LinkedFilesConstants.MODIFIED.toString(), "0", Field.Store.YES));
+                document.add(new TextField(LinkedFilesConstants.CONTENT.toString(), SearchBenchmarkLibrary.sentence(randomizer, WORDS_PER_PAGE), Field.Store.YES));
+                indexWriter.addDocument(document);
+            }
+        }
+        indexWriter.commit();
+        searcherManager = new SearcherManager(indexWriter, null);
+
+        LuceneIndexer indexer = mock(LuceneIndexer.class);
+        when(indexer.getSearcherManager()).thenReturn(searcherManager);
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
+
+        BibDatabaseContext databaseContext = new BibDatabaseContext(SearchBenchmarkLibrary.createDatabase(numberOfEntries));
+        searcher = new LinkedFilesSearcher(databaseContext, indexer, filePreferences);
+        searchQuery = new SearchQuery(query, EnumSet.of(SearchFlags.FULLTEXT));
+    }
+
+    @TearDown
+    public void shutdown() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public SearchResults search() {
+        return searcher.search(searchQuery);
+    }
+
+    @Benchmark
+    public int searchFirstHits() {
+        int[] hits = new int[1];
+        searcher.search(searchQuery, (entryId, result) -> ++hits[0] < FIRST_HITS);
+        return hits[0];
+    }
+}
@@ -0,0 +1,58 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+/**
+ * Generates the libraries used by the search benchmarks. The content is deterministic, so that results of different runs are comparable.
+ */
+final class SearchBenchmarkLibrary {
+
+    static final String[] WORDS = {
+            "search", "index", "query", "latency", "segment", "merge", "entry", "library", "citation", "reference",
+            "author", "journal", "conference", "proceedings", "algorithm", "evaluation", "benchmark", "throughput",
+            "database", "transaction", "retrieval", "ranking", "analysis", "distributed", "parallel", "memory"
+    };
+
+    private SearchBenchmarkLibrary() {
+    }
+
+    static BibDatabase createDatabase(int numberOfEntries) {
+        Random randomizer = new Random(42);
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry(i % 3 == 0 ? StandardEntryType.InProceedings : StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + (i % 1000) + " and Another Author" + randomizer.nextInt(1000))
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + (i % 50))
+                    .withField(StandardField.KEYWORDS, "keyword" + (i % 100) + ", " + WORDS[i % WORDS.length])
+                    .withField(StandardField.YEAR, String.valueOf(1980 + (i % 45)))
+                    .withField(StandardField.ABSTRACT, sentence(randomizer, 30))
+                    .withFiles(List.of(new LinkedFile("", getFileLink(i), "PDF")));
+            database.insertEntry(entry);
+        }
+        return database;
+    }
+
+    static String getFileLink(int entryNumber) {
+        return "papers/file" + entryNumber + ".pdf";
+    }
+
+    static String sentence(Random randomizer, int numberOfWords) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < numberOfWords; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[randomizer.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package org.jabref.benchmarks;
+
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SqlQueryNode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the conversion of search queries to SQL by the {@link org.jabref.logic.search.query.SearchToSqlVisitor}.
+ */
+@State(Scope.Thread)
+public class SearchQueryConversionBenchmark {
+
+    @Param({
+            "lastname42",
+            "author = lastname42",
+            "title == \"This is my title 42\"",
+            "title =~ \"title 4[0-9]{2}$\"",
+            "journal != \"Journal Title 7\"",
+            "keywords == keyword42",
+            "author = lastname42 AND year = 2001"
+    })
+    private String query;
+
+    private SearchQuery searchQuery;
+
+    @Setup
+    public void init() {
+        searchQuery = new SearchQuery(query);
+    }
+
+    @Benchmark
+    public SqlQueryNode searchToSql() {
+        return SearchQueryConversion.searchToSql("benchmark_table", searchQuery);
+    }
+}
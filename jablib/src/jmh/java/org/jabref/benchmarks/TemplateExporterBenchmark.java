@@ -0,0 +1,67 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+
+import org.jabref.logic.exporter.SaveException;
+import org.jabref.logic.exporter.TemplateExporter;
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.mockito.Answers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures exporting a whole library with a template based export format.
+ * The HTML table format has no group blocks, thus its entries are formatted in parallel.
+ */
+@State(Scope.Benchmark)
+public class TemplateExporterBenchmark {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private BibDatabase database;
+    private BibDatabaseContext databaseContext;
+    private TemplateExporter exporter;
+    private Path file;
+
+    @Setup
+    public void init() throws IOException {
+        database = SearchBenchmarkLibrary.createDatabase(numberOfEntries);
+        databaseContext = new BibDatabaseContext(database);
+        exporter = new TemplateExporter("HTML table",
+                "tablerefs",
+                "tablerefs",
+                "tablerefs",
+                StandardFileType.HTML,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                SaveOrder.getDefaultSaveOrder());
+        file = Files.createTempFile("jabref-export", ".html");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long export() throws IOException, SaveException, ParserConfigurationException, TransformerException {
+        exporter.export(databaseContext, file, database.getEntries());
+        return Files.size(file);
+    }
+}
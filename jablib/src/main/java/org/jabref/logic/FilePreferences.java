@@ -4,8 +4,10 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -26,6 +28,10 @@ public class FilePreferences {
     private final StringProperty fileDirectoryPattern = new SimpleStringProperty();
     private final BooleanProperty downloadLinkedFiles = new SimpleBooleanProperty();
     private final BooleanProperty fulltextIndexLinkedFiles = new SimpleBooleanProperty();
+    private final IntegerProperty fulltextIndexMaxStaleness = new SimpleIntegerProperty();
+    private final IntegerProperty fulltextIndexCommitInterval = new SimpleIntegerProperty();
+    private final IntegerProperty fulltextIndexCommitDocuments = new SimpleIntegerProperty();
+    private final IntegerProperty fulltextIndexRamBuffer = new SimpleIntegerProperty();
     private final ObjectProperty<Path> workingDirectory = new SimpleObjectProperty<>();
     private final BooleanProperty createBackup = new SimpleBooleanProperty();
     private final ObjectProperty<Path> backupDirectory = new SimpleObjectProperty<>();
@@ -43,6 +49,10 @@ public class FilePreferences {
                            String fileDirectoryPattern,
                            boolean downloadLinkedFiles,
                            boolean fulltextIndexLinkedFiles,
+                           int fulltextIndexMaxStaleness,
+                           int fulltextIndexCommitInterval,
+                           int fulltextIndexCommitDocuments,
+                           int fulltextIndexRamBuffer,
                            Path workingDirectory,
                            boolean createBackup,
                            Path backupDirectory,
@@ -59,6 +69,10 @@ public class FilePreferences {
         this.fileDirectoryPattern.setValue(fileDirectoryPattern);
         this.downloadLinkedFiles.setValue(downloadLinkedFiles);
         this.fulltextIndexLinkedFiles.setValue(fulltextIndexLinkedFiles);
+        this.fulltextIndexMaxStaleness.setValue(fulltextIndexMaxStaleness);
+        this.fulltextIndexCommitInterval.setValue(fulltextIndexCommitInterval);
+        this.fulltextIndexCommitDocuments.setValue(fulltextIndexCommitDocuments);
+        this.fulltextIndexRamBuffer.setValue(fulltextIndexRamBuffer);
         this.workingDirectory.setValue(workingDirectory);
         this.createBackup.setValue(createBackup);
         this.backupDirectory.setValue(backupDirectory);
@@ -154,6 +168,66 @@ public class FilePreferences {
         this.fulltextIndexLinkedFiles.set(shouldFulltextIndexLinkedFiles);
     }
 
+    /**
+     * @return the maximum time in milliseconds until changes of the fulltext index are visible to searches
+     */
+    public int getFulltextIndexMaxStaleness() {
+        return fulltextIndexMaxStaleness.get();
+    }
+
+    public IntegerProperty fulltextIndexMaxStalenessProperty() {
+        return fulltextIndexMaxStaleness;
+    }
+
+    public void setFulltextIndexMaxStaleness(int fulltextIndexMaxStaleness) {
+        this.fulltextIndexMaxStaleness.set(fulltextIndexMaxStaleness);
+    }
+
+    /**
+     * @return the maximum time in seconds changes of the fulltext index are kept uncommitted
+     */
+    public int getFulltextIndexCommitInterval() {
+        return fulltextIndexCommitInterval.get();
+    }
+
+    public IntegerProperty fulltextIndexCommitIntervalProperty() {
+        return fulltextIndexCommitInterval;
+    }
+
+    public void setFulltextIndexCommitInterval(int fulltextIndexCommitInterval) {
+        this.fulltextIndexCommitInterval.set(fulltextIndexCommitInterval);
+    }
+
+    /**
+     * @return the number of indexed pages after which the fulltext index is committed
+     */
+    public int getFulltextIndexCommitDocuments() {
+        return fulltextIndexCommitDocuments.get();
+    }
+
+    public IntegerProperty fulltextIndexCommitDocumentsProperty() {
+        return fulltextIndexCommitDocuments;
+    }
+
+    public void setFulltextIndexCommitDocuments(int fulltextIndexCommitDocuments) {
+        this.fulltextIndexCommitDocuments.set(fulltextIndexCommitDocuments);
+    }
+
+    /**
+     * @return the size in MB of the buffer for indexed pages before they are flushed to disk
+     */
+    public int getFulltextIndexRamBuffer() {
+        return fulltextIndexRamBuffer.get();
+    }
+
+    public IntegerProperty fulltextIndexRamBufferProperty() {
+        return fulltextIndexRamBuffer;
+    }
+
+    public void setFulltextIndexRamBuffer(int fulltextIndexRamBuffer) {
+        this.fulltextIndexRamBuffer.set(fulltextIndexRamBuffer);
+    }
+
     public Path getWorkingDirectory() {
         return workingDirectory.get();
     }
@@ -0,0 +1,281 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.h2.mvstore.MVStore;
+
+/// Hierarchical navigable small world graph (HNSW) for the approximate nearest neighbour search in [MVStoreEmbeddingStore].
+///
+/// The graph is stored in maps of the [MVStore] of the embedding store, thus it is persisted and committed together with
+/// the embeddings. Each node stores its level, the norm of its vector and its neighbours on each level. The vectors
+/// themselves are looked up in the embedding store. The similarity is the cosine similarity, computed as the dot product
+/// divided by the precomputed norms.
+///
+/// When a node is removed, its neighbours are linked to its other neighbours. Links to removed nodes remaining in other
+/// nodes are skipped during the search.
+///
+/// The index is not thread-safe. Searching concurrently is possible, adding and removing nodes has to be synchronized.
+class HnswIndex {
+
+    record ScoredId(String id, double similarity) {
+    }
+
+    private record Node(int level, float norm, String[][] neighbours) implements Serializable {
+        Node withNeighbours(int neighboursLevel, String[] newNeighbours) {
+            String[][] updated = neighbours.clone();
+            updated[neighboursLevel] = newNeighbours;
+            return new Node(level, norm, updated);
+        }
+    }
+
+    private static final int MAX_CONNECTIONS = 16;
+    private static final int MAX_CONNECTIONS_LEVEL_ZERO = 2 * MAX_CONNECTIONS;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final int MAX_LEVEL = 16;
+    private static final double LEVEL_MULTIPLIER = 1 / Math.log(MAX_CONNECTIONS);
+    private static final String ENTRY_POINT_KEY = "entryPoint";
+    private static final Comparator<ScoredId> BY_SIMILARITY = Comparator.comparingDouble(ScoredId::similarity);
+
+    private final Map<String, Node> nodes;
+    private final Map<String, String> metaData;
+    private final Function<String, float[]> vectors;
+    private final Random random = new Random();
+
+    /// @param vectors looks up the vector of the embedding with the given id
+    HnswIndex(MVStore mvStore, String name, Function<String, float[]> vectors) {
+        this.nodes = mvStore.openMap(name + "Nodes");
+        this.metaData = mvStore.openMap(name + "MetaData");
+        this.vectors = vectors;
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    void clear() {
+        nodes.clear();
+        metaData.clear();
+    }
+
+    void add(String id, float[] vector) {
+        remove(id);
+
+        Query query = new Query(vector, norm(vector));
+        int level = randomLevel();
+        Optional<String> entryPoint = getEntryPoint();
+        if (entryPoint.isEmpty()) {
+            nodes.put(id, new Node(level, query.norm(), new String[level + 1][0]));
+            metaData.put(ENTRY_POINT_KEY, id);
+            return;
+        }
+
+        Node entryNode = nodes.get(entryPoint.get());
+        List<ScoredId> entries = List.of(new ScoredId(entryPoint.get(), similarity(query, entryPoint.get(), entryNode)));
+        for (int currentLevel = entryNode.level(); currentLevel > level; currentLevel--) {
+            entries = searchLayer(query, entries, 1, currentLevel, _ -> true);
+        }
+
+        String[][] neighbours = new String[level + 1][0];
+        for (int currentLevel = Math.min(level, entryNode.level()); currentLevel >= 0; currentLevel--) {
+            entries = searchLayer(query, entries, EF_CONSTRUCTION, currentLevel, _ -> true);
+            neighbours[currentLevel] = entries.stream().limit(maxConnections(currentLevel)).map(ScoredId::id).toArray(String[]::new);
+        }
+        nodes.put(id, new Node(level, query.norm(), neighbours));
+
+        for (int currentLevel = 0; currentLevel < neighbours.length; currentLevel++) {
+            for (String neighbour : neighbours[currentLevel]) {
+                link(neighbour, id, currentLevel);
+            }
+        }
+        if (level > entryNode.level()) {
+            metaData.put(ENTRY_POINT_KEY, id);
+        }
+    }
+
+    void remove(String id) {
+        Node node = nodes.remove(id);
+        if (node == null) {
+            return;
+        }
+
+        for (int level = 0; level <= node.level(); level++) {
+            for (String neighbourId : node.neighbours()[level]) {
+                Node neighbour = nodes.get(neighbourId);
+                if ((neighbour == null) || (neighbour.level() < level)) {
+                    continue;
+                }
+                // Replace the link to the removed node by links to its other neighbours
+                Set<String> candidates = new LinkedHashSet<>(Arrays.asList(neighbour.neighbours()[level]));
+                candidates.remove(id);
+                for (String other : node.neighbours()[level]) {
+                    if (!other.equals(neighbourId)) {
+                        candidates.add(other);
+                    }
+                }
+                nodes.put(neighbourId, neighbour.withNeighbours(level, closest(neighbourId, neighbour, candidates, maxConnections(level))));
+            }
+        }
+
+        if (id.equals(metaData.get(ENTRY_POINT_KEY))) {
+            Optional<String> newEntryPoint = Optional.empty();
+            for (int level = node.level(); (level >= 0) && newEntryPoint.isEmpty(); level--) {
+                newEntryPoint = Arrays.stream(node.neighbours()[level]).filter(nodes::containsKey).findFirst();
+            }
+            if (newEntryPoint.isEmpty() && !nodes.isEmpty()) {
+                newEntryPoint = Optional.of(nodes.keySet().iterator().next());
+            }
+            newEntryPoint.ifPresentOrElse(entry -> metaData.put(ENTRY_POINT_KEY, entry), () -> metaData.remove(ENTRY_POINT_KEY));
+        }
+    }
+
+    /// @param ef     the number of candidates to keep during the search, larger values increase the recall and the runtime
+    /// @param accept only the nodes accepted by this predicate are returned, the others are only traversed
+    /// @return up to `maxResults` nodes most similar to the given vector, most similar first
+    List<ScoredId> search(float[] vector, int maxResults, int ef, Predicate<String> accept) {
+        Optional<String> entryPoint = getEntryPoint();
+        if (entryPoint.isEmpty()) {
+            return List.of();
+        }
+
+        Query query = new Query(vector, norm(vector));
+        Node entryNode = nodes.get(entryPoint.get());
+        List<ScoredId> entries = List.of(new ScoredId(entryPoint.get(), similarity(query, entryPoint.get(), entryNode)));
+        for (int level = entryNode.level(); level > 0; level--) {
+            entries = searchLayer(query, entries, 1, level, _ -> true);
+        }
+        return searchLayer(query, entries, Math.max(ef, maxResults), 0, accept).stream().limit(maxResults).toList();
+    }
+
+    private List<ScoredId> searchLayer(Query query, List<ScoredId> entries, int ef, int level, Predicate<String> accept) {
+        Set<String> visited = new HashSet<>();
+        PriorityQueue<ScoredId> candidates = new PriorityQueue<>(BY_SIMILARITY.reversed());
+        PriorityQueue<ScoredId> results = new PriorityQueue<>(BY_SIMILARITY);
+        for (ScoredId entry : entries) {
+            visited.add(entry.id());
+            candidates.add(entry);
+            if (accept.test(entry.id())) {
+                addResult(results, entry, ef);
+            }
+        }
+
+        while (!candidates.isEmpty()) {
+            ScoredId candidate = candidates.poll();
+            if ((results.size() >= ef) && (candidate.similarity() < results.peek().similarity())) {
+                break;
+            }
+            Node node = nodes.get(candidate.id());
+            if ((node == null) || (node.level() < level)) {
+                continue;
+            }
+            for (String neighbourId : node.neighbours()[level]) {
+                if (!visited.add(neighbourId)) {
+                    continue;
+                }
+                Node neighbour = nodes.get(neighbourId);
+                if (neighbour == null) {
+                    // removed
+                    continue;
+                }
+                ScoredId scored = new ScoredId(neighbourId, similarity(query, neighbourId, neighbour));
+                if ((results.size() < ef) || (scored.similarity() > results.peek().similarity())) {
+                    candidates.add(scored);
+                    if (accept.test(neighbourId)) {
+                        addResult(results, scored, ef);
+                    }
+                }
+            }
+        }
+
+        List<ScoredId> sorted = new ArrayList<>(results);
+        sorted.sort(BY_SIMILARITY.reversed());
+        return sorted;
+    }
+
+    private static void addResult(PriorityQueue<ScoredId> results, ScoredId result, int ef) {
+        results.add(result);
+        if (results.size() > ef) {
+            results.poll();
+        }
+    }
+
+    private void link(String nodeId, String newNeighbour, int level) {
+        Node node = nodes.get(nodeId);
+        if ((node == null) || (node.level() < level)) {
+            return;
+        }
+        Set<String> neighbours = new LinkedHashSet<>(Arrays.asList(node.neighbours()[level]));
+        if (neighbours.add(newNeighbour)) {
+            nodes.put(nodeId, node.withNeighbours(level, closest(nodeId, node, neighbours, maxConnections(level))));
+        }
+    }
+
+    /// @return the given candidates if there are at most `limit`, otherwise the `limit` candidates most similar to the given node
+    private String[] closest(String nodeId, Node node, Set<String> candidates, int limit) {
+        if (candidates.size() <= limit) {
+            return candidates.toArray(String[]::new);
+        }
+        float[] vector = vectors.apply(nodeId);
+        if (vector == null) {
+            return candidates.stream().limit(limit).toArray(String[]::new);
+        }
+        Query query = new Query(vector, node.norm());
+        return candidates.stream()
+                         .map(candidate -> {
+                             Node candidateNode = nodes.get(candidate);
+                             return new ScoredId(candidate, candidateNode == null ? -1 : similarity(query, candidate, candidateNode));
+                         })
+                         .sorted(BY_SIMILARITY.reversed())
+                         .limit(limit)
+                         .map(ScoredId::id)
+                         .toArray(String[]::new);
+    }
+
+    private Optional<String> getEntryPoint() {
+        return Optional.ofNullable(metaData.get(ENTRY_POINT_KEY)).filter(nodes::containsKey);
+    }
+
+    private int randomLevel() {
+        return Math.min(MAX_LEVEL, (int) Math.floor(-Math.log(1 - random.nextDouble()) * LEVEL_MULTIPLIER));
+    }
+
+    private static int maxConnections(int level) {
+        return level == 0 ? MAX_CONNECTIONS_LEVEL_ZERO : MAX_CONNECTIONS;
+    }
+
+    private static float norm(float[] vector) {
+        double sum = 0;
+        for (float value : vector) {
+            sum += value * value;
+        }
+        return (float) Math.sqrt(sum);
+    }
+
+    private double similarity(Query query, String id, Node node) {
+        float[] other = vectors.apply(id);
+        if ((other == null) || (query.norm() == 0) || (node.norm() == 0)) {
+            return -1;
+        }
+        float[] vector = query.vector();
+        double dot = 0;
+        for (int i = 0; i < Math.min(vector.length, other.length); i++) {
+            dot += vector[i] * other[i];
+        }
+        return dot / (query.norm() * node.norm());
+    }
+
+    private record Query(float[] vector, float norm) {
+    }
+}
@@ -5,14 +5,19 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
@@ -32,6 +37,8 @@ import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
 import dev.langchain4j.store.embedding.filter.comparison.IsIn;
 import jakarta.annotation.Nullable;
 import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static java.util.Comparator.comparingDouble;
 import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
@@ -42,19 +49,46 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
  * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
  * string (the content).
  * <p>
+ * The embeddings are indexed by an {@link HnswIndex} stored in the same {@link MVStore}, so large stores are searched
+ * without comparing the query with every embedding.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
     // `file` field is nullable, because {@link Optional} can't be serialized.
     private record EmbeddingRecord(@Nullable String file, String content, float[] embeddingVector) implements Serializable { }
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(MVStoreEmbeddingStore.class);
+
     private static final String EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final String EMBEDDINGS_INDEX_NAME = "embeddingsIndex";
+
+    // Up to this number of candidates, comparing the query with each candidate is fast enough and always exact
+    private static final int DEFAULT_EXACT_SEARCH_THRESHOLD = 5_000;
+    private static final int EF_SEARCH = 64;
 
     private final Map<String, EmbeddingRecord> embeddingsMap;
+    private final HnswIndex index;
+    private final int exactSearchThreshold;
+
+    // Ids of the embeddings of each linked file, built when the store is used for the first time
+    private final Map<String, Set<String>> idsByFile = new HashMap<>();
+    private volatile boolean indexesLoaded;
+
+    // The HNSW index is changed in several steps, thus searching while adding or removing embeddings is not possible
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
+        this(path, dialogService, DEFAULT_EXACT_SEARCH_THRESHOLD);
+    }
+
+    MVStoreEmbeddingStore(Path path, NotificationService dialogService, int exactSearchThreshold) {
         super(path, dialogService);
 
         this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.index = new HnswIndex(this.mvStore, EMBEDDINGS_INDEX_NAME, id -> {
+            EmbeddingRecord eRecord = embeddingsMap.get(id);
+            return eRecord == null ? null : eRecord.embeddingVector;
+        });
+        this.exactSearchThreshold = exactSearchThreshold;
     }
 
     @Override
@@ -76,14 +110,14 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     public void add(String id, Embedding embedding) {
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
-        embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        put(id, new EmbeddingRecord(null, "", embedding.vector()));
     }
 
     @Override
     public String add(Embedding embedding, TextSegment textSegment) {
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
-        embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
         return id;
     }
 
@@ -94,18 +128,36 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     @Override
     public void remove(String id) {
-        embeddingsMap.remove(id);
+        loadIndexes();
+        lock.writeLock().lock();
+        try {
+            removeFromIndexes(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void removeAll(Filter filter) {
-        List<String> idsToRemove = applyFilter(filter).toList();
-        idsToRemove.forEach(this::remove);
+        loadIndexes();
+        lock.writeLock().lock();
+        try {
+            applyFilter(filter).forEach(this::removeFromIndexes);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void removeAll() {
-        embeddingsMap.clear();
+        lock.writeLock().lock();
+        try {
+            embeddingsMap.clear();
+            index.clear();
+            idsByFile.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /// The main function of finding most relevant text segments.
@@ -114,32 +166,52 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     /// - [IsIn] with key [FileEmbeddingsManager#LINK_METADATA_KEY]
     /// - [IsEqualTo] with key [FileEmbeddingsManager#LINK_METADATA_KEY]
     ///
+    /// Small sets of candidates are compared with the query one by one. Otherwise, the search is approximate and uses
+    /// an [HnswIndex], so a few of the most relevant text segments may be missed.
+    ///
     /// @param request embedding search request
     ///
     /// @return an [EmbeddingSearchResult], which contains most relevant text segments
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+        loadIndexes();
+        lock.readLock().lock();
+        try {
+            Collection<String> candidates = applyFilter(request.filter());
+            if (candidates.size() <= exactSearchThreshold) {
+                return new EmbeddingSearchResult<>(searchExactly(request, candidates));
+            }
+
+            Predicate<String> accept = request.filter() == null ? _ -> true : candidates::contains;
+            List<HnswIndex.ScoredId> found = index.search(request.queryEmbedding().vector(), request.maxResults(), EF_SEARCH, accept);
+            if (found.size() < request.maxResults()) {
+                // The candidates are spread over the graph too sparsely to be reached
+                return new EmbeddingSearchResult<>(searchExactly(request, candidates));
+            }
+
+            return new EmbeddingSearchResult<>(found.stream()
+                                                    .map(scoredId -> toMatch(scoredId.id(), RelevanceScore.fromCosineSimilarity(scoredId.similarity())))
+                                                    .filter(match -> match.score() >= request.minScore())
+                                                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<EmbeddingMatch<TextSegment>> searchExactly(EmbeddingSearchRequest request, Collection<String> candidates) {
         // Source: {@link InMemoryEmbeddingStore}.
 
         Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
         PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
 
-        applyFilter(request.filter()).forEach(id -> {
+        candidates.forEach(id -> {
             EmbeddingRecord eRecord = embeddingsMap.get(id);
 
             double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
 
             if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
+                matches.add(toMatch(id, score));
 
                 if (matches.size() > request.maxResults()) {
                     matches.poll();
@@ -149,33 +221,114 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
         List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(matches);
         result.sort(comparator.reversed());
+        return result;
+    }
 
-        return new EmbeddingSearchResult<>(result);
+    private EmbeddingMatch<TextSegment> toMatch(String id, double score) {
+        EmbeddingRecord eRecord = embeddingsMap.get(id);
+        return new EmbeddingMatch<>(
+                score,
+                id,
+                Embedding.from(eRecord.embeddingVector),
+                new TextSegment(
+                        eRecord.content,
+                        new Metadata(
+                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file))));
     }
 
     @Override
     public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+        loadIndexes();
+        lock.writeLock().lock();
+        try {
+            for (Object id : ids) {
+                removeFromIndexes(String.valueOf(id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(String id, EmbeddingRecord eRecord) {
+        loadIndexes();
+        lock.writeLock().lock();
+        try {
+            removeFromIndexes(id);
+            embeddingsMap.put(id, eRecord);
+            addToIndexes(id, eRecord);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addToIndexes(String id, EmbeddingRecord eRecord) {
+        if (eRecord.file != null) {
+            idsByFile.computeIfAbsent(eRecord.file, _ -> new HashSet<>()).add(id);
+        }
+        index.add(id, eRecord.embeddingVector);
+    }
+
+    private void removeFromIndexes(String id) {
+        EmbeddingRecord eRecord = embeddingsMap.remove(id);
+        if (eRecord == null) {
+            return;
+        }
+        if (eRecord.file != null) {
+            Set<String> ids = idsByFile.get(eRecord.file);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByFile.remove(eRecord.file);
+            }
+        }
+        index.remove(id);
     }
 
-    private Stream<String> applyFilter(@Nullable Filter filter) {
+    /// Builds the index of the linked files and, for stores written by a version without the HNSW index or closed before
+    /// the index was committed, the HNSW index.
+    private void loadIndexes() {
+        if (indexesLoaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (indexesLoaded) {
+                return;
+            }
+            boolean rebuildIndex = index.size() != embeddingsMap.size();
+            if (rebuildIndex) {
+                LOGGER.info("Rebuilding the index of {} embeddings", embeddingsMap.size());
+                index.clear();
+            }
+            embeddingsMap.forEach((id, eRecord) -> {
+                if (eRecord.file != null) {
+                    idsByFile.computeIfAbsent(eRecord.file, _ -> new HashSet<>()).add(id);
+                }
+                if (rebuildIndex) {
+                    index.add(id, eRecord.embeddingVector);
+                }
+            });
+            indexesLoaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Collection<String> applyFilter(@Nullable Filter filter) {
         return switch (filter) {
-            case null -> embeddingsMap.keySet().stream();
+            case null -> embeddingsMap.keySet();
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+                    isInFilter.comparisonValues().stream()
+                              .flatMap(file -> idsByFile.getOrDefault(file, Set.of()).stream())
+                              .collect(Collectors.toSet());
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    Set.copyOf(idsByFile.getOrDefault(isEqualToFilter.comparisonValue(), Set.of()));
 
             default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
-    }
-
     @Override
     protected String errorMessageForOpening() {
         return "An error occurred while opening the embeddings cache file. Embeddings will not be stored in the next session.";
@@ -80,6 +80,24 @@ public class BibEntryWriter {
         out.finishBlock();
     }
 
+    /**
+     * Writes the given BibEntry like {@link #write(BibEntry, BibWriter, BibDatabaseMode, boolean)}. If the entry is serialized,
+     * the serialization is stored as parsed serialization of the entry. Thus, the next write can reuse it unless the entry changes.
+     */
+    public void writeIncrementally(BibEntry entry, BibWriter out, BibDatabaseMode bibDatabaseMode, boolean reformat) throws IOException {
+        if (!reformat && !entry.hasChanged()) {
+            write(entry, out, bibDatabaseMode, false);
+            return;
+        }
+
+        int changeCount = entry.getChangeCount();
+        StringWriter serialization = new StringWriter();
+        write(entry, new BibWriter(serialization, out.getNewLineSeparator()), bibDatabaseMode, true);
+        out.write(serialization.toString());
+        out.finishBlock();
+        entry.setParsedSerialization(serialization.toString(), changeCount);
+    }
+
     private void writeUserComments(BibEntry entry, BibWriter out) throws IOException {
         String userComments = entry.getUserComments();
 
@@ -1,16 +1,21 @@
 package org.jabref.logic.bibtex.comparator;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 
 import org.slf4j.Logger;
@@ -66,6 +71,15 @@ public class BibDatabaseDiff {
         return comparator;
     }
 
+    /**
+     * Matches the entries of both databases in three steps:
+     * <ol>
+     *     <li>Entries with exactly the same fields are found using a hash of their content.</li>
+     *     <li>Remaining entries sharing the citation key or an identifier (e.g., DOI) are matched.</li>
+     *     <li>Only the entries left are compared with each other to find the closest match.</li>
+     * </ol>
+     * Thus, comparing two large databases differing in a few entries only compares these few entries pairwise.
+     */
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries, BibDatabaseMode mode) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
@@ -74,64 +88,186 @@ public class BibDatabaseDiff {
             return differences;
         }
 
-        // Create a HashSet where we can put references to entries in the new
-        // database that we have matched. This is to avoid matching them twice.
-        Set<Integer> matchedEntries = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
+        // Keep track of the entries in the new database that we have matched. This is to avoid matching them twice.
+        boolean[] matchedEntries = new boolean[newEntries.size()];
 
-        // Loop through the entries of the original database, looking for exact matches in the new one.
-        // We must finish scanning for exact matches before looking for near matches, to avoid an exact
+        // Look for exact matches first. We must finish scanning for exact matches before looking for near matches, to avoid an exact
         // match being "stolen" from another entry.
+        List<BibEntry> notMatched = findExactMatches(originalEntries, newEntries, matchedEntries);
+
+        // Now look through the remaining entries for entries with the same citation key or identifier
+        Map<String, List<Integer>> newEntriesByIdentifier = new HashMap<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            if (!matchedEntries[i]) {
+                for (String identifier : getIdentifiers(newEntries.get(i))) {
+                    newEntriesByIdentifier.computeIfAbsent(identifier, _ -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+        Map<BibEntry, BibEntry> identifierMatches = new IdentityHashMap<>();
+        List<BibEntry> notIdentified = new ArrayList<>();
+        for (BibEntry originalEntry : notMatched) {
+            Optional<Integer> match = getIdentifiers(originalEntry).stream()
+                                                                  .map(identifier -> newEntriesByIdentifier.getOrDefault(identifier, List.of()))
+                                                                  .flatMap(List::stream)
+                                                                  .filter(i -> !matchedEntries[i])
+                                                                  .findFirst();
+            match.ifPresentOrElse(i -> {
+                matchedEntries[i] = true;
+                identifierMatches.put(originalEntry, newEntries.get(i));
+            }, () -> notIdentified.add(originalEntry));
+        }
+
+        // Finally, look for close matches among the remaining entries
+        Map<BibEntry, BibEntry> closeMatches = findCloseMatches(notIdentified, newEntries, matchedEntries, mode);
+
+        for (BibEntry originalEntry : notMatched) {
+            BibEntry newEntry = identifierMatches.get(originalEntry);
+            if (newEntry == null) {
+                newEntry = closeMatches.get(originalEntry);
+            }
+            differences.add(new BibEntryDiff(originalEntry, newEntry));
+        }
+
+        // Look if there are still untouched entries in the new database. These may have been added.
+        for (int i = 0; i < newEntries.size(); i++) {
+            if (!matchedEntries[i]) {
+                differences.add(new BibEntryDiff(null, newEntries.get(i)));
+            }
+        }
+
+        return differences;
+    }
+
+    /**
+     * Marks the new entries having exactly the same fields as an original entry as matched. Each original entry is matched with the first
+     * unmatched new entry having the same content.
+     *
+     * @return the original entries without exact match
+     */
+    private static List<BibEntry> findExactMatches(List<BibEntry> originalEntries, List<BibEntry> newEntries, boolean[] matchedEntries) {
+        int[] newContentHashes = newEntries.parallelStream().mapToInt(BibDatabaseDiff::getContentHash).toArray();
+        int[] originalContentHashes = originalEntries.parallelStream().mapToInt(BibDatabaseDiff::getContentHash).toArray();
+
+        Map<Integer, List<Integer>> newEntriesByContentHash = new HashMap<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            newEntriesByContentHash.computeIfAbsent(newContentHashes[i], _ -> new ArrayList<>()).add(i);
+        }
+
+        List<BibEntry> notMatched = new ArrayList<>();
         mainLoop:
-        for (BibEntry originalEntry : originalEntries) {
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        matchedEntries.add(i);
-                        continue mainLoop;
-                    }
+        for (int j = 0; j < originalEntries.size(); j++) {
+            BibEntry originalEntry = originalEntries.get(j);
+            for (int i : newEntriesByContentHash.getOrDefault(originalContentHashes[j], List.of())) {
+                // The hash may collide, thus the entries are compared completely
+                if (!matchedEntries[i] && (DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i)) > 1)) {
+                    matchedEntries[i] = true;
+                    continue mainLoop;
                 }
             }
 
             // No? Add this entry to the list of non-matched entries.
             notMatched.add(originalEntry);
         }
+        return notMatched;
+    }
+
+    /**
+     * Finds the closest unmatched new entry for each of the given original entries. The best candidates are searched in parallel.
+     * If the candidate of an entry is taken by a preceding entry, the search is repeated for this entry.
+     *
+     * @return the matched new entry for each original entry having a close match
+     */
+    private static Map<BibEntry, BibEntry> findCloseMatches(List<BibEntry> originalEntries, List<BibEntry> newEntries, boolean[] matchedEntries, BibDatabaseMode mode) {
+        Map<BibEntry, BibEntry> matches = new IdentityHashMap<>();
+        List<Integer> candidates = IntStream.range(0, newEntries.size()).filter(i -> !matchedEntries[i]).boxed().toList();
+        if (originalEntries.isEmpty() || candidates.isEmpty()) {
+            return matches;
+        }
+
+        List<ScoredMatch> bestMatches = originalEntries.parallelStream()
+                                                       .map(originalEntry -> findBestMatch(originalEntry, newEntries, candidates, matchedEntries))
+                                                       .toList();
 
-        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
         DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
-        for (BibEntry originalEntry : notMatched) {
-            // These two variables will keep track of which entry most closely matches the one we're looking at.
-            double bestMatch = 0;
-            int bestMatchIndex = 0;
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > bestMatch) {
-                        bestMatch = score;
-                        bestMatchIndex = i;
-                    }
+        for (int j = 0; j < originalEntries.size(); j++) {
+            BibEntry originalEntry = originalEntries.get(j);
+            ScoredMatch bestMatch = bestMatches.get(j);
+            if (matchedEntries[bestMatch.index()]) {
+                bestMatch = findBestMatch(originalEntry, newEntries, candidates, matchedEntries);
+                if (bestMatch == null) {
+                    continue;
                 }
             }
-            BibEntry bestEntry = newEntries.get(bestMatchIndex);
-            if (bestMatch > MATCH_THRESHOLD
+
+            BibEntry bestEntry = newEntries.get(bestMatch.index());
+            if (bestMatch.score() > MATCH_THRESHOLD
                     || hasEqualCitationKey(originalEntry, bestEntry)
                     || duplicateCheck.isDuplicate(originalEntry, bestEntry, mode)) {
-                matchedEntries.add(bestMatchIndex);
-                differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
-            } else {
-                differences.add(new BibEntryDiff(originalEntry, null));
+                matchedEntries[bestMatch.index()] = true;
+                matches.put(originalEntry, bestEntry);
             }
         }
+        return matches;
+    }
 
-        // Finally, look if there are still untouched entries in the new database. These may have been added.
-        for (int i = 0; i < newEntries.size(); i++) {
-            if (!matchedEntries.contains(i)) {
-                differences.add(new BibEntryDiff(null, newEntries.get(i)));
+    /**
+     * @return the unmatched candidate with the highest score or the first unmatched candidate if no candidate has a positive score.
+     *         {@code null} if all candidates are matched.
+     */
+    private static ScoredMatch findBestMatch(BibEntry originalEntry, List<BibEntry> newEntries, List<Integer> candidates, boolean[] matchedEntries) {
+        ScoredMatch bestMatch = null;
+        for (int i : candidates) {
+            if (!matchedEntries[i]) {
+                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
+                if ((bestMatch == null) || (score > bestMatch.score())) {
+                    bestMatch = new ScoredMatch(i, score);
+                }
             }
         }
+        return bestMatch;
+    }
 
-        return differences;
+    /**
+     * Computes a hash of all fields of the entry, which is equal for entries being equal according to
+     * {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)}. Hence, line breaks are unified.
+     */
+    private static int getContentHash(BibEntry entry) {
+        int hash = 0;
+        for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+            // The sum is independent of the order of the fields
+            hash += (31 * field.getKey().hashCode()) ^ getHashWithUnifiedLineBreaks(field.getValue());
+        }
+        return hash;
+    }
+
+    private static int getHashWithUnifiedLineBreaks(String value) {
+        int hash = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == '\r') {
+                if (((i + 1) < value.length()) && (value.charAt(i + 1) == '\n')) {
+                    i++;
+                }
+                character = '\n';
+            }
+            hash = (31 * hash) + character;
+        }
+        return hash;
+    }
+
+    /**
+     * @return the citation key and the identifiers of the entry, prefixed by their field name
+     */
+    private static List<String> getIdentifiers(BibEntry entry) {
+        List<String> identifiers = new ArrayList<>();
+        entry.getCitationKey().ifPresent(key -> identifiers.add(InternalField.KEY_FIELD.getName() + ":" + key));
+        for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+            if (field.getKey().getProperties().contains(FieldProperty.IDENTIFIER)) {
+                identifiers.add(field.getKey().getName() + ":" + field.getValue());
+            }
+        }
+        return identifiers;
     }
 
     private static boolean hasEqualCitationKey(BibEntry oneEntry, BibEntry twoEntry) {
@@ -157,4 +293,7 @@ public class BibDatabaseDiff {
     public List<BibEntryDiff> getEntryDifferences() {
         return entryDiffs;
     }
+
+    private record ScoredMatch(int index, double score) {
+    }
 }
@@ -29,6 +29,7 @@ import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.KeywordList;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
@@ -229,31 +230,72 @@ public class BracketedPattern {
      * @return The expanded pattern. Not null.
      */
     public static String expandBrackets(String pattern, Function<String, String> bracketContentHandler) {
+        return compile(pattern).expand(bracketContentHandler);
+    }
+
+    /**
+     * Splits a pattern into literal text and the contents of the bracketed expressions, so that the pattern can be
+     * expanded many times without parsing it again.
+     *
+     * @param pattern The pattern to compile
+     * @return The compiled pattern, expanding to the same as {@link #expandBrackets(String, Function)}
+     */
+    static CompiledPattern compile(String pattern) {
         Objects.requireNonNull(pattern);
-        StringBuilder expandedPattern = new StringBuilder();
+        List<CompiledPattern.Part> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
         pattern = pattern.replace("\\\"", "\u0A17");
         StringTokenizer parsedPattern = new StringTokenizer(pattern, "\\[]\"", true);
 
         while (parsedPattern.hasMoreTokens()) {
             String token = parsedPattern.nextToken();
             switch (token) {
-                case "\"" -> appendQuote(expandedPattern, parsedPattern);
+                case "\"" -> appendQuote(literal, parsedPattern);
                 case "[" -> {
                     String fieldMarker = contentBetweenBrackets(parsedPattern, pattern);
-                    expandedPattern.append(bracketContentHandler.apply(fieldMarker));
+                    if (!literal.isEmpty()) {
+                        parts.add(new CompiledPattern.Part(literal.toString(), false));
+                        literal.setLength(0);
+                    }
+                    parts.add(new CompiledPattern.Part(fieldMarker, true));
                 }
                 case "\\" -> {
                     if (parsedPattern.hasMoreTokens()) {
-                        expandedPattern.append(parsedPattern.nextToken());
+                        literal.append(parsedPattern.nextToken());
                     } else {
                         LOGGER.warn("Found a \"\\\" that is not part of an escape sequence");
                     }
                 }
-                default -> expandedPattern.append(token);
+                default -> literal.append(token);
             }
         }
+        if (!literal.isEmpty()) {
+            parts.add(new CompiledPattern.Part(literal.toString(), false));
+        }
 
-        return expandedPattern.toString().replace("\u0A17", "\\\"");
+        return new CompiledPattern(List.copyOf(parts));
+    }
+
+    /**
+     * A pattern split into literal text and the contents of bracketed expressions by {@link #compile(String)}.
+     */
+    record CompiledPattern(List<Part> parts) {
+
+        record Part(String text, boolean isFieldMarker) {
+        }
+
+        /**
+         * @param bracketContentHandler A function taking the string representation of the content of a bracketed
+         *                              pattern and expanding it
+         * @return The expanded pattern. Not null.
+         */
+        String expand(Function<String, String> bracketContentHandler) {
+            StringBuilder expandedPattern = new StringBuilder();
+            for (Part part : parts) {
+                expandedPattern.append(part.isFieldMarker() ? bracketContentHandler.apply(part.text()) : part.text());
+            }
+            return expandedPattern.toString().replace("\u0A17", "\\\"");
+        }
     }
 
     /**
@@ -327,144 +369,80 @@ public class BracketedPattern {
      * @return String containing the evaluation result. Empty string if the pattern cannot be resolved.
      */
     public static String getFieldValue(BibEntry entry, String pattern, Character keywordDelimiter, BibDatabase database) {
-        try {
-            if (pattern.startsWith("auth") || pattern.startsWith("pureauth")) {
-                // result the author
-                String unparsedAuthors = entry.getResolvedFieldOrAlias(StandardField.AUTHOR, database).orElse("");
-
-                if (pattern.startsWith("pure")) {
-                    // "pure" is used in the context of authors to resolve to authors only and not fallback to editors
-                    // The other functionality of the pattern "ForeIni", ... is the same
-                    // Thus, remove the "pure" prefix so the remaining code in this section functions correctly
-                    //
-                    pattern = pattern.substring(4);
-                } else if (unparsedAuthors.isEmpty()) {
-                    // special feature: A pattern starting with "auth" falls back to the editor
-                    unparsedAuthors = entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse("");
-                }
+        return compileFieldValue(pattern).getFieldValue(entry, keywordDelimiter, database);
+    }
 
-                AuthorList authorList = createAuthorList(unparsedAuthors);
-
-                // Gather all author-related checks, so we don't
-                // have to check all the time.
-                switch (pattern) {
-                    case "auth":
-                        return firstAuthor(authorList);
-                    case "authForeIni":
-                        return firstAuthorForenameInitials(authorList);
-                    case "authFirstFull":
-                        return firstAuthorVonAndLast(authorList);
-                    case "authors":
-                        return allAuthors(authorList);
-                    case "authorsAlpha":
-                        return authorsAlpha(authorList);
-                    case "authorsAlphaLNI":
-                        return authorsAlphaLNI(authorList);
-                    case "authorLast":
-                        return lastAuthor(authorList);
-                    case "authorLastForeIni":
-                        return lastAuthorForenameInitials(authorList);
-                    case "authorIni":
-                        return oneAuthorPlusInitials(authorList);
-                    case "auth.auth.ea":
-                        return authAuthEa(authorList);
-                    case "auth.etal":
-                        return authEtal(authorList, ".", ".etal");
-                    case "authEtAl":
-                        return authEtal(authorList, "", "EtAl");
-                    case "authshort":
-                        return authShort(authorList);
-                }
+    /**
+     * Evaluates a pattern (such as auth, pureauth, authorLast) for an entry, see {@link #compileFieldValue(String)}
+     */
+    @FunctionalInterface
+    interface FieldValue {
+        /**
+         * @param entry            The entry to get the field value from
+         * @param keywordDelimiter The keyword delimiter to use
+         * @param database         The database to use for field resolving. May be null.
+         * @return String containing the evaluation result. Empty string if the pattern cannot be resolved.
+         */
+        String getFieldValue(BibEntry entry, Character keywordDelimiter, BibDatabase database);
+    }
 
-                if (pattern.matches("authIni[\\d]+")) {
-                    int num = Integer.parseInt(pattern.substring(7));
-                    return authIniN(authorList, num);
-                } else if (pattern.matches("auth[\\d]+_[\\d]+")) {
-                    String[] nums = pattern.substring(4).split("_");
-                    return authNofMth(authorList, Integer.parseInt(nums[0]),
-                            Integer.parseInt(nums[1]));
-                } else if (pattern.matches("auth\\d+")) {
-                    // authN. First N chars of the first author's last name.
-                    int num = Integer.parseInt(pattern.substring(4));
-                    return authN(authorList, num);
-                } else if (pattern.matches("authors\\d+")) {
-                    return nAuthors(authorList, Integer.parseInt(pattern.substring(7)));
-                } else {
-                    // This "auth" business was a dead end, so just
-                    // use it literally:
-                    return entry.getResolvedFieldOrAlias(FieldFactory.parseField(pattern), database).orElse("");
-                }
-            } else if (pattern.startsWith("ed")) {
-                // Gather all markers starting with "ed" here, so we
-                // don't have to check all the time.
-                String unparsedEditors = entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse("");
-                AuthorList editorList = createAuthorList(unparsedEditors);
-
-                switch (pattern) {
-                    case "edtr":
-                        return firstAuthor(editorList);
-                    case "edtrForeIni":
-                        return firstAuthorForenameInitials(editorList);
-                    case "editors":
-                        return allAuthors(editorList);
-                    case "editorLast":
-                        return lastAuthor(editorList); // Last author's last name
-                    case "editorLastForeIni":
-                        return lastAuthorForenameInitials(editorList);
-                    case "editorIni":
-                        return oneAuthorPlusInitials(editorList);
-                    case "edtr.edtr.ea":
-                        return authAuthEa(editorList);
-                    case "edtrshort":
-                        return authShort(editorList);
-                }
+    /**
+     * Decides once how the given pattern is evaluated, so that it can be evaluated for many entries without
+     * dispatching on the pattern again.
+     *
+     * @param pattern A pattern string (such as auth, pureauth, authorLast)
+     * @return the evaluation of the pattern, returning the same as {@link #getFieldValue(BibEntry, String, Character, BibDatabase)}
+     */
+    static FieldValue compileFieldValue(String pattern) {
+        FieldValue fieldValue;
+        try {
+            fieldValue = compileFieldValueOrThrow(pattern);
+        } catch (NullPointerException ex) {
+            LOGGER.debug("Problem making expanding bracketed expression", ex);
+            return (_, _, _) -> "";
+        }
+        return (entry, keywordDelimiter, database) -> {
+            try {
+                return fieldValue.getFieldValue(entry, keywordDelimiter, database);
+            } catch (NullPointerException ex) {
+                LOGGER.debug("Problem making expanding bracketed expression", ex);
+                return "";
+            }
+        };
+    }
 
-                if (pattern.matches("edtrIni[\\d]+")) {
-                    int num = Integer.parseInt(pattern.substring(7));
-                    return authIniN(editorList, num);
-                } else if (pattern.matches("edtr[\\d]+_[\\d]+")) {
-                    String[] nums = pattern.substring(4).split("_");
-                    return authNofMth(editorList,
-                            Integer.parseInt(nums[0]),
-                            Integer.parseInt(nums[1]));
-                } else if (pattern.matches("edtr\\d+")) {
-                    String fa = firstAuthor(editorList);
-                    int num = Integer.parseInt(pattern.substring(4));
-                    if (num > fa.length()) {
-                        num = fa.length();
-                    }
-                    return fa.substring(0, num);
-                } else {
-                    // This "ed" business was a dead end, so just
-                    // use it literally:
-                    return entry.getResolvedFieldOrAlias(FieldFactory.parseField(pattern), database).orElse("");
-                }
-            } else if ("firstpage".equals(pattern)) {
-                return firstPage(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
-            } else if ("pageprefix".equals(pattern)) {
-                return pagePrefix(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
-            } else if ("lastpage".equals(pattern)) {
-                return lastPage(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
-            } else if ("title".equals(pattern)) {
-                return camelizeSignificantWordsInTitle(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""));
-            } else if ("fulltitle".equals(pattern)) {
-                return entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("");
-            } else if ("shorttitle".equals(pattern)) {
-                return getTitleWords(3,
-                        removeSmallWords(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")));
-            } else if ("shorttitleINI".equals(pattern)) {
-                return keepLettersAndDigitsOnly(
-                        applyModifiers(getTitleWordsWithSpaces(3, entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")),
-                                List.of("abbr"), 0, Function.identity()));
-            } else if ("veryshorttitle".equals(pattern)) {
-                return getTitleWords(1,
-                        removeSmallWords(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")));
-            } else if (pattern.matches("camel[\\d]+")) {
-                int num = Integer.parseInt(pattern.substring(5));
-                return getCamelizedTitle_N(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""), num);
-            } else if ("camel".equals(pattern)) {
-                return getCamelizedTitle(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""));
-            } else if ("shortyear".equals(pattern)) {
+    private static FieldValue compileFieldValueOrThrow(String pattern) {
+        if (pattern.startsWith("auth") || pattern.startsWith("pureauth")) {
+            return compileAuthorValue(pattern);
+        } else if (pattern.startsWith("ed")) {
+            return compileEditorValue(pattern);
+        } else if ("firstpage".equals(pattern)) {
+            return (entry, _, database) -> firstPage(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
+        } else if ("pageprefix".equals(pattern)) {
+            return (entry, _, database) -> pagePrefix(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
+        } else if ("lastpage".equals(pattern)) {
+            return (entry, _, database) -> lastPage(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
+        } else if ("title".equals(pattern)) {
+            return (entry, _, database) -> camelizeSignificantWordsInTitle(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""));
+        } else if ("fulltitle".equals(pattern)) {
+            return (entry, _, database) -> entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("");
+        } else if ("shorttitle".equals(pattern)) {
+            return (entry, _, database) -> getTitleWords(3,
+                    removeSmallWords(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")));
+        } else if ("shorttitleINI".equals(pattern)) {
+            return (entry, _, database) -> keepLettersAndDigitsOnly(
+                    applyModifiers(getTitleWordsWithSpaces(3, entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")),
+                            List.of("abbr"), 0, Function.identity()));
+        } else if ("veryshorttitle".equals(pattern)) {
+            return (entry, _, database) -> getTitleWords(1,
+                    removeSmallWords(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")));
+        } else if (pattern.matches("camel[\\d]+")) {
+            int num = Integer.parseInt(pattern.substring(5));
+            return (entry, _, database) -> getCamelizedTitle_N(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""), num);
+        } else if ("camel".equals(pattern)) {
+            return (entry, _, database) -> getCamelizedTitle(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""));
+        } else if ("shortyear".equals(pattern)) {
+            return (entry, _, database) -> {
                 String yearString = entry.getResolvedFieldOrAlias(StandardField.YEAR, database).orElse("");
                 if (yearString.isEmpty()) {
                     return yearString;
@@ -476,11 +454,13 @@ public class BracketedPattern {
                 } else {
                     return yearString;
                 }
-            } else if ("entrytype".equals(pattern)) {
-                return entry.getResolvedFieldOrAlias(InternalField.TYPE_HEADER, database).orElse("");
-            } else if (pattern.matches("keyword\\d+")) {
-                // according to LabelPattern.php, it returns keyword number n
-                int num = Integer.parseInt(pattern.substring(7));
+            };
+        } else if ("entrytype".equals(pattern)) {
+            return (entry, _, database) -> entry.getResolvedFieldOrAlias(InternalField.TYPE_HEADER, database).orElse("");
+        } else if (pattern.matches("keyword\\d+")) {
+            // according to LabelPattern.php, it returns keyword number n
+            int num = Integer.parseInt(pattern.substring(7));
+            return (entry, keywordDelimiter, database) -> {
                 KeywordList separatedKeywords = entry.getResolvedKeywords(keywordDelimiter, database);
                 if (separatedKeywords.size() < num) {
                     // not enough keywords
@@ -489,14 +469,16 @@ public class BracketedPattern {
                     // num counts from 1 to n, but index in arrayList count from 0 to n-1
                     return separatedKeywords.get(num - 1).toString();
                 }
-            } else if (pattern.matches("keywords\\d*")) {
-                // return all keywords, not separated
-                int num;
-                if (pattern.length() > 8) {
-                    num = Integer.parseInt(pattern.substring(8));
-                } else {
-                    num = Integer.MAX_VALUE;
-                }
+            };
+        } else if (pattern.matches("keywords\\d*")) {
+            // return all keywords, not separated
+            int num;
+            if (pattern.length() > 8) {
+                num = Integer.parseInt(pattern.substring(8));
+            } else {
+                num = Integer.MAX_VALUE;
+            }
+            return (entry, keywordDelimiter, database) -> {
                 KeywordList separatedKeywords = entry.getResolvedKeywords(keywordDelimiter, database);
                 StringBuilder sb = new StringBuilder();
                 int i = 0;
@@ -510,14 +492,121 @@ public class BracketedPattern {
                     }
                 }
                 return sb.toString();
+            };
+        } else {
+            // we haven't seen any special demands
+            return compileLiteralFieldValue(pattern);
+        }
+    }
+
+    private static FieldValue compileAuthorValue(String pattern) {
+        // "pure" is used in the context of authors to resolve to authors only and not fallback to editors
+        // The other functionality of the pattern "ForeIni", ... is the same
+        // Thus, remove the "pure" prefix so the remaining code in this section functions correctly
+        boolean pure = pattern.startsWith("pure");
+        String authorPattern = pure ? pattern.substring(4) : pattern;
+
+        // Gather all author-related checks, so we don't
+        // have to check all the time.
+        Function<AuthorList, String> authorFormatter = switch (authorPattern) {
+            case "auth" -> BracketedPattern::firstAuthor;
+            case "authForeIni" -> BracketedPattern::firstAuthorForenameInitials;
+            case "authFirstFull" -> BracketedPattern::firstAuthorVonAndLast;
+            case "authors" -> BracketedPattern::allAuthors;
+            case "authorsAlpha" -> BracketedPattern::authorsAlpha;
+            case "authorsAlphaLNI" -> BracketedPattern::authorsAlphaLNI;
+            case "authorLast" -> BracketedPattern::lastAuthor;
+            case "authorLastForeIni" -> BracketedPattern::lastAuthorForenameInitials;
+            case "authorIni" -> BracketedPattern::oneAuthorPlusInitials;
+            case "auth.auth.ea" -> BracketedPattern::authAuthEa;
+            case "auth.etal" -> authorList -> authEtal(authorList, ".", ".etal");
+            case "authEtAl" -> authorList -> authEtal(authorList, "", "EtAl");
+            case "authshort" -> BracketedPattern::authShort;
+            default -> null;
+        };
+
+        if (authorFormatter == null) {
+            if (authorPattern.matches("authIni[\\d]+")) {
+                int num = Integer.parseInt(authorPattern.substring(7));
+                authorFormatter = authorList -> authIniN(authorList, num);
+            } else if (authorPattern.matches("auth[\\d]+_[\\d]+")) {
+                String[] nums = authorPattern.substring(4).split("_");
+                int n = Integer.parseInt(nums[0]);
+                int m = Integer.parseInt(nums[1]);
+                authorFormatter = authorList -> authNofMth(authorList, n, m);
+            } else if (authorPattern.matches("auth\\d+")) {
+                // authN. First N chars of the first author's last name.
+                int num = Integer.parseInt(authorPattern.substring(4));
+                authorFormatter = authorList -> authN(authorList, num);
+            } else if (authorPattern.matches("authors\\d+")) {
+                int num = Integer.parseInt(authorPattern.substring(7));
+                authorFormatter = authorList -> nAuthors(authorList, num);
             } else {
-                // we haven't seen any special demands
-                return entry.getResolvedFieldOrAlias(FieldFactory.parseField(pattern), database).orElse("");
+                // This "auth" business was a dead end, so just
+                // use it literally:
+                return compileLiteralFieldValue(authorPattern);
+            }
+        }
+
+        Function<AuthorList, String> formatter = authorFormatter;
+        return (entry, _, database) -> {
+            String unparsedAuthors = entry.getResolvedFieldOrAlias(StandardField.AUTHOR, database).orElse("");
+            if (!pure && unparsedAuthors.isEmpty()) {
+                // special feature: A pattern starting with "auth" falls back to the editor
+                unparsedAuthors = entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse("");
+            }
+            return formatter.apply(createAuthorList(unparsedAuthors));
+        };
+    }
+
+    private static FieldValue compileEditorValue(String pattern) {
+        // Gather all markers starting with "ed" here, so we
+        // don't have to check all the time.
+        Function<AuthorList, String> editorFormatter = switch (pattern) {
+            case "edtr" -> BracketedPattern::firstAuthor;
+            case "edtrForeIni" -> BracketedPattern::firstAuthorForenameInitials;
+            case "editors" -> BracketedPattern::allAuthors;
+            // Last author's last name
+            case "editorLast" -> BracketedPattern::lastAuthor;
+            case "editorLastForeIni" -> BracketedPattern::lastAuthorForenameInitials;
+            case "editorIni" -> BracketedPattern::oneAuthorPlusInitials;
+            case "edtr.edtr.ea" -> BracketedPattern::authAuthEa;
+            case "edtrshort" -> BracketedPattern::authShort;
+            default -> null;
+        };
+
+        if (editorFormatter == null) {
+            if (pattern.matches("edtrIni[\\d]+")) {
+                int num = Integer.parseInt(pattern.substring(7));
+                editorFormatter = editorList -> authIniN(editorList, num);
+            } else if (pattern.matches("edtr[\\d]+_[\\d]+")) {
+                String[] nums = pattern.substring(4).split("_");
+                int n = Integer.parseInt(nums[0]);
+                int m = Integer.parseInt(nums[1]);
+                editorFormatter = editorList -> authNofMth(editorList, n, m);
+            } else if (pattern.matches("edtr\\d+")) {
+                int num = Integer.parseInt(pattern.substring(4));
+                editorFormatter = editorList -> {
+                    String fa = firstAuthor(editorList);
+                    return fa.substring(0, Math.min(num, fa.length()));
+                };
+            } else {
+                // This "ed" business was a dead end, so just
+                // use it literally:
+                return compileLiteralFieldValue(pattern);
             }
-        } catch (NullPointerException ex) {
-            LOGGER.debug("Problem making expanding bracketed expression", ex);
-            return "";
         }
+
+        Function<AuthorList, String> formatter = editorFormatter;
+        return (entry, _, database) -> {
+            String unparsedEditors = entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse("");
+            return formatter.apply(createAuthorList(unparsedEditors));
+        };
+    }
+
+    private static FieldValue compileLiteralFieldValue(String pattern) {
+        Field field = FieldFactory.parseField(pattern);
+        return (entry, _, database) -> entry.getResolvedFieldOrAlias(field, database).orElse("");
     }
 
     /**
@@ -1,16 +1,21 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.strings.StringUtil;
 
@@ -45,6 +50,17 @@ public class CitationKeyGenerator extends BracketedPattern {
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
     private final String unwantedCharacters;
 
+    // Patterns and field markers are parsed once and then evaluated for each entry
+    private final Map<String, CompiledPattern> compiledPatterns = new ConcurrentHashMap<>();
+    private final Map<String, CompiledFieldMarker> compiledFieldMarkers = new ConcurrentHashMap<>();
+
+    private record CompiledFieldMarker(FieldValue fieldValue, List<String> fieldAndModifiers) {
+        static CompiledFieldMarker compile(String bracket) {
+            List<String> fieldParts = parseFieldAndModifiers(bracket);
+            return new CompiledFieldMarker(compileFieldValue(fieldParts.getFirst()), fieldParts);
+        }
+    }
+
     public CitationKeyGenerator(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences) {
         this(bibDatabaseContext.getMetaData().getCiteKeyPatterns(citationKeyPatternPreferences.getKeyPatterns()),
                 bibDatabaseContext.getDatabase(),
@@ -103,11 +119,15 @@ public class CitationKeyGenerator extends BracketedPattern {
     public String generateKey(BibEntry entry) {
         Objects.requireNonNull(entry);
         String currentKey = entry.getCitationKey().orElse(null);
+        return makeUnique(expandPattern(entry), currentKey);
+    }
+
+    private String expandPattern(BibEntry entry) {
+        return replaceWithRegex(createCitationKeyFromPattern(entry));
+    }
 
-        String newKey = createCitationKeyFromPattern(entry);
-        newKey = replaceWithRegex(newKey);
-        newKey = appendLettersToKey(newKey, currentKey);
-        return cleanKey(newKey, unwantedCharacters);
+    private String makeUnique(String expandedKey, String currentKey) {
+        return cleanKey(appendLettersToKey(expandedKey, currentKey), unwantedCharacters);
     }
 
     /**
@@ -178,7 +198,8 @@ public class CitationKeyGenerator extends BracketedPattern {
         if (citationKeyPattern == null || CitationKeyPattern.NULL_CITATION_KEY_PATTERN.equals(citationKeyPattern)) {
             return "";
         }
-        return expandBrackets(citationKeyPattern.stringRepresentation(), expandBracketContent(entry));
+        return compiledPatterns.computeIfAbsent(citationKeyPattern.stringRepresentation(), BracketedPattern::compile)
+                               .expand(expandBracketContent(entry));
     }
 
     /**
@@ -191,10 +212,10 @@ public class CitationKeyGenerator extends BracketedPattern {
         Character keywordDelimiter = citationKeyPatternPreferences.getKeywordDelimiter();
 
         return (String bracket) -> {
-            String expandedPattern;
-            List<String> fieldParts = parseFieldAndModifiers(bracket);
+            CompiledFieldMarker fieldMarker = compiledFieldMarkers.computeIfAbsent(bracket, CompiledFieldMarker::compile);
+            List<String> fieldParts = fieldMarker.fieldAndModifiers();
 
-            expandedPattern = removeUnwantedCharacters(getFieldValue(entry, fieldParts.getFirst(), keywordDelimiter, database), unwantedCharacters);
+            String expandedPattern = removeUnwantedCharacters(fieldMarker.fieldValue().getFieldValue(entry, keywordDelimiter, database), unwantedCharacters);
             // check whether there is a modifier on the end such as
             // ":lower":
             if (fieldParts.size() > 1) {
@@ -215,4 +236,42 @@ public class CitationKeyGenerator extends BracketedPattern {
         String newKey = generateKey(entry);
         return entry.setCitationKey(newKey);
     }
+
+    /**
+     * Generates citation keys for the given entries and sets them. The keys are the same as when calling
+     * {@link #generateAndSetKey(BibEntry)} for one entry after another.
+     * <p>
+     * The patterns are expanded in parallel. Afterward, the keys are made unique and set in the order of the given
+     * entries. Entries linking to other entries (e.g., by crossref) are expanded in that order as well, because their
+     * fields change when the key of a linked entry changes.
+     *
+     * @param entries          the entries to generate the keys for
+     * @param progressListener notified with the number of entries whose key has been set
+     * @return the changes to the keys
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries, IntConsumer progressListener) {
+        List<Optional<String>> expandedKeys = entries.parallelStream()
+                                                     .map(entry -> hasEntryLinks(entry) ? Optional.<String>empty() : Optional.of(expandPattern(entry)))
+                                                     .toList();
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            String expandedKey = expandedKeys.get(i).orElseGet(() -> expandPattern(entry));
+            entry.setCitationKey(makeUnique(expandedKey, entry.getCitationKey().orElse(null)))
+                 .ifPresent(changes::add);
+            progressListener.accept(i + 1);
+        }
+        return changes;
+    }
+
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        return generateAndSetKeys(entries, _ -> {
+        });
+    }
+
+    private static boolean hasEntryLinks(BibEntry entry) {
+        return entry.getFields().stream().anyMatch(field -> field.getProperties().contains(FieldProperty.SINGLE_ENTRY_LINK)
+                || field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK));
+    }
 }
@@ -0,0 +1,218 @@
+package org.jabref.logic.database;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Finds the duplicates in a list of entries without comparing all pairs of entries.
+ * <p>
+ * Each entry gets a set of blocking keys:
+ * <ul>
+ *     <li>its identifiers (DOI, eprint, PMID) and its ISBN,</li>
+ *     <li>the bands of a MinHash signature of the character trigrams of its normalized title, and</li>
+ *     <li>the family name of its first author (or editor) together with its year.</li>
+ * </ul>
+ * Only entries sharing a key are compared using {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}.
+ * Entries sharing an identifier are always compared. Duplicates having neither a similar title nor the same first author and year may be missed.
+ */
+public class DuplicateFinder {
+
+    private static final int TITLE_BANDS = 16;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int SHINGLE_LENGTH = 3;
+
+    // Blocks of titles or author-year keys shared by more entries are too unspecific to be compared pairwise
+    private static final int MAX_BLOCK_SIZE = 200;
+
+    // A blocking key is stored together with the index of its entry in a long: the sign bit marks identifiers,
+    // the following bits store the hash of the key, the lowest bits store the index of the entry
+    private static final int INDEX_BITS = 24;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final long KEY_MASK = (1L << (Long.SIZE - 1 - INDEX_BITS)) - 1;
+
+    private static final long AUTHOR_YEAR_SEED = 0x5bd1e995L;
+    private static final long ISBN_SEED = 0x27d4eb2fL;
+    private static final long[] MIN_HASH_SEEDS = new Random(42).longs(TITLE_BANDS * ROWS_PER_BAND).toArray();
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final DuplicateCheck duplicateCheck;
+
+    public DuplicateFinder(BibEntryTypesManager entryTypesManager) {
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+    }
+
+    public List<List<BibEntry>> findDuplicates(List<BibEntry> entries, BibDatabaseMode bibDatabaseMode) {
+        return candidatePairs(entries, bibDatabaseMode).toList();
+    }
+
+    /**
+     * Passes each pair of duplicates to the given consumer, ordered by the position of the entries in the given list.
+     * The candidate pairs are checked in parallel. The search stops as soon as the calling thread is interrupted.
+     */
+    public void findDuplicates(List<BibEntry> entries, BibDatabaseMode bibDatabaseMode, Consumer<List<BibEntry>> duplicateConsumer) {
+        Thread caller = Thread.currentThread();
+        candidatePairs(entries, bibDatabaseMode)
+                .takeWhile(pair -> !caller.isInterrupted())
+                .forEachOrdered(duplicateConsumer);
+    }
+
+    private Stream<List<BibEntry>> candidatePairs(List<BibEntry> entries, BibDatabaseMode bibDatabaseMode) {
+        return LongStream.of(findCandidatePairs(entries))
+                         .parallel()
+                         .mapToObj(pair -> List.of(entries.get((int) (pair >>> Integer.SIZE)), entries.get((int) pair)))
+                         .filter(pair -> duplicateCheck.isDuplicate(pair.getFirst(), pair.getLast(), bibDatabaseMode));
+    }
+
+    /**
+     * @return the pairs of indices of entries sharing a blocking key, sorted and without duplicates.
+     *         The index of the first entry is stored in the upper half of the long, the index of the second (larger) one in the lower half.
+     */
+    static long[] findCandidatePairs(List<BibEntry> entries) {
+        if (entries.size() > INDEX_MASK) {
+            throw new IllegalArgumentException("Too many entries for duplicate search: " + entries.size());
+        }
+
+        long[] keys = IntStream.range(0, entries.size())
+                               .parallel()
+                               .mapToObj(index -> getBlockingKeys(entries.get(index), index))
+                               .flatMapToLong(LongStream::of)
+                               .sorted()
+                               .toArray();
+
+        LongStream.Builder pairs = LongStream.builder();
+        int blockStart = 0;
+        for (int i = 1; i <= keys.length; i++) {
+            if ((i == keys.length) || ((keys[i] >>> INDEX_BITS) != (keys[blockStart] >>> INDEX_BITS))) {
+                addPairsOfBlock(keys, blockStart, i, pairs);
+                blockStart = i;
+            }
+        }
+        return pairs.build().sorted().distinct().toArray();
+    }
+
+    private static void addPairsOfBlock(long[] keys, int start, int end, LongStream.Builder pairs) {
+        boolean isIdentifier = keys[start] < 0;
+        if (!isIdentifier && ((end - start) > MAX_BLOCK_SIZE)) {
+            return;
+        }
+        // The keys of a block are sorted by the index of their entry
+        for (int first = start; first < end; first++) {
+            long firstIndex = keys[first] & INDEX_MASK;
+            for (int second = first + 1; second < end; second++) {
+                long secondIndex = keys[second] & INDEX_MASK;
+                if (firstIndex != secondIndex) {
+                    pairs.add((firstIndex << Integer.SIZE) | secondIndex);
+                }
+            }
+        }
+    }
+
+    private static long[] getBlockingKeys(BibEntry entry, int index) {
+        LongStream.Builder keys = LongStream.builder();
+
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(value -> keys.add(pack(true, hash(hash(0, field.getName()), value), index)));
+            }
+        }
+        entry.getISBN().ifPresent(isbn -> keys.add(pack(true, hash(ISBN_SEED, isbn.asString().toLowerCase(Locale.ROOT)), index)));
+
+        getNormalizedTitle(entry).ifPresent(title -> {
+            long[] signature = getMinHashSignature(title);
+            for (int band = 0; band < TITLE_BANDS; band++) {
+                long bandHash = band;
+                for (int row = 0; row < ROWS_PER_BAND; row++) {
+                    bandHash = mix(bandHash ^ signature[(band * ROWS_PER_BAND) + row]);
+                }
+                keys.add(pack(false, bandHash, index));
+            }
+        });
+
+        getFirstAuthorFamilyName(entry).ifPresent(familyName ->
+                entry.getFieldOrAlias(StandardField.YEAR).ifPresent(year ->
+                        keys.add(pack(false, hash(hash(AUTHOR_YEAR_SEED, familyName), year.trim()), index))));
+
+        return keys.build().toArray();
+    }
+
+    private static Optional<String> getNormalizedTitle(BibEntry entry) {
+        return entry.getFieldLatexFree(StandardField.TITLE)
+                    .map(title -> NON_WORD_CHARACTERS.matcher(title.toLowerCase(Locale.ROOT)).replaceAll(" ").trim())
+                    .filter(title -> !title.isEmpty());
+    }
+
+    private static Optional<String> getFirstAuthorFamilyName(BibEntry entry) {
+        return entry.getFieldLatexFree(StandardField.AUTHOR)
+                    .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+                    .map(AuthorList::parse)
+                    .filter(authors -> !authors.isEmpty())
+                    .flatMap(authors -> authors.getAuthor(0).getFamilyName())
+                    .map(familyName -> NON_WORD_CHARACTERS.matcher(familyName.toLowerCase(Locale.ROOT)).replaceAll(""))
+                    .filter(familyName -> !familyName.isEmpty());
+    }
+
+    /**
+     * Computes the minimum of each hash function over all character trigrams of the given text.
+     * Two texts agree in a row of the signature with the probability of the Jaccard similarity of their trigram sets.
+     */
+    private static long[] getMinHashSignature(String text) {
+        long[] signature = new long[MIN_HASH_SEEDS.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        int lastShingleStart = Math.max(0, text.length() - SHINGLE_LENGTH);
+        for (int start = 0; start <= lastShingleStart; start++) {
+            long shingleHash = hash(0, text, start, Math.min(text.length(), start + SHINGLE_LENGTH));
+            for (int i = 0; i < MIN_HASH_SEEDS.length; i++) {
+                signature[i] = Math.min(signature[i], mix(shingleHash ^ MIN_HASH_SEEDS[i]));
+            }
+        }
+        return signature;
+    }
+
+    private static long pack(boolean isIdentifier, long keyHash, int index) {
+        return (isIdentifier ? Long.MIN_VALUE : 0) | ((keyHash & KEY_MASK) << INDEX_BITS) | index;
+    }
+
+    private static long hash(long seed, String text) {
+        return hash(seed, text, 0, text.length());
+    }
+
+    /**
+     * FNV-1a hash of the given part of the text
+     */
+    private static long hash(long seed, String text, int start, int end) {
+        long hash = seed ^ 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Finalization step of MurmurHash3, spreads the bits of the given value
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -1,6 +1,8 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -58,6 +60,7 @@ public abstract class BibDatabaseWriter {
     public enum SaveType { WITH_JABREF_META_DATA, PLAIN_BIBTEX }
 
     private static final Pattern REFERENCE_PATTERN = Pattern.compile("(#[A-Za-z]+#)"); // Used to detect string references in strings
+    private static final int PARALLEL_SERIALIZATION_THRESHOLD = 1000; // Smaller libraries are not worth the overhead of parallel serialization
     protected final BibWriter bibWriter;
     protected final SelfContainedSaveConfiguration saveConfiguration;
     protected final CitationKeyPatternPreferences keyPatternPreferences;
@@ -208,10 +211,10 @@ public abstract class BibDatabaseWriter {
                 // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
             }
-
-            writeEntry(entry, bibDatabaseContext.getMode());
         }
 
+        writeEntries(sortedEntries, bibDatabaseContext.getMode());
+
         if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
             // Write meta data.
             writeMetaData(bibDatabaseContext.getMetaData(), keyPatternPreferences.getKeyPatterns());
@@ -224,9 +227,50 @@ public abstract class BibDatabaseWriter {
         writeEpilogue(bibDatabaseContext.getDatabase().getEpilog());
     }
 
+    /**
+     * Writes the entries in the given order.
+     * <p>
+     * For large libraries, the entries are serialized in parallel, each into a separate buffer. The buffers are then written in order,
+     * so that the output is the same as when writing the entries one after another.
+     */
+    private void writeEntries(List<BibEntry> entries, BibDatabaseMode mode) throws IOException {
+        if (entries.size() < PARALLEL_SERIALIZATION_THRESHOLD) {
+            for (BibEntry entry : entries) {
+                writeEntry(entry, bibWriter, mode);
+            }
+            return;
+        }
+
+        List<String> serializedEntries;
+        try {
+            serializedEntries = entries.parallelStream()
+                                       .map(entry -> serializeEntry(entry, mode))
+                                       .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        for (String serializedEntry : serializedEntries) {
+            bibWriter.write(serializedEntry);
+            bibWriter.finishBlock();
+        }
+    }
+
+    private String serializeEntry(BibEntry entry, BibDatabaseMode mode) {
+        StringWriter buffer = new StringWriter();
+        try {
+            writeEntry(entry, new BibWriter(buffer, bibWriter.getNewLineSeparator()), mode);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toString();
+    }
+
     protected abstract void writeProlog(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException;
 
-    protected abstract void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException;
+    /**
+     * Writes the given entry as one block to the given writer. Might be called concurrently for different entries, each with its own writer.
+     */
+    protected abstract void writeEntry(BibEntry entry, BibWriter writer, BibDatabaseMode mode) throws IOException;
 
     protected abstract void writeEpilogue(String epilogue) throws IOException;
 
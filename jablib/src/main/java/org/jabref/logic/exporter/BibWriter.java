@@ -75,4 +75,8 @@ public class BibWriter {
     public int getCurrentPosition() {
         return currentPosition;
     }
+
+    public String getNewLineSeparator() {
+        return newLineSeparator;
+    }
 }
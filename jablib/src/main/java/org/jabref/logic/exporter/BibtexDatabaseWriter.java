@@ -156,8 +156,12 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     }
 
     @Override
-    protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+    protected void writeEntry(BibEntry entry, BibWriter writer, BibDatabaseMode mode) throws IOException {
         BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
-        bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+        if (saveConfiguration.shouldSaveIncrementally()) {
+            bibtexEntryWriter.writeIncrementally(entry, writer, mode, saveConfiguration.shouldReformatFile());
+        } else {
+            bibtexEntryWriter.write(entry, writer, mode, saveConfiguration.shouldReformatFile());
+        }
     }
 }
@@ -11,6 +11,7 @@ public class SaveConfiguration {
     private SaveOrder saveOrder;
     private boolean makeBackup;
     private BibDatabaseWriter.SaveType saveType;
+    private boolean incrementalSave;
 
     public SaveConfiguration(SaveOrder saveOrder,
                              Boolean makeBackup,
@@ -69,4 +70,20 @@ public class SaveConfiguration {
         this.reformatFile = newReformat;
         return this;
     }
+
+    public boolean shouldSaveIncrementally() {
+        return incrementalSave;
+    }
+
+    /**
+     * In an incremental save, the serialization of each written entry is stored as its parsed serialization.
+     * Thus, the next save only serializes the entries changed in between.
+     * Should only be used when the library is written to its own file.
+     *
+     * @param newIncrementalSave whether the save should be incremental
+     */
+    public SaveConfiguration withIncrementalSave(boolean newIncrementalSave) {
+        this.incrementalSave = newIncrementalSave;
+        return this;
+    }
 }
@@ -14,13 +14,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutContext;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
-import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.StandardFileType;
@@ -44,6 +46,7 @@ public class TemplateExporter extends Exporter {
     private static final String FORMATTERS_EXTENSION = ".formatters";
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
+    private static final int ENTRIES_PER_BATCH = 1000;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
@@ -211,26 +214,18 @@ public class TemplateExporter extends Exporter {
         }
 
         try (AtomicFileWriter ps = new AtomicFileWriter(file, encodingToUse)) {
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
             readFormatterFile();
 
             List<String> missingFormatters = new ArrayList<>(1);
 
-            // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
-            }
+            // If no begin file exists, the export filter doesn't have a header
+            Optional<Layout> beginLayout = readLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
             // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            if (beginLayout.isPresent()) {
+                ps.write(beginLayout.get().doLayout(databaseContext, encodingToUse, new LayoutContext(0)));
+                missingFormatters.addAll(beginLayout.get().getMissingFormatters());
             }
 
             /*
@@ -241,10 +236,8 @@ public class TemplateExporter extends Exporter {
 
             // Load default layout
             Layout defLayout;
-            LayoutHelper layoutHelper;
             try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
+                defLayout = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository).getLayoutFromText();
             }
             if (defLayout != null) {
                 missingFormatters.addAll(defLayout.getMissingFormatters());
@@ -252,62 +245,45 @@ public class TemplateExporter extends Exporter {
                     LOGGER.warn("Missing formatters found: {}", missingFormatters);
                 }
             }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
-
-            Number.serialExportNumber = 0;
-            for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
-                EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
-                }
 
-                // Write the entry
+            // All layouts are read before formatting the entries, so that the entries can be formatted concurrently
+            Map<EntryType, Layout> layouts = new HashMap<>();
+            for (EntryType type : sorted.stream().map(BibEntry::getType).distinct().toList()) {
+                // We try to get a type-specific layout for this entry, otherwise we go with the default one.
+                Optional<Layout> typeLayout = readLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
+                typeLayout.ifPresent(layout -> missingFormatters.addAll(layout.getMissingFormatters()));
+                Layout layout = typeLayout.orElse(defLayout);
                 if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
-                    }
+                    layouts.put(type, layout);
                 }
             }
 
-            // Print footer
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
+            if (layouts.values().stream().anyMatch(Layout::containsGroups)) {
+                // A group block is only written if its value differs from the one of the previous entry
+                LayoutContext context = new LayoutContext(0);
+                for (int i = 0; i < sorted.size(); i++) {
+                    context.setEntryNumber(i + 1);
+                    ps.write(formatEntry(sorted.get(i), layouts, databaseContext, context));
+                }
+            } else {
+                // The entries are formatted in parallel batch by batch, each batch is written before the next one is formatted
+                for (int batchStart = 0; batchStart < sorted.size(); batchStart += ENTRIES_PER_BATCH) {
+                    List<String> formattedEntries = IntStream.range(batchStart, Math.min(batchStart + ENTRIES_PER_BATCH, sorted.size()))
+                                                             .parallel()
+                                                             .mapToObj(i -> formatEntry(sorted.get(i), layouts, databaseContext, new LayoutContext(i + 1)))
+                                                             .toList();
+                    for (String formattedEntry : formattedEntries) {
+                        ps.write(formattedEntry);
+                    }
+                }
             }
 
+            // If no end file exists, the export filter doesn't have a footer
+            Optional<Layout> endLayout = readLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
             // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
+            if (endLayout.isPresent()) {
+                ps.write(endLayout.get().doLayout(databaseContext, encodingToUse, new LayoutContext(sorted.size())));
+                missingFormatters.addAll(endLayout.get().getMissingFormatters());
             }
 
             layoutPreferences.clearCustomExportNameFormatters();
@@ -318,6 +294,35 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * @return the layout read from the given file, or an empty optional if the file does not exist
+     */
+    private Optional<Layout> readLayout(String fileName, List<Path> fileDirForDatabase, JournalAbbreviationRepository abbreviationRepository) {
+        try (Reader reader = getReader(fileName)) {
+            return Optional.ofNullable(new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository).getLayoutFromText());
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private String formatEntry(BibEntry entry, Map<EntryType, Layout> layouts, BibDatabaseContext databaseContext, LayoutContext context) {
+        Layout layout = layouts.get(entry.getType());
+        if (layout == null) {
+            return "";
+        }
+        String formattedEntry = layout.doLayout(entry, databaseContext.getDatabase(), context);
+        if (blankLineBehaviour != BlankLineBehaviour.DELETE_BLANKS) {
+            return formattedEntry;
+        }
+        StringBuilder withoutBlankLines = new StringBuilder(formattedEntry.length());
+        for (String line : formattedEntry.split(BLANK_LINE_PATTERN)) {
+            if (!line.isBlank() && !line.isEmpty()) {
+                withoutBlankLines.append(line).append(OS.NEWLINE);
+            }
+        }
+        return withoutBlankLines.toString();
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
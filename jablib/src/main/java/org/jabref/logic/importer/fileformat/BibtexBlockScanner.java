@@ -0,0 +1,105 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/// First pass of [BibtexParser#parseInParallel(String)]: finds positions at which BibTeX content can be split into
+/// chunks, which can be parsed independently of each other.
+///
+/// A position is only chosen if the [BibtexParser] is in the same state there as at the beginning of a file:
+/// directly after the newline ending a regular entry (`@type{...}`), followed by nothing but whitespace and the next `@`.
+/// The text read so far is completely stored in the parsed serialization of the entry at that point.
+/// `@Comment`, `@String` and `@Preamble` blocks are skipped, but never end a chunk.
+///
+/// The scan is conservative: braces are counted regardless of quotes and escaped braces (`\{`, `\}`) are not counted.
+/// As soon as something unexpected is found (e.g., an entry using parentheses), no further positions are returned.
+final class BibtexBlockScanner {
+
+    private static final Set<String> NON_ENTRY_TYPES = Set.of("comment", "string", "preamble");
+
+    private BibtexBlockScanner() {
+    }
+
+    /// @param minimumChunkSize the minimum number of characters between two returned positions
+    /// @return the positions at which a new chunk starts, in ascending order. The start of the content is not included.
+    static List<Integer> findChunkStarts(String content, int minimumChunkSize) {
+        List<Integer> chunkStarts = new ArrayList<>();
+        int length = content.length();
+        int lastChunkStart = 0;
+        int position = content.indexOf('@');
+        while ((position >= 0) && (position < length)) {
+            int typeStart = skipWhitespace(content, position + 1);
+            int typeEnd = typeStart;
+            while ((typeEnd < length) && Character.isLetterOrDigit(content.charAt(typeEnd))) {
+                typeEnd++;
+            }
+            int openingBrace = skipWhitespace(content, typeEnd);
+            if ((typeEnd == typeStart) || (openingBrace >= length) || (content.charAt(openingBrace) != '{')) {
+                // Parentheses, an unbracketed comment or something broken: the parser has to handle it sequentially
+                return chunkStarts;
+            }
+            int closingBrace = findClosingBrace(content, openingBrace);
+            if (closingBrace < 0) {
+                return chunkStarts;
+            }
+
+            String type = content.substring(typeStart, typeEnd).toLowerCase(Locale.ROOT);
+            int end = closingBrace + 1;
+            if (!NON_ENTRY_TYPES.contains(type)) {
+                end = skipOneNewline(content, end);
+                int nextBlock = skipWhitespace(content, end);
+                if ((nextBlock < length) && (content.charAt(nextBlock) == '@') && ((end - lastChunkStart) >= minimumChunkSize)) {
+                    chunkStarts.add(end);
+                    lastChunkStart = end;
+                }
+            }
+            position = content.indexOf('@', end);
+        }
+        return chunkStarts;
+    }
+
+    /// @return the position of the brace closing the one at the given position or -1 if there is none
+    private static int findClosingBrace(String content, int openingBrace) {
+        int depth = 0;
+        for (int i = openingBrace; i < content.length(); i++) {
+            char character = content.charAt(i);
+            if ((i > openingBrace) && (content.charAt(i - 1) == '\\')) {
+                continue;
+            }
+            if (character == '{') {
+                depth++;
+            } else if (character == '}') {
+                depth--;
+                if (depth == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /// Mirrors the newline handling of the parser after an entry: spaces, then an optional `\r` and an optional `\n`.
+    private static int skipOneNewline(String content, int position) {
+        int length = content.length();
+        while ((position < length) && (content.charAt(position) == ' ')) {
+            position++;
+        }
+        if ((position < length) && (content.charAt(position) == '\r')) {
+            position++;
+        }
+        if ((position < length) && (content.charAt(position) == '\n')) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int skipWhitespace(String content, int position) {
+        int length = content.length();
+        while ((position < length) && Character.isWhitespace(content.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+}
@@ -5,6 +5,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
@@ -35,6 +36,9 @@ public class BibtexImporter extends Importer {
     // Signature written at the top of the .bib file in earlier versions.
     private static final String SIGNATURE = "This file was created with JabRef";
 
+    // Files of at least this size (in bytes) are parsed using multiple threads
+    private static final long PARALLEL_PARSING_THRESHOLD = 8L * 1024 * 1024;
+
     private final ImportFormatPreferences importFormatPreferences;
     private final FileUpdateMonitor fileMonitor;
 
@@ -65,7 +69,14 @@ public class BibtexImporter extends Importer {
 
         try (InputStreamReader inputStreamReader = new InputStreamReader(Files.newInputStream(filePath), decoder);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            ParserResult parserResult = this.importDatabase(reader);
+            ParserResult parserResult;
+            if (Files.size(filePath) >= PARALLEL_PARSING_THRESHOLD) {
+                StringWriter content = new StringWriter();
+                reader.transferTo(content);
+                parserResult = new BibtexParser(importFormatPreferences, fileMonitor).parseInParallel(content.toString());
+            } else {
+                parserResult = this.importDatabase(reader);
+            }
             parserResult.getMetaData().setEncoding(result.encoding());
             parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
             parserResult.setPath(filePath);
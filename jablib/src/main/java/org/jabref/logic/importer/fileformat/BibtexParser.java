@@ -3,22 +3,22 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
-import java.io.StringWriter;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -42,6 +42,7 @@ import org.jabref.model.database.KeyCollisionException;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.IdGenerator;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
@@ -94,9 +95,9 @@ public class BibtexParser implements Parser {
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final int INDEX_RELATIVE_PATH_IN_PLIST = 4;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private static final int MINIMUM_CHUNK_SIZE = 1 << 20;
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private BibtexTextBuffer textBuffer;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
@@ -107,6 +108,13 @@ public class BibtexParser implements Parser {
 
     private GroupTreeNode bibDeskGroupTreeNode;
 
+    /**
+     * Only set while parsing a chunk, see {@link #parseInParallel(String)}. The entries are collected instead of being added to the database.
+     */
+    private List<BibEntry> chunkEntries;
+    private List<BibtexString> chunkStrings;
+    private String chunkPreamble;
+
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         this.metaDataParser = new MetaDataParser(fileMonitor);
@@ -162,7 +170,7 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        textBuffer = new BibtexTextBuffer(in, BibtexParser.LOOKAHEAD);
 
         String newLineSeparator = determineNewLineSeparator();
 
@@ -176,14 +184,154 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
+    /**
+     * Parses the given BibTeX data using multiple threads. The result is the same as the one of {@link #parse(Reader)}.
+     * <p>
+     * The content is split into chunks between entries (see {@link BibtexBlockScanner}), which are parsed on the common fork-join pool.
+     * The results are then combined in the order of the chunks: entries and strings are added in file order, the last preamble wins,
+     * and the metadata of all {@code @Comment} blocks is parsed once at the end.
+     * If a chunk cannot be parsed without warnings, the content is parsed sequentially, so that warnings and their line numbers are the same.
+     */
+    public ParserResult parseInParallel(String content) throws IOException {
+        Objects.requireNonNull(content);
+        int chunkSize = Math.max(MINIMUM_CHUNK_SIZE, content.length() / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        Optional<ParserResult> result = parseInChunks(content, chunkSize);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        return parse(new StringReader(content));
+    }
+
+    /**
+     * Parses the chunks of the given content in parallel and combines their results.
+     *
+     * @param minimumChunkSize the minimum number of characters of a chunk
+     * @return empty if the content cannot be split or the results of the chunks cannot be combined, then the content has to be parsed sequentially
+     */
+    Optional<ParserResult> parseInChunks(String content, int minimumChunkSize) {
+        List<Integer> chunkStarts = BibtexBlockScanner.findChunkStarts(content, minimumChunkSize);
+        if (chunkStarts.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<String> chunks = new ArrayList<>(chunkStarts.size() + 1);
+        int start = 0;
+        for (int chunkStart : chunkStarts) {
+            chunks.add(content.substring(start, chunkStart));
+            start = chunkStart;
+        }
+        chunks.add(content.substring(start));
+        LOGGER.debug("Parsing {} chunks in parallel", chunks.size());
+
+        List<ParsedChunk> parsedChunks;
+        try {
+            parsedChunks = chunks.parallelStream()
+                                 .map(chunk -> new BibtexParser(importFormatPreferences).parseChunk(chunk))
+                                 .toList();
+        } catch (UncheckedIOException e) {
+            LOGGER.debug("Could not parse chunk, parsing sequentially", e);
+            return Optional.empty();
+        }
+        if (!canBeCombined(parsedChunks)) {
+            LOGGER.debug("Chunks cannot be combined, parsing sequentially");
+            return Optional.empty();
+        }
+        return Optional.of(combineChunks(parsedChunks));
+    }
+
+    private ParsedChunk parseChunk(String chunk) {
+        chunkEntries = new ArrayList<>();
+        chunkStrings = new ArrayList<>();
+        Map<String, String> meta = new HashMap<>();
+        try {
+            textBuffer = new BibtexTextBuffer(new StringReader(chunk), BibtexParser.LOOKAHEAD);
+            String newLineSeparator = determineNewLineSeparator();
+            initializeParserResult(newLineSeparator);
+            parseDatabaseID();
+            skipWhitespace();
+            parseBlocks(meta);
+            return new ParsedChunk(
+                    newLineSeparator,
+                    database.getSharedDatabaseID(),
+                    chunkEntries,
+                    chunkStrings,
+                    Optional.ofNullable(chunkPreamble),
+                    meta,
+                    entryTypes,
+                    parsedBibdeskGroups,
+                    Optional.ofNullable(bibDeskGroupTreeNode),
+                    parserResult.hasWarnings(),
+                    dumpTextReadSoFarToString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Chunks can only be combined if all text before the last chunk was consumed and no warnings occurred.
+     * Metadata keys may only occur in one chunk, because the BibDesk comment does not overwrite existing keys.
+     */
+    private static boolean canBeCombined(List<ParsedChunk> parsedChunks) {
+        Set<String> metaKeys = new HashSet<>();
+        for (int i = 0; i < parsedChunks.size(); i++) {
+            ParsedChunk parsedChunk = parsedChunks.get(i);
+            if (parsedChunk.hasWarnings() || ((i < (parsedChunks.size() - 1)) && !parsedChunk.remainingText().isEmpty())) {
+                return false;
+            }
+            for (String key : parsedChunk.meta().keySet()) {
+                if (!metaKeys.add(key)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private ParserResult combineChunks(List<ParsedChunk> parsedChunks) {
+        ParsedChunk firstChunk = parsedChunks.getFirst();
+        initializeParserResult(firstChunk.newLineSeparator());
+        firstChunk.sharedDatabaseId().ifPresent(database::setSharedDatabaseID);
+
+        Map<String, String> meta = new HashMap<>();
+        List<BibEntry> entries = new ArrayList<>();
+        for (ParsedChunk parsedChunk : parsedChunks) {
+            entries.addAll(parsedChunk.entries());
+            for (BibtexString bibtexString : parsedChunk.strings()) {
+                addString(bibtexString);
+            }
+            parsedChunk.preamble().ifPresent(database::setPreamble);
+            meta.putAll(parsedChunk.meta());
+            entryTypes.addAll(parsedChunk.entryTypes());
+            parsedChunk.bibDeskGroups().forEach(parsedBibdeskGroups::putIfAbsent);
+            parsedChunk.bibDeskGroupTreeNode().ifPresent(node -> bibDeskGroupTreeNode = node);
+        }
+        assignIdsInFileOrder(entries);
+        database.insertEntries(entries);
+
+        return completeParserResult(meta, parsedChunks.getLast().remainingText());
+    }
+
+    /**
+     * The entries of the chunks got their ids on different threads. The ids are assigned again, so that they ascend in
+     * file order as after a sequential parse. {@link BibDatabase} relies on that order, e.g., to find the index of an entry.
+     */
+    private static void assignIdsInFileOrder(List<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            boolean changed = entry.hasChanged();
+            entry.setId(IdGenerator.next());
+            // Keep the parsed serialization
+            entry.setChanged(changed);
+        }
+    }
+
     private String determineNewLineSeparator() throws IOException {
         String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
+        char[] sneakedCharacters = new char[BibtexParser.LOOKAHEAD];
         int i = 0;
         int currentChar;
         do {
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
+            currentChar = textBuffer.read();
+            sneakedCharacters[i] = (char) currentChar;
             i++;
         } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
         if (currentChar == '\r') {
@@ -193,7 +341,9 @@ public class BibtexParser implements Parser {
         }
 
         // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+        while (i > 0) {
+            textBuffer.unread(sneakedCharacters[--i]);
+        }
 
         return newLineSeparator;
     }
@@ -227,7 +377,11 @@ public class BibtexParser implements Parser {
 
     private ParserResult parseFileContent() throws IOException {
         Map<String, String> meta = new HashMap<>();
+        parseBlocks(meta);
+        return completeParserResult(meta, dumpTextReadSoFarToString());
+    }
 
+    private void parseBlocks(Map<String, String> meta) throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -241,7 +395,8 @@ public class BibtexParser implements Parser {
 
             switch (entryType) {
                 case "preamble" -> {
-                    database.setPreamble(parsePreamble());
+                    chunkPreamble = parsePreamble();
+                    database.setPreamble(chunkPreamble);
                     // Consume a new line which separates the preamble from the next part (if the file was written with JabRef)
                     skipOneNewline();
                     // the preamble is saved verbatim anyway, so the text read so far can be dropped
@@ -258,7 +413,12 @@ public class BibtexParser implements Parser {
 
             skipWhitespace();
         }
+    }
 
+    /**
+     * Applies the collected metadata and stores the text after the last block as epilog.
+     */
+    private ParserResult completeParserResult(Map<String, String> meta, String remainingText) {
         addBibDeskGroupEntriesToJabRefGroups();
 
         try {
@@ -288,7 +448,7 @@ public class BibtexParser implements Parser {
             parserResult.addException(exception);
         }
 
-        parseRemainingContent();
+        database.setEpilog(remainingText.trim());
 
         checkEpilog();
 
@@ -303,10 +463,6 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private void parseRemainingContent() {
-        database.setEpilog(dumpTextReadSoFarToString().trim());
-    }
-
     private void parseAndAddEntry(String type) {
         try {
             // collect all comments and the entry type definition in front of the actual entry
@@ -331,7 +487,11 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            if (chunkEntries != null) {
+                chunkEntries.add(entry);
+            } else {
+                database.insertEntry(entry);
+            }
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -451,10 +611,18 @@ public class BibtexParser implements Parser {
 
     private void parseBibtexString() throws IOException {
         BibtexString bibtexString = parseString();
+        if (addString(bibtexString) && (chunkStrings != null)) {
+            chunkStrings.add(bibtexString);
+        }
+    }
+
+    private boolean addString(BibtexString bibtexString) {
         try {
             database.addString(bibtexString);
+            return true;
         } catch (KeyCollisionException ex) {
             parserResult.addWarning(Localization.lang("Duplicate string name: '%0'", bibtexString.getName()));
+            return false;
         }
     }
 
@@ -509,12 +677,7 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        return textBuffer.takeText();
     }
 
     /**
@@ -626,11 +789,7 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
-
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
-        }
+        int character = textBuffer.read();
         if (character == '\n') {
             line++;
         }
@@ -641,10 +800,7 @@ public class BibtexParser implements Parser {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
-        }
+        textBuffer.unread(character);
     }
 
     private BibtexString parseString() throws IOException {
@@ -1152,4 +1308,18 @@ public class BibtexParser implements Parser {
                     + " but received " + (char) character);
         }
     }
+
+    private record ParsedChunk(
+            String newLineSeparator,
+            Optional<String> sharedDatabaseId,
+            List<BibEntry> entries,
+            List<BibtexString> strings,
+            Optional<String> preamble,
+            Map<String, String> meta,
+            Set<BibEntryType> entryTypes,
+            Map<String, String> bibDeskGroups,
+            Optional<GroupTreeNode> bibDeskGroupTreeNode,
+            boolean hasWarnings,
+            String remainingText) {
+    }
 }
@@ -0,0 +1,102 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/// Character source of the [BibtexParser].
+///
+/// The input is read in chunks into a growing `char[]`. Instead of copying each character into a separate collection, the
+/// text read since the last call of [#takeText()] is kept as an offset into this buffer. Only this text and a small
+/// lookbehind for [#unread(int)] are kept, older content is discarded when new input is read.
+///
+/// The behavior matches a [java.io.PushbackReader] with a pushback buffer of `lookbehind` characters, including
+/// pushing back the EOF character: it is returned as `U+FFFF` when read again.
+final class BibtexTextBuffer {
+
+    private static final int CHUNK_SIZE = 8192;
+    private static final char EOF_CHARACTER = '\uFFFF';
+
+    private final Reader reader;
+    private final int lookbehind;
+    private char[] buffer = new char[CHUNK_SIZE * 2];
+    private int position;
+    private int limit;
+    private int textStart;
+    private boolean endOfInput;
+    private int pushedBackEofCharacters;
+
+    BibtexTextBuffer(Reader reader, int lookbehind) {
+        this.reader = reader;
+        this.lookbehind = lookbehind;
+    }
+
+    /// @return the next character or -1 if the end of the input is reached
+    int read() throws IOException {
+        if ((position == limit) && !fill()) {
+            if (pushedBackEofCharacters > 0) {
+                pushedBackEofCharacters--;
+                return EOF_CHARACTER;
+            }
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    /// Pushes back the given character, so that it is returned by the next [#read()].
+    ///
+    /// Like with a [java.io.PushbackReader], the character does not need to be the one read before, e.g., the parser
+    /// pushes back a text without the whitespace read.
+    void unread(int character) throws IOException {
+        if (endOfInput && (position == limit) && ((character == -1) || (character == EOF_CHARACTER))) {
+            pushedBackEofCharacters++;
+            return;
+        }
+        if (position == 0) {
+            throw new IOException("Pushback buffer overflow");
+        }
+        buffer[--position] = (char) character;
+        textStart = Math.min(textStart, position);
+    }
+
+    /// Returns the text read since the previous call, without EOF characters.
+    String takeText() {
+        String text = new String(buffer, textStart, position - textStart);
+        textStart = position;
+        if (text.indexOf(EOF_CHARACTER) >= 0) {
+            return text.replace(String.valueOf(EOF_CHARACTER), "");
+        }
+        return text;
+    }
+
+    /// Reads the next chunk of the input. Discards the content which can neither be taken as text nor be pushed back anymore.
+    ///
+    /// @return false if the end of the input is reached
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+
+        int keepFrom = Math.max(0, Math.min(textStart, position - lookbehind));
+        if (keepFrom > 0) {
+            System.arraycopy(buffer, keepFrom, buffer, 0, limit - keepFrom);
+            position -= keepFrom;
+            limit -= keepFrom;
+            textStart -= keepFrom;
+        }
+        if (buffer.length - limit < CHUNK_SIZE) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, limit + CHUNK_SIZE));
+        }
+
+        int read;
+        do {
+            read = reader.read(buffer, limit, buffer.length - limit);
+        } while (read == 0);
+        if (read == -1) {
+            endOfInput = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+}
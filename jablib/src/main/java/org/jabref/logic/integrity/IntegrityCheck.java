@@ -1,8 +1,18 @@
 package org.jabref.logic.integrity;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -12,11 +22,36 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
+/**
+ * Runs all checkers on the entries of a library.
+ * <p>
+ * The entries are checked in parallel. Most checkers only look at the entry itself. Their results are cached per entry
+ * and reused as long as the entry is not changed (see {@link BibEntry#getChangeCount()}), thus checking the library
+ * again after some edits only runs these checkers on the edited entries. Checkers looking at other entries of the
+ * library and checkers looking at the file system are always run. The files linked by all entries are checked in one
+ * batch, where each distinct file field value is checked only once.
+ * <p>
+ * The time spent in each checker is accumulated, see {@link #getCheckerDurations()}.
+ */
 public class IntegrityCheck {
 
+    private record NamedChecker(String name, EntryChecker checker) {
+    }
+
+    private record CachedResult(BibEntry entry, int changeCount, List<IntegrityMessage> messages) {
+    }
+
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
-    private final List<EntryChecker> entryCheckers;
+
+    // Only depend on the entry itself
+    private final List<NamedChecker> entryLocalCheckers = new ArrayList<>();
+    // Depend on other entries of the library
+    private final List<NamedChecker> libraryCheckers = new ArrayList<>();
+    // Depend on the file system
+    private final List<FieldChecker> fileCheckers = new ArrayList<>();
+
+    private final Map<String, CachedResult> cachedResults = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> nanosByChecker = new ConcurrentHashMap<>();
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -25,19 +60,23 @@ public class IntegrityCheck {
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
                 allowIntegerEdition);
+        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
+            if (fieldChecker.getValueChecker() instanceof FileChecker) {
+                fileCheckers.add(fieldChecker);
+            } else {
+                entryLocalCheckers.add(new NamedChecker(fieldChecker.getValueChecker().getClass().getSimpleName(), fieldChecker));
+            }
+        }
 
-        entryCheckers = new ArrayList<>(List.of(
+        List<EntryChecker> entryCheckers = new ArrayList<>(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
@@ -52,16 +91,19 @@ public class IntegrityCheck {
                     new BibTeXEntryTypeChecker())
             );
         }
+        entryCheckers.forEach(checker -> entryLocalCheckers.add(new NamedChecker(checker.getClass().getSimpleName(), checker)));
+
+        List.of(new EntryLinkChecker(bibDatabaseContext.getDatabase()),
+                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
+                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()))
+            .forEach(checker -> libraryCheckers.add(new NamedChecker(checker.getClass().getSimpleName(), checker)));
     }
 
     List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
-
         BibDatabase database = bibDatabaseContext.getDatabase();
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        List<IntegrityMessage> result = checkEntries(database.getEntries(), _ -> {
+        }, () -> false);
         result.addAll(checkDatabase(database));
 
         return result;
@@ -73,18 +115,109 @@ public class IntegrityCheck {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
+        result.addAll(checkEntryLocal(entry));
+        for (FieldChecker fileChecker : fileCheckers) {
+            result.addAll(timed(FileChecker.class.getSimpleName(), () -> fileChecker.check(entry)));
         }
-
-        for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+        for (NamedChecker libraryChecker : libraryCheckers) {
+            result.addAll(timed(libraryChecker.name(), () -> libraryChecker.checker().check(entry)));
         }
 
         return result;
     }
 
+    /**
+     * Checks the given entries in parallel. The messages are returned in the order of the entries.
+     *
+     * @param progressListener notified with the number of entries checked so far, possibly from several threads
+     * @param isCancelled      queried before checking each entry and file; once it returns true, the remaining entries are skipped and the messages found so far are returned
+     */
+    public List<IntegrityMessage> checkEntries(List<BibEntry> entries, IntConsumer progressListener, BooleanSupplier isCancelled) {
+        // Entries removed from the library are not checked anymore
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        cachedResults.values().removeIf(cached -> database.getEntryById(cached.entry().getId()) != cached.entry());
+
+        Map<String, List<IntegrityMessage>> fileMessages = checkFiles(entries, isCancelled);
+
+        AtomicInteger checkedEntries = new AtomicInteger();
+        return entries.parallelStream()
+                      .map(entry -> {
+                          if (isCancelled.getAsBoolean()) {
+                              return List.<IntegrityMessage>of();
+                          }
+                          List<IntegrityMessage> messages = new ArrayList<>(checkEntryLocal(entry));
+                          messages.addAll(fileMessages.getOrDefault(entry.getId(), List.of()));
+                          for (NamedChecker libraryChecker : libraryCheckers) {
+                              messages.addAll(timed(libraryChecker.name(), () -> libraryChecker.checker().check(entry)));
+                          }
+                          progressListener.accept(checkedEntries.incrementAndGet());
+                          return messages;
+                      })
+                      .flatMap(List::stream)
+                      .collect(Collectors.toCollection(ArrayList::new));
+    }
+
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+        return timed(DoiDuplicationChecker.class.getSimpleName(), () -> new DoiDuplicationChecker().check(database));
+    }
+
+    /**
+     * Returns the time spent in each checker since this integrity check was created, by the simple class name of the checker.
+     * Checkers of field values are summed up over all fields they check.
+     */
+    public Map<String, Duration> getCheckerDurations() {
+        return nanosByChecker.entrySet().stream()
+                             .collect(Collectors.toMap(Map.Entry::getKey, entry -> Duration.ofNanos(entry.getValue().sum())));
+    }
+
+    private List<IntegrityMessage> checkEntryLocal(BibEntry entry) {
+        int changeCount = entry.getChangeCount();
+        CachedResult cached = cachedResults.get(entry.getId());
+        if ((cached != null) && (cached.entry() == entry) && (cached.changeCount() == changeCount)) {
+            return cached.messages();
+        }
+
+        List<IntegrityMessage> messages = new ArrayList<>();
+        for (NamedChecker checker : entryLocalCheckers) {
+            messages.addAll(timed(checker.name(), () -> checker.checker().check(entry)));
+        }
+        // If the entry was changed during the check, the next check has to run again
+        cachedResults.put(entry.getId(), new CachedResult(entry, changeCount, List.copyOf(messages)));
+        return messages;
+    }
+
+    /**
+     * Checks the linked files of all given entries. Each distinct value of a file field is only checked once.
+     *
+     * @return the messages by the id of the entry
+     */
+    private Map<String, List<IntegrityMessage>> checkFiles(List<BibEntry> entries, BooleanSupplier isCancelled) {
+        Map<String, List<IntegrityMessage>> messagesByEntry = new ConcurrentHashMap<>();
+        for (FieldChecker fileChecker : fileCheckers) {
+            Map<String, Optional<String>> resultByValue = entries.stream()
+                                                                 .flatMap(entry -> entry.getField(fileChecker.field).stream())
+                                                                 .distinct()
+                                                                 .parallel()
+                                                                 .filter(_ -> !isCancelled.getAsBoolean())
+                                                                 .collect(Collectors.toConcurrentMap(
+                                                                         value -> value,
+                                                                         value -> timed(FileChecker.class.getSimpleName(), () -> fileChecker.getValueChecker().checkValue(value))));
+            for (BibEntry entry : entries) {
+                entry.getField(fileChecker.field)
+                     .flatMap(resultByValue::get)
+                     .ifPresent(message -> messagesByEntry.computeIfAbsent(entry.getId(), _ -> new ArrayList<>())
+                                                          .add(new IntegrityMessage(message, entry, fileChecker.field)));
+            }
+        }
+        return messagesByEntry;
+    }
+
+    private <T> T timed(String checkerName, Supplier<T> check) {
+        long start = System.nanoTime();
+        try {
+            return check.get();
+        } finally {
+            nanosByChecker.computeIfAbsent(checkerName, _ -> new LongAdder()).add(System.nanoTime() - start);
+        }
     }
 }
@@ -91,17 +91,38 @@ public class Layout {
         return layoutEntries.stream().map(LayoutEntry::getText).collect(Collectors.joining("\n"));
     }
 
+    /**
+     * Returns whether the layout contains group blocks. Then, the output for an entry depends on the entries formatted
+     * before with the same {@link LayoutContext}.
+     */
+    public boolean containsGroups() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::containsGroup);
+    }
+
     /**
      * Returns the processed bibtex entry. If the database argument is
      * null, no string references will be resolved. Otherwise all valid
      * string references will be replaced by the strings' contents. Even
      * recursive string references are resolved.
+     * <p>
+     * The entry is formatted on its own, i.e., as the first entry.
      */
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        return doLayout(bibtex, database, new LayoutContext(1));
+    }
+
+    /**
+     * Returns the processed bibtex entry, see {@link #doLayout(BibEntry, BibDatabase)}.
+     * <p>
+     * The layout itself is not changed, thus several entries may be formatted concurrently, each with its own context.
+     *
+     * @param context the number of the entry and the current group
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, LayoutContext context) {
         StringBuilder builder = new StringBuilder(100);
 
         for (LayoutEntry layoutEntry : layoutEntries) {
-            String fieldText = layoutEntry.doLayout(bibtex, database);
+            String fieldText = layoutEntry.doLayout(bibtex, database, context);
 
             // The following change means we treat null fields as "". This is to fix the
             // problem of whitespace disappearing after missing fields.
@@ -122,11 +143,20 @@ public class Layout {
      * recursive string references are resolved.
      */
     public String doLayout(BibDatabaseContext databaseContext, Charset encoding) {
+        return doLayout(databaseContext, encoding, new LayoutContext(0));
+    }
+
+    /**
+     * Returns the processed text, see {@link #doLayout(BibDatabaseContext, Charset)}.
+     *
+     * @param context the number of entries formatted before
+     */
+    public String doLayout(BibDatabaseContext databaseContext, Charset encoding, LayoutContext context) {
         StringBuilder sb = new StringBuilder(100);
         String fieldText;
 
         for (LayoutEntry layoutEntry : layoutEntries) {
-            fieldText = layoutEntry.doLayout(databaseContext, encoding);
+            fieldText = layoutEntry.doLayout(databaseContext, encoding, context);
 
             if (fieldText == null) {
                 fieldText = "";
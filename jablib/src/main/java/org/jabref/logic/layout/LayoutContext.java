@@ -0,0 +1,40 @@
+package org.jabref.logic.layout;
+
+import org.jabref.logic.layout.format.Number;
+
+/**
+ * The state of formatting entries with a {@link Layout}, which is passed to the layout instead of being kept in static fields.
+ * <p>
+ * The entry number is output by the {@link Number} formatter. The current group is the value of the field of the last
+ * group block ({@code \begingroup}) output. A group block is only output if its value differs from the current group,
+ * thus entries of a layout using group blocks have to be formatted one after another with the same context.
+ * Layouts without group blocks can format entries concurrently, each with its own context.
+ */
+public class LayoutContext {
+
+    private int entryNumber;
+    private String currentGroup;
+
+    /**
+     * @param entryNumber the number of the (first) entry to format, starting with 1
+     */
+    public LayoutContext(int entryNumber) {
+        this.entryNumber = entryNumber;
+    }
+
+    public int getEntryNumber() {
+        return entryNumber;
+    }
+
+    public void setEntryNumber(int entryNumber) {
+        this.entryNumber = entryNumber;
+    }
+
+    String getCurrentGroup() {
+        return currentGroup;
+    }
+
+    void setCurrentGroup(String currentGroup) {
+        this.currentGroup = currentGroup;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
@@ -87,6 +88,7 @@ import org.jabref.logic.openoffice.style.OOPreFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.UnknownField;
@@ -98,6 +100,16 @@ import org.slf4j.LoggerFactory;
 class LayoutEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(LayoutEntry.class);
 
+    private static final Pattern CONJUNCTION = Pattern.compile(".*(;|(\\&+)).*");
+    private static final Pattern CONJUNCTION_SEPARATOR = Pattern.compile("\\s*(;|(\\&+))\\s*");
+    private static final Pattern DISJUNCTION_SEPARATOR = Pattern.compile("\\s*(\\|+)\\s*");
+
+    /**
+     * A field of a field block, which is present if it is not negated, e.g., {@code \begin{!author}}
+     */
+    private record FieldCondition(Field field, boolean negated) {
+    }
+
     private List<LayoutFormatter> option;
     // Formatter to be run after other formatters:
     private LayoutFormatter postFormatter;
@@ -111,6 +123,12 @@ class LayoutEntry {
     private final LayoutFormatterPreferences preferences;
     private final JournalAbbreviationRepository abbreviationRepository;
 
+    // Parsed when the layout is created instead of each time an entry is formatted
+    private Field parsedField;
+    private List<FieldCondition> fieldConditions = List.of();
+    // true: all conditions have to be fulfilled (separated by & or ;), false: any condition (separated by |)
+    private boolean isConjunction;
+
     public LayoutEntry(StringInt si,
                        List<Path> fileDirForDatabase,
                        LayoutFormatterPreferences preferences,
@@ -123,10 +141,16 @@ class LayoutEntry {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT ->
                     text = si.s;
-            case LayoutHelper.IS_SIMPLE_COMMAND ->
-                    text = si.s.trim();
-            case LayoutHelper.IS_OPTION_FIELD ->
-                    doOptionField(si.s);
+            case LayoutHelper.IS_SIMPLE_COMMAND -> {
+                text = si.s.trim();
+                parsedField = FieldFactory.parseField(text);
+            }
+            case LayoutHelper.IS_OPTION_FIELD -> {
+                doOptionField(si.s);
+                if (text.startsWith("\\")) {
+                    parsedField = FieldFactory.parseField(text.substring(1));
+                }
+            }
             default -> {
                 // IS_FIELD_START and IS_FIELD_END
             }
@@ -193,18 +217,40 @@ class LayoutEntry {
         for (LayoutEntry layoutEntry : layoutEntries) {
             invalidFormatter.addAll(layoutEntry.getInvalidFormatters());
         }
+
+        if (type == LayoutHelper.IS_GROUP_START) {
+            parsedField = FieldFactory.parseField(text);
+        } else {
+            isConjunction = CONJUNCTION.matcher(text).matches();
+            // split the strings along &, && or ; for AND formatter, along |, || for OR formatter
+            String[] parts = (isConjunction ? CONJUNCTION_SEPARATOR : DISJUNCTION_SEPARATOR).split(text);
+            fieldConditions = Arrays.stream(parts)
+                                    .map(part -> part.startsWith("!")
+                                                 ? new FieldCondition(FieldFactory.parseField(part.substring(1).trim()), true)
+                                                 : new FieldCondition(FieldFactory.parseField(part), false))
+                                    .toList();
+        }
+    }
+
+    /**
+     * Returns whether this entry or one of its nested entries is a group block, which makes the output depend on the
+     * entries formatted before
+     */
+    boolean containsGroup() {
+        return (type == LayoutHelper.IS_GROUP_START)
+                || ((layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroup));
     }
 
     public void setPostFormatter(LayoutFormatter formatter) {
         this.postFormatter = formatter;
     }
 
-    public String doLayout(BibEntry bibEntry, BibDatabase database) {
+    public String doLayout(BibEntry bibEntry, BibDatabase database, LayoutContext context) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
             case LayoutHelper.IS_SIMPLE_COMMAND:
-                String value = bibEntry.getResolvedFieldOrAlias(FieldFactory.parseField(text), database).orElse("");
+                String value = bibEntry.getResolvedFieldOrAlias(parsedField, database).orElse("");
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
@@ -213,9 +259,9 @@ class LayoutEntry {
                 return value;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_GROUP_START:
-                return handleFieldOrGroupStart(bibEntry, database);
+                return handleFieldOrGroupStart(bibEntry, database, context);
             case LayoutHelper.IS_OPTION_FIELD:
-                return handleOptionField(bibEntry, database);
+                return handleOptionField(bibEntry, database, context);
             case LayoutHelper.IS_ENCODING_NAME:
                 // Printing the encoding name is not supported in entry layouts, only
                 // in begin/end layouts. This prevents breakage if some users depend
@@ -228,8 +274,8 @@ class LayoutEntry {
 
     private String resolveFieldEntry(BibEntry bidEntry, BibDatabase database) {
         // resolve field (recognized by leading backslash) or text
-        if (text.startsWith("\\")) {
-            return bidEntry.getResolvedFieldOrAlias(FieldFactory.parseField(text.substring(1)), database)
+        if (parsedField != null) {
+            return bidEntry.getResolvedFieldOrAlias(parsedField, database)
                            .orElse("");
         }
         if (database == null) {
@@ -238,7 +284,7 @@ class LayoutEntry {
         return database.resolveForStrings(text);
     }
 
-    private String handleOptionField(BibEntry bibtex, BibDatabase database) {
+    private String handleOptionField(BibEntry bibtex, BibDatabase database, LayoutContext context) {
         String fieldEntry;
 
         if (InternalField.TYPE_HEADER.getName().equals(text)) {
@@ -250,66 +296,59 @@ class LayoutEntry {
             fieldEntry = resolveFieldEntry(bibtex, database);
         }
 
+        return format(fieldEntry, context);
+    }
+
+    private String format(String value, LayoutContext context) {
+        String formatted = value;
         if (option != null) {
             for (LayoutFormatter anOption : option) {
-                fieldEntry = anOption.format(fieldEntry);
+                formatted = anOption instanceof Number number ? number.format(context) : anOption.format(formatted);
             }
         }
 
         // If a post formatter has been set, call it:
         if (postFormatter != null) {
-            fieldEntry = postFormatter.format(fieldEntry);
+            formatted = postFormatter.format(formatted);
         }
 
-        return fieldEntry;
+        return formatted;
     }
 
-    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
+    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database, LayoutContext context) {
         Optional<String> field;
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
-            field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() == negated) {
-                    break;
-                }
-            }
+            field = bibtex.getResolvedFieldOrAlias(parsedField, database);
         } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
             field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() ^ negated) {
+            for (FieldCondition condition : fieldConditions) {
+                negated = condition.negated();
+                field = bibtex.getResolvedFieldOrAlias(condition.field(), database);
+                boolean isDecided = isConjunction ? (field.isPresent() == negated) : (field.isPresent() ^ negated);
+                if (isDecided) {
                     break;
                 }
             }
         }
 
         if ((field.isPresent() == negated) || ((type == LayoutHelper.IS_GROUP_START)
-                && field.get().equalsIgnoreCase(LayoutHelper.getCurrentGroup()))) {
+                && field.get().equalsIgnoreCase(context.getCurrentGroup()))) {
             return null;
         } else {
             if (type == LayoutHelper.IS_GROUP_START) {
-                LayoutHelper.setCurrentGroup(field.get());
+                context.setCurrentGroup(field.get());
             }
             StringBuilder sb = new StringBuilder(100);
             String fieldText;
             boolean previousSkipped = false;
 
             for (int i = 0; i < layoutEntries.size(); i++) {
-                fieldText = layoutEntries.get(i).doLayout(bibtex, database);
+                fieldText = layoutEntries.get(i).doLayout(bibtex, database, context);
 
                 if (fieldText == null) {
                     if ((i + 1) < layoutEntries.size()) {
-                        if (layoutEntries.get(i + 1).doLayout(bibtex, database).trim().isEmpty()) {
+                        if (layoutEntries.get(i + 1).doLayout(bibtex, database, context).trim().isEmpty()) {
                             i++;
                             previousSkipped = true;
                             continue;
@@ -347,6 +386,10 @@ class LayoutEntry {
      * @param databaseContext Bibtex Database
      */
     public String doLayout(BibDatabaseContext databaseContext, Charset encoding) {
+        return doLayout(databaseContext, encoding, new LayoutContext(0));
+    }
+
+    public String doLayout(BibDatabaseContext databaseContext, Charset encoding, LayoutContext context) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
@@ -366,17 +409,7 @@ class LayoutEntry {
                 String field = Optional.ofNullable(databaseContext.getDatabase())
                                        .map(db -> db.resolveForStrings(text))
                                        .orElse(text);
-                if (option != null) {
-                    for (LayoutFormatter anOption : option) {
-                        field = anOption.format(field);
-                    }
-                }
-                // If a post formatter has been set, call it:
-                if (postFormatter != null) {
-                    field = postFormatter.format(field);
-                }
-
-                return field;
+                return format(field, context);
 
             case LayoutHelper.IS_ENCODING_NAME:
                 return encoding.displayName();
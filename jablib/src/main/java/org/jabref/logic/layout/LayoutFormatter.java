@@ -8,6 +8,9 @@ package org.jabref.logic.layout;
  * Example:
  * <p>
  * "John von Neumann" => "von Neumann, John"
+ * <p>
+ * A compiled {@link Layout} formats several entries at the same time, thus {@link #format(String)} must not change the
+ * state of the formatter. Arguments are only set while the layout is read.
  */
 @FunctionalInterface
 public interface LayoutFormatter {
@@ -34,8 +34,6 @@ public class LayoutHelper {
     public static final int IS_FILENAME = 9;
     public static final int IS_FILEPATH = 10;
 
-    private static String currentGroup;
-
     private final PushbackReader in;
     private final List<StringInt> parsedEntries = new ArrayList<>();
     private final List<Path> fileDirForDatabase;
@@ -73,14 +71,6 @@ public class LayoutHelper {
         return new Layout(parsedEntries, fileDirForDatabase, preferences, abbreviationRepository);
     }
 
-    public static String getCurrentGroup() {
-        return LayoutHelper.currentGroup;
-    }
-
-    public static void setCurrentGroup(String newGroup) {
-        LayoutHelper.currentGroup = newGroup;
-    }
-
     private void doBracketedField(final int field) throws IOException {
         StringBuilder buffer = null;
         int currentCharacter;
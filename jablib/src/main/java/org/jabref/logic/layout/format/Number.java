@@ -1,22 +1,30 @@
 package org.jabref.logic.layout.format;
 
+import org.jabref.logic.layout.LayoutContext;
 import org.jabref.logic.layout.ParamLayoutFormatter;
 
 /**
  * Formatter that outputs a sequence number for the current entry. The sequence number is
  * tied to the entry's position in the order, not to the number of calls to this formatter.
+ * <p>
+ * The number is taken from the {@link LayoutContext} the entry is formatted with.
  */
 public class Number implements ParamLayoutFormatter {
 
-    public static int serialExportNumber;
-
     @Override
     public void setArgument(String arg) {
         // No effect currently.
     }
 
+    /**
+     * Without a context, the entry is formatted on its own, e.g., in the preview, and thus is the first one.
+     */
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        return "1";
+    }
+
+    public String format(LayoutContext context) {
+        return String.valueOf(context.getEntryNumber());
     }
 }
@@ -338,6 +338,10 @@ public class JabRefCliPreferences implements CliPreferences {
     private static final String PREFS_EXPORT_PATH = "prefsExportPath";
     private static final String DOWNLOAD_LINKED_FILES = "downloadLinkedFiles";
     private static final String FULLTEXT_INDEX_LINKED_FILES = "fulltextIndexLinkedFiles";
+    private static final String FULLTEXT_INDEX_MAX_STALENESS = "fulltextIndexMaxStaleness";
+    private static final String FULLTEXT_INDEX_COMMIT_INTERVAL = "fulltextIndexCommitInterval";
+    private static final String FULLTEXT_INDEX_COMMIT_DOCUMENTS = "fulltextIndexCommitDocuments";
+    private static final String FULLTEXT_INDEX_RAM_BUFFER = "fulltextIndexRamBuffer";
     private static final String KEEP_DOWNLOAD_URL = "keepDownloadUrl";
 
     // Indexes for Strings within stored custom export entries
@@ -635,6 +639,11 @@ public class JabRefCliPreferences implements CliPreferences {
         defaults.put(DOWNLOAD_LINKED_FILES, true);
         // Create Fulltext-Index by default
         defaults.put(FULLTEXT_INDEX_LINKED_FILES, true);
+        // New pages become searchable after at most one second, commits happen every minute or after 2000 pages
+        defaults.put(FULLTEXT_INDEX_MAX_STALENESS, 1000);
+        defaults.put(FULLTEXT_INDEX_COMMIT_INTERVAL, 60);
+        defaults.put(FULLTEXT_INDEX_COMMIT_DOCUMENTS, 2000);
+        defaults.put(FULLTEXT_INDEX_RAM_BUFFER, 64);
 
         String defaultExpression = "**/.*[citationkey].*\\\\.[extension]";
         defaults.put(AUTOLINK_REG_EXP_SEARCH_EXPRESSION_KEY, defaultExpression);
@@ -1513,6 +1522,10 @@ public class JabRefCliPreferences implements CliPreferences {
                 get(IMPORT_FILEDIRPATTERN),
                 getBoolean(DOWNLOAD_LINKED_FILES),
                 getBoolean(FULLTEXT_INDEX_LINKED_FILES),
+                getInt(FULLTEXT_INDEX_MAX_STALENESS),
+                getInt(FULLTEXT_INDEX_COMMIT_INTERVAL),
+                getInt(FULLTEXT_INDEX_COMMIT_DOCUMENTS),
+                getInt(FULLTEXT_INDEX_RAM_BUFFER),
                 Path.of(get(WORKING_DIRECTORY)),
                 getBoolean(CREATE_BACKUP),
                 // We choose the data directory, because a ".bak" file should survive cache cleanups
@@ -1532,6 +1545,10 @@ public class JabRefCliPreferences implements CliPreferences {
         EasyBind.listen(filePreferences.fileDirectoryPatternProperty(), (obs, oldValue, newValue) -> put(IMPORT_FILEDIRPATTERN, newValue));
         EasyBind.listen(filePreferences.downloadLinkedFilesProperty(), (obs, oldValue, newValue) -> putBoolean(DOWNLOAD_LINKED_FILES, newValue));
         EasyBind.listen(filePreferences.fulltextIndexLinkedFilesProperty(), (obs, oldValue, newValue) -> putBoolean(FULLTEXT_INDEX_LINKED_FILES, newValue));
+        EasyBind.listen(filePreferences.fulltextIndexMaxStalenessProperty(), (obs, oldValue, newValue) -> putInt(FULLTEXT_INDEX_MAX_STALENESS, newValue));
+        EasyBind.listen(filePreferences.fulltextIndexCommitIntervalProperty(), (obs, oldValue, newValue) -> putInt(FULLTEXT_INDEX_COMMIT_INTERVAL, newValue));
+        EasyBind.listen(filePreferences.fulltextIndexCommitDocumentsProperty(), (obs, oldValue, newValue) -> putInt(FULLTEXT_INDEX_COMMIT_DOCUMENTS, newValue));
+        EasyBind.listen(filePreferences.fulltextIndexRamBufferProperty(), (obs, oldValue, newValue) -> putInt(FULLTEXT_INDEX_RAM_BUFFER, newValue));
         EasyBind.listen(filePreferences.workingDirectoryProperty(), (obs, oldValue, newValue) -> put(WORKING_DIRECTORY, newValue.toString()));
         EasyBind.listen(filePreferences.createBackupProperty(), (obs, oldValue, newValue) -> putBoolean(CREATE_BACKUP, newValue));
         EasyBind.listen(filePreferences.backupDirectoryProperty(), (obs, oldValue, newValue) -> put(BACKUP_DIRECTORY, newValue.toString()));
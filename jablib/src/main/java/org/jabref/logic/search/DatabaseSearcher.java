@@ -1,8 +1,10 @@
 package org.jabref.logic.search;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.TaskExecutor;
@@ -36,6 +38,14 @@ public class DatabaseSearcher {
      * @return The matches in the order they appear in the library.
      */
     public List<BibEntry> getMatches() {
+        return getMatches(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param limit the maximum number of matches, {@link Integer#MAX_VALUE} for all
+     * @return The matches in the order they appear in the library.
+     */
+    public List<BibEntry> getMatches(int limit) {
         LOGGER.debug("Search term: {}", query);
 
         if (!query.isValid()) {
@@ -43,12 +53,15 @@ public class DatabaseSearcher {
             indexManager.closeAndWait();
             return List.of();
         }
-        List<BibEntry> matchEntries = indexManager.search(query)
-                                                  .getMatchedEntries()
-                                                  .stream()
-                                                  .map(entryId -> databaseContext.getDatabase().getEntryById(entryId))
-                                                  .toList();
+        Set<String> matchedEntryIds = new HashSet<>();
+        indexManager.search(query, limit, (entryId, result) -> {
+            matchedEntryIds.add(entryId);
+            return true;
+        });
         indexManager.closeAndWait();
+        List<BibEntry> matchEntries = databaseContext.getDatabase().getEntries().stream()
+                                                     .filter(entry -> matchedEntryIds.contains(entry.getId()))
+                                                     .toList();
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
 }
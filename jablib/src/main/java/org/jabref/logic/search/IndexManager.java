@@ -7,7 +7,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -20,11 +25,13 @@ import org.jabref.logic.search.indexing.BibFieldsIndexer;
 import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
 import org.jabref.logic.search.indexing.ReadOnlyLinkedFilesIndexer;
 import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.search.retrieval.InMemoryBibFieldsSearcher;
 import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
@@ -35,6 +42,8 @@ import org.jabref.model.search.event.IndexClosedEvent;
 import org.jabref.model.search.event.IndexRemovedEvent;
 import org.jabref.model.search.event.IndexStartedEvent;
 import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResult;
+import org.jabref.model.search.query.SearchResultConsumer;
 import org.jabref.model.search.query.SearchResults;
 
 import org.slf4j.Logger;
@@ -51,6 +60,13 @@ public class IndexManager {
     private final LuceneIndexer linkedFilesIndexer;
     private final BibFieldsSearcher bibFieldsSearcher;
     private final LinkedFilesSearcher linkedFilesSearcher;
+    private final InMemoryBibFieldsSearcher inMemoryBibFieldsSearcher;
+
+    /**
+     * Until the bib fields index is populated, searches are answered by {@link #inMemoryBibFieldsSearcher}.
+     */
+    private volatile boolean isBibFieldsIndexReady;
+    private final IndexUpdateQueue updateQueue;
 
     public IndexManager(BibDatabaseContext databaseContext,
                         TaskExecutor executor,
@@ -62,7 +78,7 @@ public class IndexManager {
         this.preferencesListener = (observable, oldValue, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection(), postgreServer.isPersistent());
 
         LuceneIndexer indexer;
         try {
@@ -75,6 +91,9 @@ public class IndexManager {
 
         this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable());
         this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences());
+        this.inMemoryBibFieldsSearcher = new InMemoryBibFieldsSearcher(databaseContext, preferences.getBibEntryPreferences().getKeywordSeparator());
+        this.updateQueue = new IndexUpdateQueue(taskExecutor, IndexUpdateQueue.DEFAULT_FLUSH_DELAY, this::applyFieldChanges);
+        bibFieldsIndexer.assignPositions(databaseContext.getDatabase().getEntries());
         updateOnStart();
     }
 
@@ -97,10 +116,14 @@ public class IndexManager {
             @Override
             public Object call() {
                 bibFieldsIndexer.updateOnStart(this);
+                bibFieldsSearcher.invalidateCache();
                 return null;
             }
         }.willBeRecoveredAutomatically(true)
-         .onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexStartedEvent()))
+         .onFinished(() -> {
+             isBibFieldsIndexReady = true;
+             this.databaseContext.getDatabase().postEvent(new IndexStartedEvent());
+         })
          .executeWith(taskExecutor);
 
         if (shouldIndexLinkedFiles.get()) {
@@ -115,10 +138,14 @@ public class IndexManager {
     }
 
     public void addToIndex(List<BibEntry> entries) {
+        // The tasks might run in a different order than the entries were added
+        bibFieldsIndexer.assignPositions(entries);
         new BackgroundTask<>() {
             @Override
             public Object call() {
+                bibFieldsSearcher.invalidateCache();
                 bibFieldsIndexer.addToIndex(entries, this);
+                bibFieldsSearcher.invalidateCache();
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries)))
@@ -139,7 +166,9 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
+                bibFieldsSearcher.invalidateCache();
                 bibFieldsIndexer.removeFromIndex(entries, this);
+                bibFieldsSearcher.invalidateCache();
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexRemovedEvent(entries)))
@@ -156,24 +185,28 @@ public class IndexManager {
         }
     }
 
+    /**
+     * Queues the change, it is applied to the index together with other changes made shortly before or after.
+     */
     public void updateEntry(FieldChangedEvent event) {
-        new BackgroundTask<>() {
-            @Override
-            public Object call() {
-                bibFieldsIndexer.updateEntry(event.getBibEntry(), event.getField());
-                return null;
-            }
-        }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(List.of(event.getBibEntry()))))
-         .executeWith(taskExecutor);
+        updateQueue.add(event);
+    }
 
-        if (shouldIndexLinkedFiles.get() && event.getField().equals(StandardField.FILE)) {
-            new BackgroundTask<>() {
-                @Override
-                public Object call() {
-                    linkedFilesIndexer.updateEntry(event.getBibEntry(), event.getOldValue(), event.getNewValue(), this);
-                    return null;
-                }
-            }.executeWith(taskExecutor);
+    private void applyFieldChanges(List<FieldChange> changes, BackgroundTask<?> task) {
+        bibFieldsSearcher.invalidateCache();
+        bibFieldsIndexer.updateEntries(changes);
+        bibFieldsSearcher.invalidateCache();
+        Map<String, BibEntry> changedEntries = new LinkedHashMap<>();
+        changes.forEach(change -> changedEntries.putIfAbsent(change.getEntry().getId(), change.getEntry()));
+        this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(new ArrayList<>(changedEntries.values())));
+
+        if (shouldIndexLinkedFiles.get()) {
+            List<FieldChange> fileChanges = changes.stream()
+                                                   .filter(change -> change.getField().equals(StandardField.FILE) && !Objects.equals(change.getOldValue(), change.getNewValue()))
+                                                   .toList();
+            if (!fileChanges.isEmpty()) {
+                linkedFilesIndexer.updateEntries(fileChanges, task);
+            }
         }
     }
 
@@ -190,6 +223,8 @@ public class IndexManager {
     }
 
     public void close() {
+        updateQueue.flush();
+        bibFieldsSearcher.close();
         bibFieldsIndexer.close();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.close();
@@ -197,6 +232,8 @@ public class IndexManager {
     }
 
     public void closeAndWait() {
+        updateQueue.flush();
+        bibFieldsSearcher.close();
         bibFieldsIndexer.closeAndWait();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.closeAndWait();
@@ -205,7 +242,11 @@ public class IndexManager {
 
     public SearchResults search(SearchQuery query) {
         List<Callable<SearchResults>> tasks = new ArrayList<>();
-        tasks.add(() -> bibFieldsSearcher.search(query));
+        if (isBibFieldsIndexReady) {
+            tasks.add(() -> bibFieldsSearcher.search(query));
+        } else {
+            tasks.add(() -> inMemoryBibFieldsSearcher.search(query));
+        }
 
         if (query.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
             tasks.add(() -> linkedFilesSearcher.search(query));
@@ -225,13 +266,69 @@ public class IndexManager {
         return searchResults;
     }
 
+    /**
+     * Passes the matches to the consumer while they are retrieved, without collecting all results first.
+     * The matches in the bib fields are passed first, followed by the matches in the linked files.
+     * An entry can be passed more than once, e.g., once per matching page of a linked file.
+     *
+     * @param limit    the maximum number of distinct entries to pass, {@link Integer#MAX_VALUE} for all
+     * @param consumer receives the matches on the calling thread; returning false stops the search
+     */
+    public void search(SearchQuery query, int limit, SearchResultConsumer consumer) {
+        LimitingConsumer limitingConsumer = new LimitingConsumer(limit, consumer);
+        if (isBibFieldsIndexReady) {
+            bibFieldsSearcher.search(query, limit, limitingConsumer);
+        } else {
+            inMemoryBibFieldsSearcher.search(query, limit, limitingConsumer);
+        }
+
+        if (!limitingConsumer.isStopped() && query.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
+            linkedFilesSearcher.search(query, limitingConsumer);
+        }
+    }
+
     /**
      * @implNote No need to check for full-text searches as this method only used by the search groups
      */
     public boolean isEntryMatched(BibEntry entry, SearchQuery query) {
+        if (!isBibFieldsIndexReady) {
+            return inMemoryBibFieldsSearcher.isMatched(entry, query);
+        }
         return bibFieldsSearcher.isMatched(entry, query);
     }
 
+    /**
+     * Stops the search as soon as the consumer does or a new entry would exceed the limit.
+     */
+    private static class LimitingConsumer implements SearchResultConsumer {
+        private final int limit;
+        private final SearchResultConsumer consumer;
+        private final Set<String> passedEntries = new HashSet<>();
+        private boolean isStopped;
+
+        LimitingConsumer(int limit, SearchResultConsumer consumer) {
+            this.limit = limit;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public boolean accept(String entryId, SearchResult result) {
+            if (!passedEntries.contains(entryId)) {
+                if (passedEntries.size() >= limit) {
+                    isStopped = true;
+                    return false;
+                }
+                passedEntries.add(entryId);
+            }
+            isStopped = !consumer.accept(entryId, result);
+            return !isStopped;
+        }
+
+        boolean isStopped() {
+            return isStopped;
+        }
+    }
+
     public static void clearOldSearchIndices() {
         Path currentIndexPath = Directories.getFulltextIndexBaseDirectory();
         Path appData = currentIndexPath.getParent();
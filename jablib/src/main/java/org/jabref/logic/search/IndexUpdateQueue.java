@@ -0,0 +1,121 @@
+package org.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.TaskExecutor;
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects field changes for the index and applies them in batches.
+ * <p>
+ * Bulk operations (cleanup, citation key generation, find and replace, ...) fire one {@link FieldChangedEvent} per changed field.
+ * Instead of updating the index for each of them, the changes are queued and flushed together once per time window.
+ * Repeated changes of the same field of the same entry within a window are collapsed into one change,
+ * keeping the old value of the first and the new value of the last change.
+ */
+public class IndexUpdateQueue {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexUpdateQueue.class);
+
+    /**
+     * Time window in milliseconds in which changes are collected before they are applied to the index.
+     */
+    public static final int DEFAULT_FLUSH_DELAY = 250;
+
+    private final TaskExecutor taskExecutor;
+    private final int flushDelay;
+    private final BiConsumer<List<FieldChange>, BackgroundTask<?>> flushAction;
+
+    // Keyed by entry id instead of entry, because the hash code of an entry changes with its fields
+    private final Map<FieldKey, FieldChange> pendingChanges = new LinkedHashMap<>();
+    private boolean isFlushScheduled;
+
+    private long receivedChanges;
+    private long flushedChanges;
+    private int maxQueueDepth;
+
+    /**
+     * @param flushAction applies the collected changes to the index. Called from a background task, which is passed as second argument.
+     */
+    public IndexUpdateQueue(TaskExecutor taskExecutor, int flushDelay, BiConsumer<List<FieldChange>, BackgroundTask<?>> flushAction) {
+        this.taskExecutor = taskExecutor;
+        this.flushDelay = flushDelay;
+        this.flushAction = flushAction;
+    }
+
+    public synchronized void add(FieldChangedEvent event) {
+        receivedChanges++;
+        pendingChanges.merge(new FieldKey(event.getBibEntry().getId(), event.getField()),
+                new FieldChange(event.getBibEntry(), event.getField(), event.getOldValue(), event.getNewValue()),
+                (queued, latest) -> new FieldChange(queued.getEntry(), queued.getField(), queued.getOldValue(), latest.getNewValue()));
+        maxQueueDepth = Math.max(maxQueueDepth, pendingChanges.size());
+
+        if (!isFlushScheduled) {
+            isFlushScheduled = true;
+            new BackgroundTask<>() {
+                @Override
+                public Object call() {
+                    flush(this);
+                    return null;
+                }
+            }.scheduleWith(taskExecutor, flushDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Applies all pending changes immediately on the calling thread.
+     */
+    public void flush() {
+        flush(BackgroundTask.wrap(() -> null));
+    }
+
+    private void flush(BackgroundTask<?> task) {
+        List<FieldChange> changes;
+        synchronized (this) {
+            isFlushScheduled = false;
+            if (pendingChanges.isEmpty()) {
+                return;
+            }
+            changes = new ArrayList<>(pendingChanges.values());
+            pendingChanges.clear();
+            flushedChanges += changes.size();
+        }
+        LOGGER.debug("Applying {} field changes to the index (coalescing ratio {})", changes.size(), getCoalescingRatio());
+        flushAction.accept(changes, task);
+    }
+
+    /**
+     * @return the number of changes currently waiting to be applied
+     */
+    public synchronized int getQueueDepth() {
+        return pendingChanges.size();
+    }
+
+    /**
+     * @return the largest number of changes that were waiting at the same time
+     */
+    public synchronized int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * @return the number of received changes per applied change, i.e., 1.0 if nothing could be collapsed
+     */
+    public synchronized double getCoalescingRatio() {
+        long appliedChanges = flushedChanges + pendingChanges.size();
+        return appliedChanges == 0 ? 1.0 : (double) receivedChanges / appliedChanges;
+    }
+
+    private record FieldKey(String entryId, Field field) {
+    }
+}
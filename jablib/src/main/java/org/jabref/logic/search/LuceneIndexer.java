@@ -1,8 +1,10 @@
 package org.jabref.logic.search;
 
+import java.io.IOException;
 import java.util.Collection;
 
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.FieldChange;
 import org.jabref.model.entry.BibEntry;
 
 import org.apache.lucene.search.SearcherManager;
@@ -16,12 +18,24 @@ public interface LuceneIndexer {
 
     void updateEntry(BibEntry entry, String oldValue, String newValue, BackgroundTask<?> task);
 
+    /**
+     * Updates the index for the given changes of the file field together, e.g., all changes collected by the {@link IndexUpdateQueue}.
+     */
+    void updateEntries(Collection<FieldChange> changes, BackgroundTask<?> task);
+
     void removeAllFromIndex();
 
     void rebuildIndex(BackgroundTask<?> task);
 
     SearcherManager getSearcherManager();
 
+    /**
+     * Makes the changes done to the index visible to the searcher of {@link #getSearcherManager()}.
+     */
+    default void refreshSearcher() throws IOException {
+        getSearcherManager().maybeRefreshBlocking();
+    }
+
     void close();
 
     void closeAndWait();
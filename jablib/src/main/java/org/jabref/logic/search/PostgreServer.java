@@ -1,14 +1,18 @@
 package org.jabref.logic.search;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
 
 import javax.sql.DataSource;
 
+import org.jabref.logic.search.indexing.BibFieldsIndexStore;
 import org.jabref.model.search.PostgreConstants;
 
 import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,16 +22,29 @@ public class PostgreServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgreServer.class);
     private final EmbeddedPostgres embeddedPostgres;
     private final DataSource dataSource;
+    private final boolean isPersistent;
 
+    /**
+     * Starts a server keeping its data in a temporary directory, which is removed on shutdown.
+     */
     public PostgreServer() {
-        EmbeddedPostgres embeddedPostgres;
-        try {
-            embeddedPostgres = EmbeddedPostgres.builder()
-                                               .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
-                                               .start();
-            LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
-        } catch (IOException e) {
-            LOGGER.error("Could not start Postgres server", e);
+        this(null);
+    }
+
+    /**
+     * Starts a server keeping its data in the given directory, so that the indexes of saved libraries can be reused in the next session.
+     * If the directory cannot be used (e.g., because another instance of JabRef uses it), a temporary directory is used instead.
+     */
+    public PostgreServer(@Nullable Path dataDirectory) {
+        EmbeddedPostgres embeddedPostgres = null;
+        if (dataDirectory != null) {
+            embeddedPostgres = start(dataDirectory);
+        }
+        this.isPersistent = embeddedPostgres != null;
+        if (embeddedPostgres == null) {
+            embeddedPostgres = start(null);
+        }
+        if (embeddedPostgres == null) {
             this.embeddedPostgres = null;
             this.dataSource = null;
             return;
@@ -40,12 +57,40 @@ public class PostgreServer {
         addFunctions();
     }
 
+    private static @Nullable EmbeddedPostgres start(@Nullable Path dataDirectory) {
+        try {
+            EmbeddedPostgres.Builder builder = EmbeddedPostgres.builder()
+                                                               .setOutputRedirector(ProcessBuilder.Redirect.DISCARD);
+            if (dataDirectory != null) {
+                Files.createDirectories(dataDirectory);
+                builder.setDataDirectory(dataDirectory)
+                       .setCleanDataDirectory(false);
+            }
+            EmbeddedPostgres embeddedPostgres = builder.start();
+            LOGGER.info("Postgres server started, connection port: {}, data directory: {}", embeddedPostgres.getPort(), dataDirectory == null ? "temporary" : dataDirectory);
+            return embeddedPostgres;
+        } catch (IOException | IllegalStateException e) {
+            // IllegalStateException: the data directory is locked by another server
+            if (dataDirectory != null) {
+                LOGGER.warn("Could not start Postgres server using data directory {}", dataDirectory, e);
+            } else {
+                LOGGER.error("Could not start Postgres server", e);
+            }
+            return null;
+        }
+    }
+
     private void createScheme() {
         try (Connection connection = getConnection()) {
             if (connection != null) {
                 LOGGER.debug("Creating scheme for bib fields");
-                connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
-                connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
+                if (isPersistent) {
+                    connection.createStatement().execute("CREATE SCHEMA IF NOT EXISTS " + BIB_FIELDS_SCHEME);
+                    BibFieldsIndexStore.setup(connection);
+                } else {
+                    connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
+                    connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
+                }
             }
         } catch (SQLException e) {
             LOGGER.error("Could not create scheme for bib fields", e);
@@ -87,6 +132,13 @@ public class PostgreServer {
         return null;
     }
 
+    /**
+     * @return true if the data is kept across sessions
+     */
+    public boolean isPersistent() {
+        return isPersistent;
+    }
+
     public void shutdown() {
         if (embeddedPostgres != null) {
             try {
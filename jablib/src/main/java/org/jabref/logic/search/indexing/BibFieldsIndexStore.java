@@ -0,0 +1,317 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.PostgreConstants;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jabref.model.search.PostgreConstants.BIB_FIELDS_SCHEME;
+import static org.jabref.model.search.PostgreConstants.CONTEXT_FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.ENTRIES_TABLE_SUFFIX;
+import static org.jabref.model.search.PostgreConstants.ENTRY_FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
+import static org.jabref.model.search.PostgreConstants.LIBRARIES_TABLE;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_PATH;
+import static org.jabref.model.search.PostgreConstants.MAIN_TABLE;
+import static org.jabref.model.search.PostgreConstants.POSITIONS_TABLE_SUFFIX;
+import static org.jabref.model.search.PostgreConstants.SPLIT_TABLE_SUFFIX;
+
+/**
+ * Keeps the tables of {@link BibFieldsIndexer} of saved libraries across sessions, if the Postgres server stores its data persistently.
+ * <p>
+ * When a library is closed, the fingerprint of each indexed entry is stored next to its tables, and the tables are registered for the library file.
+ * When the library is opened again, the rows of all entries with an unchanged fingerprint are copied from the stored tables, and only the remaining entries are indexed.
+ * The rows are copied instead of being used directly, because the entry ids are only unique within a session.
+ * <p>
+ * The rows of an entry also depend on the string constants of the library and the keyword separator.
+ * These are summarized in the context fingerprint. If it changed, the stored tables are not reused.
+ */
+public class BibFieldsIndexStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsIndexStore.class);
+
+    private final Connection connection;
+
+    public BibFieldsIndexStore(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Creates the table registering the stored indexes and removes the tables not belonging to any registered library, e.g., of unsaved libraries left over after a crash.
+     */
+    public static void setup(Connection connection) throws SQLException {
+        connection.createStatement().executeUpdate("""
+                CREATE TABLE IF NOT EXISTS %s (
+                    "%s" TEXT PRIMARY KEY,
+                    "%s" TEXT NOT NULL,
+                    "%s" TEXT NOT NULL
+                )
+                """.formatted(
+                PostgreConstants.getLibrariesTableSchemaReference(),
+                LIBRARY_PATH,
+                MAIN_TABLE,
+                CONTEXT_FINGERPRINT));
+
+        BibFieldsIndexStore store = new BibFieldsIndexStore(connection);
+        Set<String> registeredTables = new HashSet<>();
+        List<String> staleTables = new ArrayList<>();
+        try (ResultSet resultSet = connection.createStatement().executeQuery("""
+                SELECT "%s", "%s" FROM %s
+                """.formatted(LIBRARY_PATH, MAIN_TABLE, PostgreConstants.getLibrariesTableSchemaReference()))) {
+            while (resultSet.next()) {
+                if (Files.exists(Path.of(resultSet.getString(1)))) {
+                    registeredTables.add(resultSet.getString(2));
+                } else {
+                    staleTables.add(resultSet.getString(2));
+                }
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT tablename FROM pg_tables WHERE schemaname = ? AND tablename <> ?
+                """)) {
+            statement.setString(1, BIB_FIELDS_SCHEME.toString());
+            statement.setString(2, LIBRARIES_TABLE.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    String mainTable = resultSet.getString(1)
+                                                .replace(SPLIT_TABLE_SUFFIX.toString(), "")
+                                                .replace(ENTRIES_TABLE_SUFFIX.toString(), "")
+                                                .replace(POSITIONS_TABLE_SUFFIX.toString(), "");
+                    if (!registeredTables.contains(mainTable) && !staleTables.contains(mainTable)) {
+                        staleTables.add(mainTable);
+                    }
+                }
+            }
+        }
+        staleTables.forEach(store::remove);
+        LOGGER.debug("Removed {} stale indexes", staleTables.size());
+    }
+
+    /**
+     * @return the main table of the index stored for the given library, if it was created with the same context fingerprint
+     */
+    public Optional<String> findStoredTable(Path libraryPath, String contextFingerprint) {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT "%s", "%s" FROM %s WHERE "%s" = ?
+                """.formatted(MAIN_TABLE, CONTEXT_FINGERPRINT, PostgreConstants.getLibrariesTableSchemaReference(), LIBRARY_PATH))) {
+            statement.setString(1, libraryPath.toAbsolutePath().toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                String mainTable = resultSet.getString(1);
+                if (!contextFingerprint.equals(resultSet.getString(2))) {
+                    LOGGER.debug("String constants or keyword separator of {} changed, not reusing stored index", libraryPath);
+                    remove(mainTable);
+                    return Optional.empty();
+                }
+                return Optional.of(mainTable);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not look up stored index of {}", libraryPath, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the ids the entries had in the stored index, grouped by the fingerprint of the entry. Identical entries share a fingerprint.
+     */
+    public Map<String, Queue<String>> getStoredEntryIds(String mainTable) throws SQLException {
+        Map<String, Queue<String>> entryIds = new HashMap<>();
+        try (ResultSet resultSet = connection.createStatement().executeQuery("""
+                SELECT "%s", "%s" FROM %s
+                """.formatted(ENTRY_ID, ENTRY_FINGERPRINT, PostgreConstants.getEntriesTableSchemaReference(mainTable)))) {
+            while (resultSet.next()) {
+                entryIds.computeIfAbsent(resultSet.getString(2), _ -> new ArrayDeque<>()).add(resultSet.getString(1));
+            }
+        }
+        return entryIds;
+    }
+
+    /**
+     * Stores the fingerprints of the given entries next to the tables and registers the tables for the library.
+     * A previously stored index of the library is removed.
+     */
+    public void store(Path libraryPath, String mainTable, String contextFingerprint, Collection<BibEntry> entries) {
+        String libraryPathString = libraryPath.toAbsolutePath().toString();
+        String entriesTable = PostgreConstants.getEntriesTableSchemaReference(mainTable);
+        try {
+            findRegisteredTable(libraryPathString).filter(table -> !table.equals(mainTable)).ifPresent(this::remove);
+
+            connection.setAutoCommit(false);
+            try {
+                connection.createStatement().executeUpdate("""
+                        DROP TABLE IF EXISTS %s
+                        """.formatted(entriesTable));
+                connection.createStatement().executeUpdate("""
+                        CREATE TABLE %s (
+                            "%s" TEXT NOT NULL,
+                            "%s" TEXT NOT NULL
+                        )
+                        """.formatted(entriesTable, ENTRY_ID, ENTRY_FINGERPRINT));
+
+                PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), """
+                        COPY %s ("%s", "%s") FROM STDIN
+                        """.formatted(entriesTable, ENTRY_ID, ENTRY_FINGERPRINT));
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8))) {
+                    for (BibEntry entry : entries) {
+                        Optional<String> fingerprint = getFingerprint(entry);
+                        if (fingerprint.isPresent()) {
+                            writer.write(entry.getId() + '\t' + fingerprint.get() + '\n');
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new SQLException("Could not copy fingerprints to " + entriesTable, e);
+                }
+
+                // Entries not (completely) indexed, e.g., because indexing was canceled, must not be reused
+                connection.createStatement().executeUpdate("""
+                        DELETE FROM %s entries
+                        WHERE NOT EXISTS (SELECT 1 FROM %s main WHERE main."%s" = entries."%s")
+                        """.formatted(entriesTable, PostgreConstants.getMainTableSchemaReference(mainTable), ENTRY_ID, ENTRY_ID));
+
+                try (PreparedStatement statement = connection.prepareStatement("""
+                        INSERT INTO %s ("%s", "%s", "%s") VALUES (?, ?, ?)
+                        ON CONFLICT ("%s") DO UPDATE SET "%s" = EXCLUDED."%s", "%s" = EXCLUDED."%s"
+                        """.formatted(
+                        PostgreConstants.getLibrariesTableSchemaReference(),
+                        LIBRARY_PATH, MAIN_TABLE, CONTEXT_FINGERPRINT,
+                        LIBRARY_PATH,
+                        MAIN_TABLE, MAIN_TABLE,
+                        CONTEXT_FINGERPRINT, CONTEXT_FINGERPRINT))) {
+                    statement.setString(1, libraryPathString);
+                    statement.setString(2, mainTable);
+                    statement.setString(3, contextFingerprint);
+                    statement.executeUpdate();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            LOGGER.debug("Stored index of {} in {}", libraryPath, mainTable);
+        } catch (SQLException e) {
+            LOGGER.error("Could not store index of {}", libraryPath, e);
+            remove(mainTable);
+        }
+    }
+
+    private Optional<String> findRegisteredTable(String libraryPath) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT "%s" FROM %s WHERE "%s" = ?
+                """.formatted(MAIN_TABLE, PostgreConstants.getLibrariesTableSchemaReference(), LIBRARY_PATH))) {
+            statement.setString(1, libraryPath);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Optional.of(resultSet.getString(1)) : Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Drops the tables of the given index and removes its registration.
+     */
+    public void remove(String mainTable) {
+        try {
+            connection.createStatement().executeUpdate("""
+                    DROP TABLE IF EXISTS %s, %s, %s, %s
+                    """.formatted(
+                    PostgreConstants.getMainTableSchemaReference(mainTable),
+                    PostgreConstants.getSplitTableSchemaReference(mainTable),
+                    PostgreConstants.getEntriesTableSchemaReference(mainTable),
+                    PostgreConstants.getPositionsTableSchemaReference(mainTable)));
+            try (PreparedStatement statement = connection.prepareStatement("""
+                    DELETE FROM %s WHERE "%s" = ?
+                    """.formatted(PostgreConstants.getLibrariesTableSchemaReference(), MAIN_TABLE))) {
+                statement.setString(1, mainTable);
+                statement.executeUpdate();
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not remove index {}", mainTable, e);
+        }
+    }
+
+    /**
+     * Summarizes the type and fields of an entry.
+     *
+     * @return empty if the rows of the entry depend on other entries (crossref, xdata), so that they cannot be reused even if the entry itself did not change
+     */
+    public static Optional<String> getFingerprint(BibEntry entry) {
+        if (entry.hasField(StandardField.CROSSREF) || entry.hasField(StandardField.XDATA)) {
+            return Optional.empty();
+        }
+        MessageDigest digest = getDigest();
+        update(digest, entry.getType().getName());
+        entry.getFieldMap().entrySet().stream()
+             .sorted(Comparator.comparing((Map.Entry<Field, String> field) -> field.getKey().getName()))
+             .forEach(field -> {
+                 update(digest, field.getKey().getName());
+                 update(digest, field.getValue());
+             });
+        return Optional.of(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Summarizes everything besides the entry itself the rows of an entry depend on.
+     */
+    public static String getContextFingerprint(BibDatabase database, Character keywordSeparator) {
+        MessageDigest digest = getDigest();
+        update(digest, String.valueOf(keywordSeparator));
+        database.getStringValues().stream()
+                .sorted(Comparator.comparing(BibtexString::getName))
+                .forEach(string -> {
+                    update(digest, string.getName());
+                    update(digest, string.getContent());
+                });
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // separator, so that "ab" + "c" differs from "a" + "bc"
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
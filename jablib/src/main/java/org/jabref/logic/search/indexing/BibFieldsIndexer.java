@@ -1,35 +1,43 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryPreferences;
-import org.jabref.model.entry.KeywordList;
 import org.jabref.model.entry.field.Field;
-import org.jabref.model.entry.field.FieldProperty;
-import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.PostgreConstants;
 
 import io.github.thibaultmeyer.cuid.CUID;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
 import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
+import static org.jabref.model.search.PostgreConstants.ENTRY_POSITION;
 import static org.jabref.model.search.PostgreConstants.FIELD_NAME;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_LITERAL;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_TRANSFORMED;
@@ -37,9 +45,11 @@ import static org.jabref.model.search.PostgreConstants.SPLIT_TABLE_SUFFIX;
 
 public class BibFieldsIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsIndexer.class);
-    private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
-    private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
-    private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
+
+    /**
+     * Number of entries from which on {@link #addToIndex(Collection, BackgroundTask)} streams the rows using the PostgreSQL COPY protocol instead of inserting them entry by entry.
+     */
+    private static final int BULK_LOAD_THRESHOLD = 1000;
 
     private final BibDatabaseContext databaseContext;
     private final Connection connection;
@@ -48,12 +58,34 @@ public class BibFieldsIndexer {
     private final String schemaMainTableReference;
     private final String splitValuesTable;
     private final String schemaSplitValuesTableReference;
+    private final String schemaPositionsTableReference;
+    private final BibFieldsRows rows;
     private final Character keywordSeparator;
+    private final boolean keepIndex;
+    private final BibFieldsIndexStore indexStore;
+
+    // The indexer has one connection, which is used by several background tasks at the same time.
+    // A statement sent while another task has a transaction open would become part of that transaction, thus all statements are sent while holding this lock.
+    private final Object connectionLock = new Object();
+
+    // Positions handed out by assignPositions, which are not yet stored in the positions table
+    private final Map<String, Long> pendingPositions = new ConcurrentHashMap<>();
+    private final AtomicLong nextPosition = new AtomicLong();
 
     public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection) {
+        this(bibEntryPreferences, databaseContext, connection, false);
+    }
+
+    /**
+     * @param keepIndex if true, the index of a saved library is kept when closing the library and reused when opening it again (see {@link BibFieldsIndexStore})
+     */
+    public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection, boolean keepIndex) {
         this.databaseContext = databaseContext;
         this.connection = connection;
         this.keywordSeparator = bibEntryPreferences.getKeywordSeparator();
+        this.rows = new BibFieldsRows(databaseContext, keywordSeparator);
+        this.keepIndex = keepIndex;
+        this.indexStore = new BibFieldsIndexStore(connection);
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
 
         this.mainTable = CUID.randomCUID2(12).toString();
@@ -61,12 +93,14 @@ public class BibFieldsIndexer {
 
         this.schemaMainTableReference = PostgreConstants.getMainTableSchemaReference(mainTable);
         this.schemaSplitValuesTableReference = PostgreConstants.getSplitTableSchemaReference(mainTable);
+        this.schemaPositionsTableReference = PostgreConstants.getPositionsTableSchemaReference(mainTable);
         // TODO: Set-up should be in a background task
         setup();
     }
 
     /**
-     * Creates a table for the library in the database, and sets up indexes on the columns.
+     * Creates a table for the library in the database.
+     * The indexes on the columns are created by {@link #updateOnStart(BackgroundTask)} after the initial load, because maintaining them row by row slows down the load considerably.
      */
     private void setup() {
         try {
@@ -100,71 +134,364 @@ public class BibFieldsIndexer {
                     FIELD_VALUE_LITERAL,
                     FIELD_VALUE_TRANSFORMED));
 
+            connection.createStatement().executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS %s (
+                        %s TEXT PRIMARY KEY,
+                        %s BIGINT NOT NULL
+                    )
+                    """.formatted(
+                    schemaPositionsTableReference,
+                    ENTRY_ID,
+                    ENTRY_POSITION));
+
             LOGGER.debug("Created tables for library: {}", libraryName);
         } catch (SQLException e) {
             LOGGER.error("Could not create tables for library: {}", libraryName, e);
         }
-        try {
-            // region btree index on id column
-            connection.createStatement().executeUpdate("""
-                    CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s ("%s")
-                    """.formatted(
-                    mainTable, ENTRY_ID,
-                    schemaMainTableReference,
-                    ENTRY_ID));
+    }
 
-            connection.createStatement().executeUpdate("""
-                    CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s ("%s")
-                    """.formatted(
-                    splitValuesTable, ENTRY_ID,
-                    schemaSplitValuesTableReference,
-                    ENTRY_ID));
-            // endregion
+    /**
+     * Sets up indexes on the columns.
+     */
+    private void createIndexes() {
+        synchronized (connectionLock) {
+            try {
+                // region btree index on id column
+                connection.createStatement().executeUpdate("""
+                        CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s ("%s")
+                        """.formatted(
+                        mainTable, ENTRY_ID,
+                        schemaMainTableReference,
+                        ENTRY_ID));
+
+                connection.createStatement().executeUpdate("""
+                        CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s ("%s")
+                        """.formatted(
+                        splitValuesTable, ENTRY_ID,
+                        schemaSplitValuesTableReference,
+                        ENTRY_ID));
+                // endregion
 
-            // region btree index on field name column
-            connection.createStatement().executeUpdate("""
-                    CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s ("%s")
-                    """.formatted(
-                    mainTable, FIELD_NAME,
-                    schemaMainTableReference,
-                    FIELD_NAME));
+                // region btree index on field name column
+                connection.createStatement().executeUpdate("""
+                        CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s ("%s")
+                        """.formatted(
+                        mainTable, FIELD_NAME,
+                        schemaMainTableReference,
+                        FIELD_NAME));
+
+                connection.createStatement().executeUpdate("""
+                        CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s ("%s")
+                        """.formatted(
+                        splitValuesTable, FIELD_NAME,
+                        schemaSplitValuesTableReference,
+                        FIELD_NAME));
+                // endregion
 
-            connection.createStatement().executeUpdate("""
-                    CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s ("%s")
-                    """.formatted(
-                    splitValuesTable, FIELD_NAME,
-                    schemaSplitValuesTableReference,
-                    FIELD_NAME));
-            // endregion
+                // trigram index on field value column
+                connection.createStatement().executeUpdate("""
+                        CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s USING gin ("%s" gin_trgm_ops, "%s" gin_trgm_ops)
+                        """.formatted(
+                        mainTable, FIELD_VALUE_LITERAL,
+                        schemaMainTableReference,
+                        FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED));
+
+                // region btree index on spilt table
+                connection.createStatement().executeUpdate("""
+                        CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s ("%s", "%s")
+                        """.formatted(
+                        splitValuesTable, FIELD_VALUE_LITERAL,
+                        schemaSplitValuesTableReference,
+                        FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED));
+                // endregion
 
-            // trigram index on field value column
-            connection.createStatement().executeUpdate("""
-                    CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s USING gin ("%s" gin_trgm_ops, "%s" gin_trgm_ops)
-                    """.formatted(
-                    mainTable, FIELD_VALUE_LITERAL,
-                    schemaMainTableReference,
-                    FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED));
+                LOGGER.debug("Created indexes for library: {}", libraryName);
+            } catch (SQLException e) {
+                LOGGER.error("Could not create indexes for library: {}", libraryName, e);
+            }
+        }
+    }
+
+    public void updateOnStart(BackgroundTask<?> task) {
+        try {
+            insertPositions(databaseContext.getDatabase().getEntries());
+            Optional<String> storedTable = Optional.empty();
+            if (keepIndex) {
+                synchronized (connectionLock) {
+                    storedTable = databaseContext.getDatabasePath().flatMap(path -> indexStore.findStoredTable(path, getContextFingerprint()));
+                }
+            }
+            if (storedTable.isPresent()) {
+                reuseStoredIndex(storedTable.get(), task);
+            } else {
+                bulkLoadRows(databaseContext.getDatabase().getEntries(), task);
+            }
+        } finally {
+            createIndexes();
+        }
+    }
+
+    /**
+     * Copies the rows of all unchanged entries from the index stored in a previous session and indexes the remaining entries.
+     * The stored index is removed afterward.
+     */
+    private void reuseStoredIndex(String storedTable, BackgroundTask<?> task) {
+        long startTime = System.currentTimeMillis();
+        List<BibEntry> entries = databaseContext.getDatabase().getEntries();
+        List<BibEntry> changedEntries = new ArrayList<>();
+        synchronized (connectionLock) {
+            try {
+                Map<String, Queue<String>> storedEntryIds = indexStore.getStoredEntryIds(storedTable);
+                Map<String, String> entryIdMapping = new HashMap<>();
+                for (BibEntry entry : entries) {
+                    Optional<String> storedId = BibFieldsIndexStore.getFingerprint(entry)
+                                                                   .map(storedEntryIds::get)
+                                                                   .map(Queue::poll);
+                    if (storedId.isPresent()) {
+                        entryIdMapping.put(storedId.get(), entry.getId());
+                    } else {
+                        changedEntries.add(entry);
+                    }
+                }
+                copyStoredRows(storedTable, entryIdMapping);
+                LOGGER.debug("Reused index of {} entries in {} ms, {} entries need to be indexed", entryIdMapping.size(), System.currentTimeMillis() - startTime, changedEntries.size());
+            } catch (SQLException | UncheckedIOException e) {
+                LOGGER.warn("Could not reuse stored index for library: {}, indexing all entries", libraryName, e);
+                changedEntries = entries;
+            } finally {
+                indexStore.remove(storedTable);
+            }
+        }
+        addRows(changedEntries, task);
+    }
 
-            // region btree index on spilt table
+    private void copyStoredRows(String storedTable, Map<String, String> entryIdMapping) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
             connection.createStatement().executeUpdate("""
-                    CREATE INDEX IF NOT EXISTS "%s_%s_index" ON %s ("%s", "%s")
-                    """.formatted(
-                    splitValuesTable, FIELD_VALUE_LITERAL,
-                    schemaSplitValuesTableReference,
-                    FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED));
-            // endregion
+                    CREATE TEMPORARY TABLE entry_id_mapping (stored_id TEXT PRIMARY KEY, current_id TEXT NOT NULL) ON COMMIT DROP
+                    """);
+            PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), "COPY entry_id_mapping FROM STDIN");
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8))) {
+                for (Map.Entry<String, String> mapping : entryIdMapping.entrySet()) {
+                    writer.write(escapeCopyValue(mapping.getKey()) + '\t' + escapeCopyValue(mapping.getValue()) + '\n');
+                }
+            } catch (IOException e) {
+                throw new SQLException("Could not copy entry ids", e);
+            }
 
-            LOGGER.debug("Created indexes for library: {}", libraryName);
+            insertStoredRows(schemaMainTableReference, PostgreConstants.getMainTableSchemaReference(storedTable));
+            insertStoredRows(schemaSplitValuesTableReference, PostgreConstants.getSplitTableSchemaReference(storedTable));
+            connection.commit();
         } catch (SQLException e) {
-            LOGGER.error("Could not create indexes for library: {}", libraryName, e);
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
         }
     }
 
-    public void updateOnStart(BackgroundTask<?> task) {
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+    /**
+     * Inserts the stored rows of the mapped entries, replacing the stored entry ids by the ids of the entries in this session.
+     */
+    private void insertStoredRows(String tableReference, String storedTableReference) throws SQLException {
+        connection.createStatement().executeUpdate("""
+                INSERT INTO %s ("%s", "%s", "%s", "%s")
+                SELECT mapping.current_id, stored."%s", stored."%s", stored."%s"
+                FROM %s stored JOIN entry_id_mapping mapping ON stored."%s" = mapping.stored_id
+                """.formatted(
+                tableReference,
+                ENTRY_ID, FIELD_NAME, FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED,
+                FIELD_NAME, FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED,
+                storedTableReference,
+                ENTRY_ID));
+    }
+
+    private String getContextFingerprint() {
+        return BibFieldsIndexStore.getContextFingerprint(databaseContext.getDatabase(), keywordSeparator);
+    }
+
+    /**
+     * Hands out the positions of the given entries in the library. To be called when the entries are added to the library.
+     * Entries are only appended to a library, thus the positions ascend in the order the entries are added.
+     * The entries are indexed later by background tasks, which might run in a different order.
+     * Entries without a handed out position get the next one when they are indexed.
+     */
+    public void assignPositions(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            pendingPositions.putIfAbsent(entry.getId(), nextPosition.getAndIncrement());
+        }
+    }
+
+    /**
+     * Stores the positions of the given entries in the library. Entries already having a stored position keep it.
+     */
+    private void insertPositions(Collection<BibEntry> entries) {
+        String[] entryIds = new String[entries.size()];
+        Long[] positions = new Long[entries.size()];
+        int i = 0;
+        for (BibEntry entry : entries) {
+            entryIds[i] = entry.getId();
+            Long position = pendingPositions.remove(entry.getId());
+            positions[i] = position != null ? position : nextPosition.getAndIncrement();
+            i++;
+        }
+        synchronized (connectionLock) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                    INSERT INTO %s ("%s", "%s")
+                    SELECT * FROM unnest(?::text[], ?::bigint[])
+                    ON CONFLICT ("%s") DO NOTHING
+                    """.formatted(schemaPositionsTableReference, ENTRY_ID, ENTRY_POSITION, ENTRY_ID))) {
+                preparedStatement.setArray(1, connection.createArrayOf("text", entryIds));
+                preparedStatement.setArray(2, connection.createArrayOf("bigint", positions));
+                preparedStatement.executeUpdate();
+            } catch (SQLException e) {
+                LOGGER.error("Could not store the positions of the entries in the index.", e);
+            }
+        }
     }
 
     public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        insertPositions(entries);
+        addRows(entries, task);
+    }
+
+    private void addRows(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        if (entries.size() >= BULK_LOAD_THRESHOLD) {
+            bulkLoadRows(entries, task);
+        } else {
+            addToIndexPerEntry(entries, task);
+        }
+    }
+
+    /**
+     * Adds the entries to the index in one transaction, streaming the rows of both tables through the PostgreSQL COPY protocol.
+     * If the bulk load fails, the entries are added one by one.
+     */
+    public void bulkLoad(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        insertPositions(entries);
+        bulkLoadRows(entries, task);
+    }
+
+    private void bulkLoadRows(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        if (entries.size() > 1) {
+            task.showToUser(true);
+            task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+        }
+        long startTime = System.currentTimeMillis();
+        LOGGER.debug("Bulk loading {} entries to index", entries.size());
+        try {
+            if (!copyToIndex(entries, task)) {
+                LOGGER.debug("Indexing canceled");
+                return;
+            }
+        } catch (SQLException | UncheckedIOException e) {
+            LOGGER.warn("Could not bulk load entries to index, adding them one by one", e);
+            addToIndexPerEntry(entries, task);
+            return;
+        }
+        task.updateProgress(entries.size(), entries.size());
+        task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", entries.size(), entries.size()));
+        LOGGER.debug("Bulk loaded {} entries to index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * @return false if the task was cancelled and nothing was added
+     */
+    private boolean copyToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) throws SQLException {
+        synchronized (connectionLock) {
+            connection.setAutoCommit(false);
+            try {
+                // Only one COPY can be in progress on a connection, therefore the entries are traversed once per table
+                copyRows(schemaMainTableReference, entries, rows::addMainRows, task, 0);
+                copyRows(schemaSplitValuesTableReference, entries, rows::addSplitRows, task, entries.size());
+                if (task.isCancelled()) {
+                    connection.rollback();
+                    return false;
+                }
+                connection.commit();
+                return true;
+            } catch (SQLException | UncheckedIOException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private void copyRows(String tableReference, Collection<BibEntry> entries, RowProducer rowProducer, BackgroundTask<?> task, int progressOffset) throws SQLException {
+        String copyQuery = """
+                COPY %s ("%s", "%s", "%s", "%s") FROM STDIN
+                """.formatted(
+                tableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED);
+
+        PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), copyQuery);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8))) {
+            BibFieldsRows.RowSink sink = (entryId, field, value, normalized) -> writeCopyRow(writer, entryId, field, value, normalized);
+            int i = 1;
+            for (BibEntry entry : entries) {
+                if (task.isCancelled()) {
+                    // The transaction is rolled back afterwards
+                    break;
+                }
+                rowProducer.addRows(entry, sink);
+                if (i % 100 == 0) {
+                    task.updateProgress(progressOffset + i, entries.size() * 2);
+                }
+                i++;
+            }
+        } catch (IOException e) {
+            throw new SQLException("Could not copy rows to " + tableReference, e);
+        }
+    }
+
+    /**
+     * Writes a row in the text format of COPY: columns separated by tabs, one row per line.
+     */
+    private static void writeCopyRow(Writer writer, String entryId, Field field, String value, String normalized) {
+        try {
+            writer.write(escapeCopyValue(entryId));
+            writer.write('\t');
+            writer.write(escapeCopyValue(field.getName()));
+            writer.write('\t');
+            writer.write(escapeCopyValue(value));
+            writer.write('\t');
+            writer.write(escapeCopyValue(normalized));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escapes the characters having a special meaning in the text format of COPY.
+     */
+    static String escapeCopyValue(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' ->
+                        result.append("\\\\");
+                case '\t' ->
+                        result.append("\\t");
+                case '\n' ->
+                        result.append("\\n");
+                case '\r' ->
+                        result.append("\\r");
+                default ->
+                        result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private void addToIndexPerEntry(Collection<BibEntry> entries, BackgroundTask<?> task) {
         if (entries.size() > 1) {
             task.showToUser(true);
             task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
@@ -206,55 +533,17 @@ public class BibFieldsIndexer {
                 FIELD_VALUE_LITERAL,
                 FIELD_VALUE_TRANSFORMED);
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
-             PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
-            String entryId = bibEntry.getId();
-            for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
-                Field field = fieldPair.getKey();
-                String value = fieldPair.getValue();
-
-                // If a field exists, there also exists a resolved field latex free.
-                // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
-                // To uncover these flaws, we add the "assert" statement.
-                // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
-                // Skip indexing of date-related fields separately to ensure proper handling later in the process.
-                if (!DATE_FIELDS.contains(field)) {
-                    Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                    assert resolvedFieldLatexFree.isPresent();
-                    addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
-                }
-                // region Handling of known multi-value fields
-                // split and convert to Unicode
-                if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                    addAuthors(value, preparedStatementSplitValues, entryId, field);
-                } else if (field == StandardField.KEYWORDS) {
-                    addKeywords(value, preparedStatementSplitValues, entryId, field, keywordSeparator);
-                } else if (field == StandardField.GROUPS) {
-                    addGroups(value, preparedStatementSplitValues, entryId, field);
-                } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                    addEntryLinks(bibEntry, field, preparedStatementSplitValues, entryId);
-                } else if (field == StandardField.FILE) {
-                    // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-                    // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
-                    // The use case to search for file names seems pretty seldom, therefore we omit it.
-                } else {
-                    // No other multi-value fields are known
-                    // No action needed -> main table has the value
-                }
-                // endregion
-            }
-            // ensure all date-related fields are indexed.
-            for (Field dateField : DATE_FIELDS) {
-                Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-            }
-            // add entry type
-            addBatch(preparedStatement, entryId, TYPE_HEADER, bibEntry.getType().getName());
+        synchronized (connectionLock) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
+                 PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
+                rows.addMainRows(bibEntry, (entryId, field, value, normalized) -> addBatch(preparedStatement, entryId, field, value, normalized));
+                rows.addSplitRows(bibEntry, (entryId, field, value, normalized) -> addBatch(preparedStatementSplitValues, entryId, field, value, normalized));
 
-            preparedStatement.executeBatch();
-            preparedStatementSplitValues.executeBatch();
-        } catch (SQLException e) {
-            LOGGER.error("Could not add an entry to the index.", e);
+                preparedStatement.executeBatch();
+                preparedStatementSplitValues.executeBatch();
+            } catch (SQLException e) {
+                LOGGER.error("Could not add an entry to the index.", e);
+            }
         }
     }
 
@@ -277,29 +566,55 @@ public class BibFieldsIndexer {
     }
 
     private void removeFromIndex(BibEntry entry) {
-        try {
-            connection.createStatement().executeUpdate("""
-                    DELETE FROM %s
-                    WHERE "%s" = '%s'
-                    """.formatted(schemaMainTableReference, ENTRY_ID, entry.getId()));
-            connection.createStatement().executeUpdate("""
-                    DELETE FROM %s
-                    WHERE "%s" = '%s'
-                    """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entry.getId()));
-            LOGGER.debug("Entry {} removed from index", entry.getId());
-        } catch (SQLException e) {
-            LOGGER.error("Error deleting entry from index", e);
+        synchronized (connectionLock) {
+            try {
+                connection.createStatement().executeUpdate("""
+                        DELETE FROM %s
+                        WHERE "%s" = '%s'
+                        """.formatted(schemaMainTableReference, ENTRY_ID, entry.getId()));
+                connection.createStatement().executeUpdate("""
+                        DELETE FROM %s
+                        WHERE "%s" = '%s'
+                        """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entry.getId()));
+                connection.createStatement().executeUpdate("""
+                        DELETE FROM %s
+                        WHERE "%s" = '%s'
+                        """.formatted(schemaPositionsTableReference, ENTRY_ID, entry.getId()));
+                LOGGER.debug("Entry {} removed from index", entry.getId());
+            } catch (SQLException e) {
+                LOGGER.error("Error deleting entry from index", e);
+            }
         }
     }
 
-    public void updateEntry(BibEntry entry, Field field) {
-        synchronized (entry.getId()) {
-            removeField(entry, field);
-            insertField(entry, field);
+    /**
+     * Updates the given fields in one transaction. If updating one of the fields fails, none of the fields is updated.
+     */
+    public void updateEntries(Collection<FieldChange> changes) {
+        synchronized (connectionLock) {
+            try {
+                connection.setAutoCommit(false);
+                try {
+                    for (FieldChange change : changes) {
+                        removeField(change.getEntry(), change.getField());
+                        insertField(change.getEntry(), change.getField());
+                    }
+                    connection.commit();
+                } catch (SQLException e) {
+                    // A failed statement aborts the transaction, committing it would silently discard all updates
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+                LOGGER.debug("Updated {} fields in index", changes.size());
+            } catch (SQLException e) {
+                LOGGER.error("Could not update {} fields in index", changes.size(), e);
+            }
         }
     }
 
-    private void insertField(BibEntry entry, Field field) {
+    private void insertField(BibEntry entry, Field field) throws SQLException {
         String insertFieldQuery = """
                 INSERT INTO %s ("%s", "%s", "%s", "%s")
                 VALUES (?, ?, ?, ?)
@@ -329,15 +644,10 @@ public class BibFieldsIndexer {
                 FIELD_VALUE_TRANSFORMED, FIELD_VALUE_TRANSFORMED);
 
         String entryId = entry.getId();
-        if (DATE_FIELDS.contains(field)) {
+        if (BibFieldsRows.DATE_FIELDS.contains(field)) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(insertDateFieldQuery)) {
-                for (Field dateField : DATE_FIELDS) {
-                    Optional<String> resolvedDateValue = entry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                    resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-                }
+                rows.addDateRows(entry, (id, dateField, value, normalized) -> addBatch(preparedStatement, id, dateField, value, normalized));
                 preparedStatement.executeBatch();
-            } catch (SQLException e) {
-                LOGGER.error("Could not add an entry to the index.", e);
             }
         } else {
             try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery)) {
@@ -347,8 +657,6 @@ public class BibFieldsIndexer {
                 assert resolvedFieldLatexFree.isPresent();
                 addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
                 preparedStatement.executeBatch();
-            } catch (SQLException e) {
-                LOGGER.error("Could not add an entry to the index.", e);
             }
         }
 
@@ -364,38 +672,21 @@ public class BibFieldsIndexer {
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertIntoSplitTable)) {
             String value = entry.getField(field).orElse("");
-
-            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                addAuthors(value, preparedStatement, entryId, field);
-            } else if (field == StandardField.KEYWORDS) {
-                addKeywords(value, preparedStatement, entryId, field, keywordSeparator);
-            } else if (field == StandardField.GROUPS) {
-                addGroups(value, preparedStatement, entryId, field);
-            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                addEntryLinks(entry, field, preparedStatement, entryId);
-            } else if (field == StandardField.FILE) {
-                // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-            }
+            rows.addSplitRows(entry, field, value, (id, splitField, literal, normalized) -> addBatch(preparedStatement, id, splitField, literal, normalized));
             preparedStatement.executeBatch();
-        } catch (SQLException e) {
-            LOGGER.error("Could not add an entry to the index.", e);
         }
     }
 
-    private void removeField(BibEntry entry, Field field) {
-        try {
-            connection.createStatement().executeUpdate("""
-                    DELETE FROM %s
-                    WHERE "%s" = '%s' AND "%s" = '%s'
-                    """.formatted(schemaMainTableReference, ENTRY_ID, entry.getId(), FIELD_NAME, field.getName()));
-            connection.createStatement().executeUpdate("""
-                    DELETE FROM %s
-                    WHERE "%s" = '%s' AND "%s" = '%s'
-                    """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entry.getId(), FIELD_NAME, field.getName()));
-            LOGGER.debug("Field {} removed from entry {} in index", field.getName(), entry.getId());
-        } catch (SQLException e) {
-            LOGGER.error("Error deleting field from entry in index", e);
-        }
+    private void removeField(BibEntry entry, Field field) throws SQLException {
+        connection.createStatement().executeUpdate("""
+                DELETE FROM %s
+                WHERE "%s" = '%s' AND "%s" = '%s'
+                """.formatted(schemaMainTableReference, ENTRY_ID, entry.getId(), FIELD_NAME, field.getName()));
+        connection.createStatement().executeUpdate("""
+                DELETE FROM %s
+                WHERE "%s" = '%s' AND "%s" = '%s'
+                """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entry.getId(), FIELD_NAME, field.getName()));
+        LOGGER.debug("Field {} removed from entry {} in index", field.getName(), entry.getId());
     }
 
     public void close() {
@@ -407,17 +698,29 @@ public class BibFieldsIndexer {
     }
 
     private void closeIndex() {
-        try {
-            LOGGER.debug("Closing connection to Postgres server for library: {}", libraryName);
-            connection.createStatement().executeUpdate("""
-                        DROP TABLE IF EXISTS %s
-                        """.formatted(schemaMainTableReference));
-            connection.createStatement().executeUpdate("""
-                        DROP TABLE IF EXISTS %s
-                        """.formatted(schemaSplitValuesTableReference));
-            connection.close();
-        } catch (SQLException e) {
-            LOGGER.error("Could not drop table for library: {}", libraryName, e);
+        synchronized (connectionLock) {
+            try {
+                LOGGER.debug("Closing connection to Postgres server for library: {}", libraryName);
+                // The positions are handed out again in the next session
+                connection.createStatement().executeUpdate("""
+                            DROP TABLE IF EXISTS %s
+                            """.formatted(schemaPositionsTableReference));
+                Optional<Path> libraryPath = keepIndex ? databaseContext.getDatabasePath() : Optional.empty();
+                if (libraryPath.isPresent()) {
+                    indexStore.store(libraryPath.get(), mainTable, getContextFingerprint(), databaseContext.getDatabase().getEntries());
+                    connection.close();
+                    return;
+                }
+                connection.createStatement().executeUpdate("""
+                            DROP TABLE IF EXISTS %s
+                            """.formatted(schemaMainTableReference));
+                connection.createStatement().executeUpdate("""
+                            DROP TABLE IF EXISTS %s
+                            """.formatted(schemaSplitValuesTableReference));
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.error("Could not drop table for library: {}", libraryName, e);
+            }
         }
     }
 
@@ -425,41 +728,6 @@ public class BibFieldsIndexer {
         return mainTable;
     }
 
-    private void addEntryLinks(BibEntry bibEntry, Field field, PreparedStatement preparedStatementSplitValues, String entryId) {
-        bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
-            .distinct()
-            .forEach(link -> addBatch(preparedStatementSplitValues, entryId, field, link.getKey()));
-    }
-
-    private static void addGroups(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
-        // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
-        Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
-              .distinct()
-              .forEach(group -> addBatch(preparedStatementSplitValues, entryId, field, group));
-    }
-
-    private static void addKeywords(String keywordsString, PreparedStatement preparedStatementSplitValues, String entryId, Field field, Character keywordSeparator) {
-        KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
-        keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
-            String value = keyword.toString();
-            addBatch(preparedStatementSplitValues, entryId, field, value);
-        });
-    }
-
-    private static void addAuthors(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
-        AuthorList.parse(value).getAuthors().forEach(author -> {
-            // Author object does not support literal values
-            // We use the method giving us the most complete information for the literal value;
-            String literal = author.getGivenFamily(false);
-            String transformed = author.latexFree().getGivenFamily(false);
-            addBatch(preparedStatementSplitValues, entryId, field, literal, transformed);
-        });
-    }
-
-    private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value) {
-        addBatch(preparedStatement, entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
-    }
-
     /**
      * The values are passed as they should be inserted into the database table
      */
@@ -474,4 +742,9 @@ public class BibFieldsIndexer {
             LOGGER.error("Could not add field {} having value {} of entry {} to the index.", field.getName(), value, entryId, e);
         }
     }
+
+    @FunctionalInterface
+    private interface RowProducer {
+        void addRows(BibEntry entry, BibFieldsRows.RowSink sink);
+    }
 }
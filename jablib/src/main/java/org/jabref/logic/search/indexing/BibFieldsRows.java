@@ -0,0 +1,154 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.KeywordList;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
+
+/**
+ * Produces the rows stored by {@link BibFieldsIndexer} for an entry.
+ * <p>
+ * The main table holds one row per field, the split values table one row per value of a multi-value field (authors, keywords, groups, entry links).
+ * Each row consists of the entry id, the field, the literal value and the value transformed for better querying.
+ */
+public class BibFieldsRows {
+    static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
+
+    private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
+    private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
+
+    private final BibDatabaseContext databaseContext;
+    private final Character keywordSeparator;
+
+    public BibFieldsRows(BibDatabaseContext databaseContext, Character keywordSeparator) {
+        this.databaseContext = databaseContext;
+        this.keywordSeparator = keywordSeparator;
+    }
+
+    /**
+     * Produces the rows of the main table for the given entry.
+     */
+    public void addMainRows(BibEntry bibEntry, RowSink sink) {
+        String entryId = bibEntry.getId();
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            String value = fieldPair.getValue();
+
+            // If a field exists, there also exists a resolved field latex free.
+            // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
+            // To uncover these flaws, we add the "assert" statement.
+            // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
+            // Skip indexing of date-related fields separately to ensure proper handling later in the process.
+            if (!DATE_FIELDS.contains(field)) {
+                Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
+                assert resolvedFieldLatexFree.isPresent();
+                sink.add(entryId, field, value, resolvedFieldLatexFree.orElse(""));
+            }
+        }
+        // ensure all date-related fields are indexed.
+        addDateRows(bibEntry, sink);
+        // add entry type
+        sink.add(entryId, TYPE_HEADER, bibEntry.getType().getName());
+    }
+
+    /**
+     * Produces the main table rows of all date-related fields, resolved to the values of their aliases if needed.
+     */
+    public void addDateRows(BibEntry bibEntry, RowSink sink) {
+        for (Field dateField : DATE_FIELDS) {
+            Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
+            resolvedDateValue.ifPresent(dateValue -> sink.add(bibEntry.getId(), dateField, dateValue));
+        }
+    }
+
+    /**
+     * Produces the rows of the split values table for the given entry.
+     */
+    public void addSplitRows(BibEntry bibEntry, RowSink sink) {
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            addSplitRows(bibEntry, fieldPair.getKey(), fieldPair.getValue(), sink);
+        }
+    }
+
+    /**
+     * Produces the rows of the split values table for one field of the given entry.
+     */
+    public void addSplitRows(BibEntry bibEntry, Field field, String value, RowSink sink) {
+        String entryId = bibEntry.getId();
+        // region Handling of known multi-value fields
+        // split and convert to Unicode
+        if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+            addAuthors(value, sink, entryId, field);
+        } else if (field == StandardField.KEYWORDS) {
+            addKeywords(value, sink, entryId, field, keywordSeparator);
+        } else if (field == StandardField.GROUPS) {
+            addGroups(value, sink, entryId, field);
+        } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+            addEntryLinks(bibEntry, field, sink, entryId);
+        } else if (field == StandardField.FILE) {
+            // No handling of File, because due to relative paths, we think, there won't be any exact match operation
+            // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
+            // The use case to search for file names seems pretty seldom, therefore we omit it.
+        } else {
+            // No other multi-value fields are known
+            // No action needed -> main table has the value
+        }
+        // endregion
+    }
+
+    private void addEntryLinks(BibEntry bibEntry, Field field, RowSink sink, String entryId) {
+        bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
+            .distinct()
+            .forEach(link -> sink.add(entryId, field, link.getKey()));
+    }
+
+    private static void addGroups(String value, RowSink sink, String entryId, Field field) {
+        // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
+        Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
+              .distinct()
+              .forEach(group -> sink.add(entryId, field, group));
+    }
+
+    private static void addKeywords(String keywordsString, RowSink sink, String entryId, Field field, Character keywordSeparator) {
+        KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
+        keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
+            String value = keyword.toString();
+            sink.add(entryId, field, value);
+        });
+    }
+
+    private static void addAuthors(String value, RowSink sink, String entryId, Field field) {
+        AuthorList.parse(value).getAuthors().forEach(author -> {
+            // Author object does not support literal values
+            // We use the method giving us the most complete information for the literal value;
+            String literal = author.getGivenFamily(false);
+            String transformed = author.latexFree().getGivenFamily(false);
+            sink.add(entryId, field, literal, transformed);
+        });
+    }
+
+    /**
+     * Receives the rows of one of the tables.
+     * The values are passed as they should be inserted into the database table.
+     */
+    @FunctionalInterface
+    public interface RowSink {
+        void add(String entryId, Field field, String value, String normalized);
+
+        default void add(String entryId, Field field, String value) {
+            add(entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.jabref.logic.search.indexing;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -18,15 +19,16 @@ import javafx.util.Pair;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.importer.util.FileFieldParser;
-import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.search.LuceneIndexer;
+import org.jabref.logic.search.indexing.LinkedFilesManifest.FileState;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.StandardFileType;
-import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.LinkedFilesConstants;
 
 import org.apache.commons.io.FileUtils;
@@ -40,6 +42,7 @@ import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.slf4j.Logger;
@@ -48,63 +51,115 @@ import org.slf4j.LoggerFactory;
 public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultLinkedFilesIndexer.class);
     private static final DocumentReader DOCUMENT_READER = new DocumentReader();
+    private static final int DEFAULT_INDEXING_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private static final String MANIFEST_SUFFIX = ".manifest";
     private static int NUMBER_OF_UNSAVED_LIBRARIES = 1;
 
+    /**
+     * Indexers of all libraries currently open, used to share the indexed pages of identical files across libraries.
+     */
+    private static final Set<DefaultLinkedFilesIndexer> OPEN_INDEXERS = ConcurrentHashMap.newKeySet();
+
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
     private final String libraryName;
     private final Directory indexDirectory;
     private final IndexWriter indexWriter;
     private final SearcherManager searcherManager;
+    private final LinkedFilesIndexScheduler scheduler;
+    private final LinkedFilesIndexingPipeline indexingPipeline;
+    private final LinkedFilesManifest manifest;
     private Path indexDirectoryPath;
-    private Map<String, Long> indexedFiles;
 
     public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
+        this(databaseContext, filePreferences, DEFAULT_INDEXING_THREADS);
+    }
+
+    /**
+     * @param indexingThreads number of worker threads used to extract the text of linked PDF files
+     */
+    public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences, int indexingThreads) throws IOException {
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElseGet(() -> "untitled");
-        this.indexedFiles = new ConcurrentHashMap<>();
 
         indexDirectoryPath = databaseContext.getFulltextIndexPath();
-        IndexWriterConfig config = new IndexWriterConfig(LinkedFilesConstants.LINKED_FILES_ANALYZER);
-        if ("unsaved".equals(indexDirectoryPath.getFileName().toString())) {
+        IndexWriterConfig config = LinkedFilesIndexScheduler.configure(new IndexWriterConfig(LinkedFilesConstants.LINKED_FILES_ANALYZER), filePreferences);
+        boolean isUnsaved = "unsaved".equals(indexDirectoryPath.getFileName().toString());
+        if (isUnsaved) {
             config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
             indexDirectoryPath = indexDirectoryPath.resolveSibling("unsaved" + NUMBER_OF_UNSAVED_LIBRARIES++);
         }
+        this.manifest = LinkedFilesManifest.load(indexDirectoryPath.resolveSibling(indexDirectoryPath.getFileName() + MANIFEST_SUFFIX));
+        if (isUnsaved) {
+            manifest.clear();
+        }
 
         this.indexDirectory = FSDirectory.open(indexDirectoryPath);
         this.indexWriter = new IndexWriter(indexDirectory, config);
         this.searcherManager = new SearcherManager(indexWriter, null);
+        this.scheduler = new LinkedFilesIndexScheduler(indexWriter, searcherManager, filePreferences);
+        this.indexingPipeline = new LinkedFilesIndexingPipeline(DOCUMENT_READER, indexWriter, scheduler, libraryName, indexingThreads);
+        OPEN_INDEXERS.add(this);
     }
 
     @Override
     public void updateOnStart(BackgroundTask<?> task) {
-        indexedFiles = getLinkedFilesFromIndex();
+        if (!manifest.exists()) {
+            LOGGER.debug("No manifest found for the index. Reading linked files from the index.");
+            getLinkedFilesFromIndex().forEach((fileLink, modification) -> manifest.put(fileLink, new FileState(-1, modification, null)));
+        }
         Map<String, Pair<Long, Path>> currentFiles = getLinkedFilesFromEntries(databaseContext.getEntries());
 
         Set<String> filesToRemove = new HashSet<>();
-        for (Map.Entry<String, Long> entry : indexedFiles.entrySet()) {
-            String fileLink = entry.getKey();
-            long modification = entry.getValue();
-            if (!currentFiles.containsKey(fileLink)) {
+        Map<String, Pair<Long, Path>> filesToAdd = new HashMap<>();
+        for (String fileLink : manifest.getLinks()) {
+            Pair<Long, Path> currentFile = currentFiles.get(fileLink);
+            if (currentFile == null) {
                 LOGGER.debug("File {} has been removed from the library. Will be removed from the index", fileLink);
                 filesToRemove.add(fileLink);
-            } else if (currentFiles.get(fileLink).getKey() > modification) {
-                LOGGER.debug("File {} has been modified since last indexing. Will be removed from the index.", fileLink);
-                filesToRemove.add(fileLink);
+            } else if (isModified(fileLink, currentFile)) {
+                LOGGER.debug("File {} has been modified since last indexing. Will be updated in the index.", fileLink);
+                filesToAdd.put(fileLink, currentFile);
             }
         }
-        removeFromIndex(filesToRemove);
 
-        Map<String, Pair<Long, Path>> filesToAdd = new HashMap<>();
         for (Map.Entry<String, Pair<Long, Path>> entry : currentFiles.entrySet()) {
             String fileLink = entry.getKey();
-            if (!indexedFiles.containsKey(fileLink)) {
+            if (!manifest.contains(fileLink)) {
                 LOGGER.debug("File {} has been added to the library. Will be added to the index.", fileLink);
                 filesToAdd.put(fileLink, entry.getValue());
             }
         }
-        addToIndex(filesToAdd, task);
+
+        // Files are added first, so that the pages of renamed or moved files can be reused before the old link is removed
+        indexFiles(filesToAdd, task);
+        removeFromIndex(filesToRemove);
+    }
+
+    /**
+     * Checks whether the content of the file differs from the indexed content.
+     * If only the metadata changed (e.g., the modification time was touched by a sync tool), the manifest is updated and the file is not re-indexed.
+     */
+    private boolean isModified(String fileLink, Pair<Long, Path> currentFile) {
+        FileState indexedState = manifest.get(fileLink).orElseThrow();
+        long modification = currentFile.getKey();
+        if (indexedState.hash() == null) {
+            // State recovered from the index, only the modification time is known
+            return modification > indexedState.modified();
+        }
+
+        long size = getFileSize(currentFile.getValue());
+        if (indexedState.hasSameMetadata(size, modification)) {
+            return false;
+        }
+        FileState currentState = FileState.of(currentFile.getValue(), modification);
+        if (indexedState.hash().equals(currentState.hash())) {
+            LOGGER.debug("Content of file {} did not change. Keeping the indexed content.", fileLink);
+            manifest.put(fileLink, currentState);
+            return false;
+        }
+        return true;
     }
 
     @Override
@@ -125,41 +180,130 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
 
     private void addToIndex(Map<String, Pair<Long, Path>> linkedFiles, BackgroundTask<?> task) {
         for (String fileLink : linkedFiles.keySet()) {
-            if (indexedFiles.containsKey(fileLink)) {
+            if (manifest.contains(fileLink)) {
                 LOGGER.debug("File {} is already indexed.", fileLink);
                 linkedFiles.remove(fileLink);
             }
         }
+        indexFiles(linkedFiles, task);
+    }
+
+    /**
+     * Adds the given files to the index or replaces their indexed content.
+     * Files whose content is already indexed under another link, or in the index of another open library, are not parsed again; their indexed pages are copied instead.
+     */
+    private void indexFiles(Map<String, Pair<Long, Path>> linkedFiles, BackgroundTask<?> task) {
         if (linkedFiles.isEmpty()) {
             return;
         }
 
-        LOGGER.debug("Adding {} files to index", linkedFiles.size());
-        int i = 1;
+        Map<String, FileState> fileStates = new ConcurrentHashMap<>();
+        linkedFiles.entrySet().parallelStream().forEach(entry ->
+                fileStates.put(entry.getKey(), FileState.of(entry.getValue().getValue(), entry.getValue().getKey())));
+
+        Map<String, String> indexedLinksByHash = manifest.getLinksByHash();
+        Map<String, String> parsedLinksByHash = new HashMap<>();
+        Map<String, String> filesToCopy = new HashMap<>();
+        Map<SearcherManager, Map<String, String>> filesToCopyFromOtherLibraries = new HashMap<>();
+        Map<String, Pair<SearcherManager, String>> otherLibrariesLinksByHash = null;
+        Map<String, Pair<Long, Path>> filesToParse = new HashMap<>();
         for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
-            if (task.isCancelled()) {
-                LOGGER.debug("Adding files to index canceled");
-                return;
+            String fileLink = entry.getKey();
+            String hash = fileStates.get(fileLink).hash();
+            if (hash != null) {
+                String sourceLink = indexedLinksByHash.get(hash);
+                if (sourceLink == null) {
+                    sourceLink = parsedLinksByHash.get(hash);
+                }
+                if (sourceLink == null) {
+                    if (otherLibrariesLinksByHash == null) {
+                        otherLibrariesLinksByHash = getLinksByHashOfOtherLibraries();
+                    }
+                    Pair<SearcherManager, String> source = otherLibrariesLinksByHash.get(hash);
+                    if (source != null) {
+                        filesToCopyFromOtherLibraries.computeIfAbsent(source.getKey(), _ -> new HashMap<>()).put(fileLink, source.getValue());
+                        continue;
+                    }
+                    parsedLinksByHash.put(hash, fileLink);
+                } else if (!sourceLink.equals(fileLink)) {
+                    filesToCopy.put(fileLink, sourceLink);
+                    continue;
+                }
+            }
+            filesToParse.put(fileLink, entry.getValue());
+        }
+
+        // Files whose pages could not be copied from another library (e.g., because it was closed meanwhile) are parsed instead
+        filesToCopyFromOtherLibraries.forEach((sourceSearcherManager, files) ->
+                copyIndexedFiles(sourceSearcherManager, files, fileStates).forEach(fileLink -> filesToParse.put(fileLink, linkedFiles.get(fileLink))));
+
+        LOGGER.debug("Adding {} files to index", filesToParse.size());
+        int added = indexingPipeline.run(filesToParse, task, (fileLink, modification) -> manifest.put(fileLink, fileStates.get(fileLink)));
+        LOGGER.debug("Added {} files to index", added);
+
+        if (!filesToCopy.isEmpty() && !task.isCancelled()) {
+            copyIndexedFiles(searcherManager, filesToCopy, fileStates);
+        }
+    }
+
+    /**
+     * @return for each content hash indexed by another open library, the searcher of that library and one of the links indexed with that content
+     */
+    private Map<String, Pair<SearcherManager, String>> getLinksByHashOfOtherLibraries() {
+        Map<String, Pair<SearcherManager, String>> linksByHash = new HashMap<>();
+        for (DefaultLinkedFilesIndexer indexer : OPEN_INDEXERS) {
+            if (indexer != this) {
+                indexer.manifest.getLinksByHash().forEach((hash, link) -> linksByHash.putIfAbsent(hash, new Pair<>(indexer.searcherManager, link)));
             }
-            addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
-            task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, i));
-            task.updateProgress(i, linkedFiles.size());
-            task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(entry.getValue().getValue().getFileName().toString(), 68)));
-            task.showToUser(true);
-            i++;
         }
-        LOGGER.debug("Added {} files to index", linkedFiles.size());
+        return linksByHash;
     }
 
-    private void addToIndex(String fileLink, long modifiedTime, Path resolvedPath) {
-        LOGGER.debug("Adding file {} to the index.", fileLink);
-        List<Document> pages = DOCUMENT_READER.readPdfContents(fileLink, resolvedPath);
+    /**
+     * Copies the indexed pages of the source links to the given links.
+     *
+     * @param sourceSearcherManager the searcher of the index containing the source links, either this index or the index of another library
+     * @return the links whose pages could not be copied
+     */
+    private Set<String> copyIndexedFiles(SearcherManager sourceSearcherManager, Map<String, String> filesToCopy, Map<String, FileState> fileStates) {
+        Set<String> filesNotCopied = new HashSet<>(filesToCopy.keySet());
+        IndexSearcher searcher = null;
         try {
-            indexWriter.addDocuments(pages);
-            indexedFiles.put(fileLink, modifiedTime);
-        } catch (IOException e) {
-            LOGGER.warn("Could not add the document {} to the index.", fileLink, e);
+            sourceSearcherManager.maybeRefreshBlocking();
+            searcher = sourceSearcherManager.acquire();
+            StoredFields storedFields = searcher.storedFields();
+            for (Map.Entry<String, String> entry : filesToCopy.entrySet()) {
+                String fileLink = entry.getKey();
+                String sourceLink = entry.getValue();
+                FileState fileState = fileStates.get(fileLink);
+                TopDocs sourcePages = searcher.search(new TermQuery(new Term(LinkedFilesConstants.PATH.toString(), sourceLink)), Integer.MAX_VALUE);
+                if (sourcePages.scoreDocs.length == 0) {
+                    LOGGER.debug("Could not find indexed content of {} to reuse for {}.", sourceLink, fileLink);
+                    continue;
+                }
+
+                List<Document> pages = new ArrayList<>(sourcePages.scoreDocs.length);
+                for (ScoreDoc scoreDoc : sourcePages.scoreDocs) {
+                    pages.add(DOCUMENT_READER.copyPage(storedFields.document(scoreDoc.doc), fileLink, fileState.modified()));
+                }
+                LOGGER.debug("Reusing indexed content of {} for identical file {}.", sourceLink, fileLink);
+                indexWriter.updateDocuments(new Term(LinkedFilesConstants.PATH.toString(), fileLink), pages);
+                scheduler.documentsWritten(pages.size());
+                manifest.put(fileLink, fileState);
+                filesNotCopied.remove(fileLink);
+            }
+        } catch (IOException | AlreadyClosedException e) {
+            LOGGER.warn("Could not reuse indexed content of identical files.", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    sourceSearcherManager.release(searcher);
+                } catch (IOException | AlreadyClosedException e) {
+                    LOGGER.warn("Could not release searcher.", e);
+                }
+            }
         }
+        return filesNotCopied;
     }
 
     @Override
@@ -194,7 +338,7 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
             try {
                 LOGGER.debug("Removing file {} from index.", fileLink);
                 indexWriter.deleteDocuments(new Term(LinkedFilesConstants.PATH.toString(), fileLink));
-                indexedFiles.remove(fileLink);
+                manifest.remove(fileLink);
             } catch (IOException e) {
                 LOGGER.warn("Could not remove linked file {} from index.", fileLink, e);
             }
@@ -203,16 +347,27 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
 
     @Override
     public void updateEntry(BibEntry entry, String oldValue, String newValue, BackgroundTask<?> task) {
-        Set<LinkedFile> oldFiles = new HashSet<>(FileFieldParser.parse(oldValue));
-        Set<LinkedFile> newFiles = new HashSet<>(FileFieldParser.parse(newValue));
+        updateEntries(List.of(new FieldChange(entry, StandardField.FILE, oldValue, newValue)), task);
+    }
 
-        Set<LinkedFile> toRemove = new HashSet<>(oldFiles);
-        toRemove.removeAll(newFiles);
-        removeUnlinkedFiles(List.of(entry), toRemove.stream().map(LinkedFile::getLink).collect(Collectors.toSet()));
+    /**
+     * Removes the files unlinked and adds the files linked by all changes at once, and commits the index afterward.
+     * The changes are already applied to the entries, thus a file is only removed if no entry of the library links it anymore.
+     */
+    @Override
+    public void updateEntries(Collection<FieldChange> changes, BackgroundTask<?> task) {
+        Set<String> unlinkedFiles = new HashSet<>();
+        Set<LinkedFile> linkedFiles = new HashSet<>();
+        for (FieldChange change : changes) {
+            Set<LinkedFile> oldFiles = new HashSet<>(FileFieldParser.parse(change.getOldValue()));
+            Set<LinkedFile> newFiles = new HashSet<>(FileFieldParser.parse(change.getNewValue()));
+            oldFiles.stream().filter(file -> !newFiles.contains(file)).map(LinkedFile::getLink).forEach(unlinkedFiles::add);
+            newFiles.stream().filter(file -> !oldFiles.contains(file)).forEach(linkedFiles::add);
+        }
 
-        Set<LinkedFile> toAdd = new HashSet<>(newFiles);
-        toAdd.removeAll(oldFiles);
-        addToIndex(toAdd, task);
+        removeUnlinkedFiles(List.of(), unlinkedFiles);
+        addToIndex(linkedFiles, task);
+        scheduler.commit();
     }
 
     @Override
@@ -220,7 +375,7 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         try {
             LOGGER.debug("Removing all linked files from index.");
             indexWriter.deleteAll();
-            indexedFiles.clear();
+            manifest.clear();
             LOGGER.debug("Removed all linked files");
         } catch (IOException e) {
             LOGGER.error("Error removing all linked files from index", e);
@@ -270,6 +425,15 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         return linkedFiles;
     }
 
+    private static long getFileSize(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            LOGGER.warn("Could not determine size of {}", path, e);
+            return -1;
+        }
+    }
+
     private Pair<Long, Path> getLinkedFileInfo(LinkedFile linkedFile) {
         if (linkedFile.isOnlineLink() || !StandardFileType.PDF.getName().equals(linkedFile.getFileType())) {
             LOGGER.debug("Linked file {} is not a local PDF file. The file will not be indexed.", linkedFile.getLink());
@@ -312,6 +476,15 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         return searcherManager;
     }
 
+    /**
+     * Waits for the scheduled refresh instead of reopening the searcher on each search.
+     * The wait is bounded by the maximum staleness set in the {@link FilePreferences}.
+     */
+    @Override
+    public void refreshSearcher() {
+        scheduler.waitForChanges();
+    }
+
     @Override
     public void close() {
         HeadlessExecutorService.INSTANCE.execute(this::closeIndex);
@@ -325,6 +498,9 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private void closeIndex() {
         try {
             LOGGER.debug("Closing linked files index");
+            OPEN_INDEXERS.remove(this);
+            indexingPipeline.close();
+            scheduler.close();
             searcherManager.close();
             optimizeIndex();
             indexWriter.close();
@@ -333,6 +509,9 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
             if ("unsaved".equals(databaseContext.getFulltextIndexPath().getFileName().toString())) {
                 LOGGER.debug("Deleting unsaved index directory");
                 FileUtils.deleteDirectory(indexDirectoryPath.toFile());
+                manifest.delete();
+            } else {
+                manifest.save();
             }
         } catch (IOException e) {
             LOGGER.error("Error while closing linked files index", e);
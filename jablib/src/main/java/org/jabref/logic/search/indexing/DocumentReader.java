@@ -64,6 +64,28 @@ public final class DocumentReader {
         return pages;
     }
 
+    /**
+     * Creates a copy of an indexed page for another link to a file with identical content.
+     *
+     * @param storedPage the page as read from the stored fields of the index
+     */
+    public Document copyPage(Document storedPage, String fileLink, long modifiedTime) {
+        Document newDocument = new Document();
+        addIdentifiers(newDocument, fileLink);
+        addStringField(newDocument, MODIFIED.toString(), String.valueOf(modifiedTime));
+        addStringField(newDocument, PAGE_NUMBER.toString(), storedPage.get(PAGE_NUMBER.toString()));
+
+        String content = storedPage.get(CONTENT.toString());
+        if (StringUtil.isNotBlank(content)) {
+            newDocument.add(new TextField(CONTENT.toString(), content, Field.Store.YES));
+        }
+        String annotations = storedPage.get(ANNOTATIONS.toString());
+        if (StringUtil.isNotBlank(annotations)) {
+            newDocument.add(new TextField(ANNOTATIONS.toString(), annotations, Field.Store.YES));
+        }
+        return newDocument;
+    }
+
     private void addStringField(Document newDocument, String field, String value) {
         if (!isValidField(value)) {
             return;
@@ -0,0 +1,209 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.util.FallbackExceptionHandler;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.search.SearcherManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Keeps the near-real-time searcher of the linked files index fresh and commits the index regularly.
+///
+/// - Refreshes are done by a [ControlledRealTimeReopenThread]: without waiting searches, the searcher is reopened after
+///   the configured maximum staleness. A search waiting for the latest changes triggers a reopen within a few milliseconds.
+/// - The index is committed after a number of indexed pages or after a time interval, whichever comes first.
+///   Thus, a crash does not lose the work of a long indexing run.
+///
+/// The refresh latency and the number of segments are logged and can be queried for diagnostics.
+final class LinkedFilesIndexScheduler implements AutoCloseable {
+
+    static final int DEFAULT_MAX_STALENESS_MILLIS = 1000;
+    static final int DEFAULT_COMMIT_INTERVAL_SECONDS = 60;
+    static final int DEFAULT_COMMIT_DOCUMENTS = 2000;
+    static final int DEFAULT_RAM_BUFFER_MB = 64;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LinkedFilesIndexScheduler.class);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(1);
+    private static final double MIN_STALENESS_SECONDS = 0.025;
+
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final int maxStalenessMillis;
+    private final int commitDocuments;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final ScheduledExecutorService commitExecutor;
+
+    private final AtomicLong uncommittedDocuments = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong totalRefreshNanos = new AtomicLong();
+    private final AtomicLong maxRefreshNanos = new AtomicLong();
+    private final AtomicLong commitCount = new AtomicLong();
+    private volatile int segmentCount;
+
+    LinkedFilesIndexScheduler(IndexWriter indexWriter, SearcherManager searcherManager, FilePreferences filePreferences) {
+        this(indexWriter, searcherManager, filePreferences, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("JabRef linked files index commit " + THREAD_COUNTER.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler(new FallbackExceptionHandler());
+            return thread;
+        }));
+    }
+
+    /// @param commitExecutor runs the commits, shut down when the scheduler is closed
+    LinkedFilesIndexScheduler(IndexWriter indexWriter, SearcherManager searcherManager, FilePreferences filePreferences, ScheduledExecutorService commitExecutor) {
+        this.indexWriter = indexWriter;
+        this.searcherManager = searcherManager;
+        this.maxStalenessMillis = positiveOrDefault(filePreferences.getFulltextIndexMaxStaleness(), DEFAULT_MAX_STALENESS_MILLIS);
+        this.commitDocuments = positiveOrDefault(filePreferences.getFulltextIndexCommitDocuments(), DEFAULT_COMMIT_DOCUMENTS);
+        int commitIntervalSeconds = positiveOrDefault(filePreferences.getFulltextIndexCommitInterval(), DEFAULT_COMMIT_INTERVAL_SECONDS);
+
+        searcherManager.addListener(new RefreshMetrics());
+
+        double maxStalenessSeconds = Math.max(maxStalenessMillis / 1000.0, MIN_STALENESS_SECONDS);
+        this.reopenThread = new ControlledRealTimeReopenThread<>(indexWriter, searcherManager, maxStalenessSeconds, MIN_STALENESS_SECONDS);
+        reopenThread.setName("JabRef linked files index refresh " + THREAD_COUNTER.getAndIncrement());
+        reopenThread.setDaemon(true);
+        reopenThread.setUncaughtExceptionHandler(new FallbackExceptionHandler());
+        reopenThread.start();
+
+        this.commitExecutor = commitExecutor;
+        commitExecutor.scheduleWithFixedDelay(this::commitIfChanged, commitIntervalSeconds, commitIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /// Applies the RAM buffer size and a merge policy suited for page documents to the given configuration.
+    ///
+    /// Each page of a PDF is a small document and the frequent reopens flush small segments. A higher floor segment size
+    /// merges these small segments early. As files are replaced as a whole on changes, more deletions are tolerated
+    /// before segments are rewritten.
+    static IndexWriterConfig configure(IndexWriterConfig config, FilePreferences filePreferences) {
+        TieredMergePolicy mergePolicy = new TieredMergePolicy();
+        mergePolicy.setFloorSegmentMB(16);
+        mergePolicy.setSegmentsPerTier(8);
+        mergePolicy.setDeletesPctAllowed(33);
+        return config.setRAMBufferSizeMB(positiveOrDefault(filePreferences.getFulltextIndexRamBuffer(), DEFAULT_RAM_BUFFER_MB))
+                     .setMergePolicy(mergePolicy);
+    }
+
+    /// Reports the number of documents (pages) written to the index. Commits the index if the threshold is reached.
+    void documentsWritten(int documents) {
+        if ((uncommittedDocuments.addAndGet(documents) >= commitDocuments) && !commitExecutor.isShutdown()) {
+            commitExecutor.execute(this::commitIfChanged);
+        }
+    }
+
+    /// Commits the index in the background, independent of the number of pages written since the last commit.
+    void commit() {
+        if (!commitExecutor.isShutdown()) {
+            commitExecutor.execute(this::commitIfChanged);
+        }
+    }
+
+    /// Waits until all changes done to the index so far are visible to the searcher.
+    /// Waits at most the configured maximum staleness.
+    void waitForChanges() {
+        try {
+            reopenThread.waitForGeneration(indexWriter.getMaxCompletedSequenceNumber(), maxStalenessMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void commitIfChanged() {
+        if (!indexWriter.hasUncommittedChanges()) {
+            uncommittedDocuments.set(0);
+            return;
+        }
+        try {
+            long startTime = System.nanoTime();
+            long documents = uncommittedDocuments.getAndSet(0);
+            indexWriter.commit();
+            commitCount.incrementAndGet();
+            LOGGER.debug("Committed linked files index with {} new page(s) in {} ms", documents, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        } catch (IOException | IllegalStateException e) {
+            // IllegalStateException is thrown if the writer was closed in the meantime
+            LOGGER.warn("Could not commit linked files index", e);
+        }
+    }
+
+    long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    double getAverageRefreshMillis() {
+        long count = refreshCount.get();
+        return count == 0 ? 0 : totalRefreshNanos.get() / (count * 1_000_000.0);
+    }
+
+    double getMaxRefreshMillis() {
+        return maxRefreshNanos.get() / 1_000_000.0;
+    }
+
+    int getSegmentCount() {
+        return segmentCount;
+    }
+
+    long getCommitCount() {
+        return commitCount.get();
+    }
+
+    /// Stops refreshing and committing. The index writer is committed when it is closed.
+    @Override
+    public void close() {
+        reopenThread.close();
+        commitExecutor.shutdownNow();
+        try {
+            commitExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.debug("Linked files index: {} refresh(es), average {} ms, max {} ms, {} segment(s), {} commit(s)",
+                getRefreshCount(), String.format("%.1f", getAverageRefreshMillis()), String.format("%.1f", getMaxRefreshMillis()), getSegmentCount(), getCommitCount());
+    }
+
+    private static int positiveOrDefault(int value, int defaultValue) {
+        return value > 0 ? value : defaultValue;
+    }
+
+    /// Measures the duration of refreshes, which are only called from one thread at a time.
+    private class RefreshMetrics implements ReferenceManager.RefreshListener {
+        private long startTime;
+
+        @Override
+        public void beforeRefresh() {
+            startTime = System.nanoTime();
+        }
+
+        @Override
+        public void afterRefresh(boolean didRefresh) throws IOException {
+            if (!didRefresh) {
+                return;
+            }
+            long duration = System.nanoTime() - startTime;
+            refreshCount.incrementAndGet();
+            totalRefreshNanos.addAndGet(duration);
+            maxRefreshNanos.accumulateAndGet(duration, Math::max);
+
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                segmentCount = searcher.getIndexReader().leaves().size();
+            } finally {
+                searcherManager.release(searcher);
+            }
+            LOGGER.debug("Refreshed linked files searcher in {} ms, {} segment(s)", String.format("%.1f", duration / 1_000_000.0), segmentCount);
+        }
+    }
+}
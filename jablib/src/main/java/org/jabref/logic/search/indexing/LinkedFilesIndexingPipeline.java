@@ -0,0 +1,180 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import javafx.util.Pair;
+
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.FallbackExceptionHandler;
+import org.jabref.logic.util.io.FileUtil;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jabref.model.search.LinkedFilesConstants.PATH;
+
+/// Bounded producer/consumer pipeline which reads linked PDF files on a pool of worker threads and hands the resulting
+/// page documents to the (thread-safe) Lucene [IndexWriter].
+///
+/// At most `2 * parallelism` files are parsed but not yet written at any point in time, so memory stays bounded even
+/// for libraries with tens of thousands of PDFs. Cancellation is checked while waiting for the next parsed file.
+final class LinkedFilesIndexingPipeline implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LinkedFilesIndexingPipeline.class);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(1);
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    private final DocumentReader documentReader;
+    private final IndexWriter indexWriter;
+    private final LinkedFilesIndexScheduler scheduler;
+    private final String libraryName;
+    private final int parallelism;
+    private final ExecutorService workers;
+
+    LinkedFilesIndexingPipeline(DocumentReader documentReader, IndexWriter indexWriter, LinkedFilesIndexScheduler scheduler, String libraryName, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1, but was " + parallelism);
+        }
+        this.documentReader = documentReader;
+        this.indexWriter = indexWriter;
+        this.scheduler = scheduler;
+        this.libraryName = libraryName;
+        this.parallelism = parallelism;
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("JabRef PDF indexing " + THREAD_COUNTER.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler(new FallbackExceptionHandler());
+            return thread;
+        });
+    }
+
+    /// Reads and indexes the given files.
+    ///
+    /// @param linkedFiles map from file link to (modification time, resolved path)
+    /// @param task        the task to report progress to and to check for cancellation
+    /// @param onIndexed   called on the calling thread with the file link and modification time after a file was added to the index
+    /// @return the number of files added to the index
+    int run(Map<String, Pair<Long, Path>> linkedFiles, BackgroundTask<?> task, BiConsumer<String, Long> onIndexed) {
+        CompletionService<ParsedFile> completionService = new ExecutorCompletionService<>(workers);
+        List<Future<ParsedFile>> pending = new ArrayList<>();
+        Iterator<Map.Entry<String, Pair<Long, Path>>> remaining = linkedFiles.entrySet().iterator();
+        int maxInFlight = parallelism * 2;
+        int inFlight = 0;
+        // Files that could not be read or written count as processed, but not as indexed
+        int processedFiles = 0;
+        int indexedFiles = 0;
+        long indexedPages = 0;
+        long startTime = System.nanoTime();
+
+        while ((inFlight < maxInFlight) && remaining.hasNext()) {
+            pending.add(submit(completionService, remaining.next()));
+            inFlight++;
+        }
+
+        try {
+            while (inFlight > 0) {
+                if (task.isCancelled()) {
+                    LOGGER.debug("Adding files to index canceled");
+                    pending.forEach(future -> future.cancel(true));
+                    return indexedFiles;
+                }
+
+                Future<ParsedFile> done = completionService.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (done == null) {
+                    continue;
+                }
+                pending.remove(done);
+                inFlight--;
+
+                ParsedFile parsedFile = getParsedFile(done);
+                if (parsedFile != null && write(parsedFile)) {
+                    onIndexed.accept(parsedFile.fileLink(), parsedFile.modifiedTime());
+                    indexedFiles++;
+                    indexedPages += parsedFile.pages().size();
+                }
+                processedFiles++;
+
+                task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, indexedFiles));
+                task.updateProgress(processedFiles, linkedFiles.size());
+                if (parsedFile != null) {
+                    task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(parsedFile.resolvedPath().getFileName().toString(), 68)));
+                }
+                task.showToUser(true);
+
+                if (remaining.hasNext()) {
+                    pending.add(submit(completionService, remaining.next()));
+                    inFlight++;
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.debug("Adding files to index interrupted");
+            pending.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            return indexedFiles;
+        }
+
+        double seconds = Math.max((System.nanoTime() - startTime) / 1_000_000_000.0, 0.001);
+        LOGGER.debug("Indexed {} of {} files ({} pages) in {} s using {} worker(s): {} pages/s",
+                indexedFiles, processedFiles, indexedPages, String.format("%.2f", seconds), parallelism, String.format("%.1f", indexedPages / seconds));
+        return indexedFiles;
+    }
+
+    private Future<ParsedFile> submit(CompletionService<ParsedFile> completionService, Map.Entry<String, Pair<Long, Path>> entry) {
+        String fileLink = entry.getKey();
+        long modifiedTime = entry.getValue().getKey();
+        Path resolvedPath = entry.getValue().getValue();
+        return completionService.submit(() -> {
+            LOGGER.debug("Reading file {} for the index.", fileLink);
+            return new ParsedFile(fileLink, modifiedTime, resolvedPath, documentReader.readPdfContents(fileLink, resolvedPath));
+        });
+    }
+
+    private ParsedFile getParsedFile(Future<ParsedFile> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not read linked file", e.getCause());
+            return null;
+        }
+    }
+
+    private boolean write(ParsedFile parsedFile) {
+        LOGGER.debug("Adding file {} to the index.", parsedFile.fileLink());
+        try {
+            // Replacing instead of adding keeps the index consistent if the file was indexed before
+            indexWriter.updateDocuments(new Term(PATH.toString(), parsedFile.fileLink()), parsedFile.pages());
+            scheduler.documentsWritten(parsedFile.pages().size());
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Could not add the document {} to the index.", parsedFile.fileLink(), e);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    private record ParsedFile(String fileLink, long modifiedTime, Path resolvedPath, List<Document> pages) {
+    }
+}
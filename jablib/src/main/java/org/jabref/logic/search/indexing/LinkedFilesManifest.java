@@ -0,0 +1,193 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.strings.StringUtil;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Persistent record of the linked files contained in a full-text index.
+///
+/// For every file link, the size, the modification time and the SHA-256 hash of the file content at the time of indexing
+/// are stored. This allows reconciling the index on startup without scanning the index itself, to skip re-parsing files
+/// whose modification time changed but whose content did not, and to reuse the indexed pages of a file that is
+/// linked under a different name (e.g., after a rename or move).
+///
+/// The manifest is stored next to the Lucene directory and is only written after the index has been committed.
+public class LinkedFilesManifest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LinkedFilesManifest.class);
+    private static final String SEPARATOR = ";";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path manifestFile;
+    private final Map<String, FileState> files = new ConcurrentHashMap<>();
+    private boolean exists;
+
+    private LinkedFilesManifest(Path manifestFile) {
+        this.manifestFile = manifestFile;
+    }
+
+    /// Loads the manifest stored at the given location.
+    ///
+    /// The file is deleted after reading, so that an index which is not closed properly (and thus possibly not committed)
+    /// falls back to a full scan of the index on the next start.
+    ///
+    /// @return the loaded manifest, or an empty manifest if the file does not exist or cannot be read
+    public static LinkedFilesManifest load(Path manifestFile) {
+        LinkedFilesManifest manifest = new LinkedFilesManifest(manifestFile);
+        if (!Files.exists(manifestFile)) {
+            return manifest;
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read linked files manifest {}", manifestFile, e);
+            return manifest;
+        }
+        for (String link : properties.stringPropertyNames()) {
+            FileState.parse(properties.getProperty(link)).ifPresent(state -> manifest.files.put(link, state));
+        }
+        manifest.exists = true;
+
+        try {
+            Files.delete(manifestFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete linked files manifest {}", manifestFile, e);
+        }
+        return manifest;
+    }
+
+    /// @return `true` if this manifest was read from disk, `false` if no (valid) manifest was found
+    public boolean exists() {
+        return exists;
+    }
+
+    public void save() {
+        Properties properties = new Properties();
+        files.forEach((link, state) -> properties.setProperty(link, state.serialize()));
+        try (Writer writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+            properties.store(writer, "JabRef linked files index manifest");
+        } catch (IOException e) {
+            LOGGER.warn("Could not write linked files manifest {}", manifestFile, e);
+        }
+    }
+
+    public void delete() {
+        try {
+            Files.deleteIfExists(manifestFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete linked files manifest {}", manifestFile, e);
+        }
+    }
+
+    public Optional<FileState> get(String link) {
+        return Optional.ofNullable(files.get(link));
+    }
+
+    public boolean contains(String link) {
+        return files.containsKey(link);
+    }
+
+    public Set<String> getLinks() {
+        return Set.copyOf(files.keySet());
+    }
+
+    public void put(String link, FileState state) {
+        files.put(link, state);
+    }
+
+    public void remove(String link) {
+        files.remove(link);
+    }
+
+    public void clear() {
+        files.clear();
+    }
+
+    /// @return for each known content hash, one of the links indexed with that content
+    public Map<String, String> getLinksByHash() {
+        Map<String, String> linksByHash = new HashMap<>();
+        files.forEach((link, state) -> {
+            if (state.hash() != null) {
+                linksByHash.putIfAbsent(state.hash(), link);
+            }
+        });
+        return linksByHash;
+    }
+
+    /// Computes the SHA-256 hash of the content of the given file.
+    ///
+    /// @return the hex encoded hash, or an empty optional if the file could not be read
+    public static Optional<String> computeHash(Path file) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return Optional.of(HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.warn("Could not compute hash of {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /// State of a linked file at the time it was indexed.
+    ///
+    /// @param hash the content hash, `null` if unknown (e.g., when the state was recovered from the index itself)
+    public record FileState(long size, long modified, @Nullable String hash) {
+
+        public static FileState of(Path file, long modified) {
+            long size;
+            try {
+                size = Files.size(file);
+            } catch (IOException e) {
+                LOGGER.warn("Could not determine size of {}", file, e);
+                size = -1;
+            }
+            return new FileState(size, modified, computeHash(file).orElse(null));
+        }
+
+        /// @return `true` if size and modification time are the same, so that the content can be assumed unchanged
+        public boolean hasSameMetadata(long size, long modified) {
+            return (this.size == size) && (this.modified == modified);
+        }
+
+        String serialize() {
+            return size + SEPARATOR + modified + SEPARATOR + (hash == null ? "" : hash);
+        }
+
+        static Optional<FileState> parse(String value) {
+            String[] parts = value.split(SEPARATOR, -1);
+            if (parts.length != 3) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(new FileState(Long.parseLong(parts[0]), Long.parseLong(parts[1]), StringUtil.isBlank(parts[2]) ? null : parts[2]));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
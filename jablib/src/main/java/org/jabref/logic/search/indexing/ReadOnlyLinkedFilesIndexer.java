@@ -6,6 +6,7 @@ import java.util.Collection;
 import org.jabref.logic.search.LuceneIndexer;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 
@@ -45,6 +46,10 @@ public class ReadOnlyLinkedFilesIndexer implements LuceneIndexer {
     public void updateEntry(BibEntry entry, String oldValue, String newValue, BackgroundTask<?> task) {
     }
 
+    @Override
+    public void updateEntries(Collection<FieldChange> changes, BackgroundTask<?> task) {
+    }
+
     @Override
     public void removeAllFromIndex() {
     }
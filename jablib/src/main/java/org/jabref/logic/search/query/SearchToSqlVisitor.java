@@ -412,19 +412,19 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                     SELECT %s.%s
                     FROM %s AS %s
                     WHERE (
-                        (%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?))
+                        (%s.%s = ?) AND ((%s.%s %s ?) OR (%s.%s %s ?))
                     )
                 )
                 """.formatted(
                 cteCounter,
                 MAIN_TABLE, ENTRY_ID,
                 mainTableName, MAIN_TABLE,
-                MAIN_TABLE, FIELD_NAME, field,
+                MAIN_TABLE, FIELD_NAME,
                 MAIN_TABLE, FIELD_VALUE_LITERAL, operator,
                 MAIN_TABLE, FIELD_VALUE_TRANSFORMED, operator);
 
-        List<String> params = Collections.nCopies(2, prefixSuffix + term + prefixSuffix);
-        SqlQueryNode node = new SqlQueryNode(cte, params);
+        String pattern = prefixSuffix + term + prefixSuffix;
+        SqlQueryNode node = new SqlQueryNode(cte, List.of(field, pattern, pattern));
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
@@ -438,7 +438,7 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                         SELECT %s.%s
                         FROM %s AS %s
                         WHERE (
-                            (%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?))
+                            (%s.%s = ?) AND ((%s.%s %s ?) OR (%s.%s %s ?))
                         )
                     )
                 )
@@ -449,14 +449,14 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 MAIN_TABLE, ENTRY_ID,
                 INNER_TABLE, ENTRY_ID,
                 mainTableName, INNER_TABLE,
-                INNER_TABLE, FIELD_NAME, field,
+                INNER_TABLE, FIELD_NAME,
                 INNER_TABLE, FIELD_VALUE_LITERAL,
                 operator,
                 INNER_TABLE, FIELD_VALUE_TRANSFORMED,
                 operator);
 
-        List<String> params = Collections.nCopies(2, prefixSuffix + term + prefixSuffix);
-        SqlQueryNode node = new SqlQueryNode(cte, params);
+        String pattern = prefixSuffix + term + prefixSuffix;
+        SqlQueryNode node = new SqlQueryNode(cte, List.of(field, pattern, pattern));
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
@@ -469,9 +469,9 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                     LEFT JOIN %s AS %s
                     ON (%s.%s = %s.%s AND %s.%s = %s.%s)
                     WHERE (
-                        ((%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?)))
+                        ((%s.%s = ?) AND ((%s.%s %s ?) OR (%s.%s %s ?)))
                         OR
-                        ((%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?)))
+                        ((%s.%s = ?) AND ((%s.%s %s ?) OR (%s.%s %s ?)))
                     )
                 )
                 """.formatted(
@@ -481,15 +481,14 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 splitValuesTableName, SPLIT_TABLE,
                 MAIN_TABLE, ENTRY_ID, SPLIT_TABLE, ENTRY_ID,
                 MAIN_TABLE, FIELD_NAME, SPLIT_TABLE, FIELD_NAME,
-                MAIN_TABLE, FIELD_NAME, field,
+                MAIN_TABLE, FIELD_NAME,
                 MAIN_TABLE, FIELD_VALUE_LITERAL, operator,
                 MAIN_TABLE, FIELD_VALUE_TRANSFORMED, operator,
-                SPLIT_TABLE, FIELD_NAME, field,
+                SPLIT_TABLE, FIELD_NAME,
                 SPLIT_TABLE, FIELD_VALUE_LITERAL, operator,
                 SPLIT_TABLE, FIELD_VALUE_TRANSFORMED, operator);
 
-        List<String> params = Collections.nCopies(4, term);
-        SqlQueryNode node = new SqlQueryNode(cte, params);
+        SqlQueryNode node = new SqlQueryNode(cte, List.of(field, term, term, field, term, term));
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
@@ -505,9 +504,9 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                         LEFT JOIN %s AS %s
                         ON (%s.%s = %s.%s AND %s.%s = %s.%s)
                         WHERE (
-                            ((%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?)))
+                            ((%s.%s = ?) AND ((%s.%s %s ?) OR (%s.%s %s ?)))
                             OR
-                            ((%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?)))
+                            ((%s.%s = ?) AND ((%s.%s %s ?) OR (%s.%s %s ?)))
                         )
                     )
                 )
@@ -521,15 +520,14 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 splitValuesTableName, SPLIT_TABLE,
                 INNER_TABLE, ENTRY_ID, SPLIT_TABLE, ENTRY_ID,
                 INNER_TABLE, FIELD_NAME, SPLIT_TABLE, FIELD_NAME,
-                INNER_TABLE, FIELD_NAME, field,
+                INNER_TABLE, FIELD_NAME,
                 INNER_TABLE, FIELD_VALUE_LITERAL, operator,
                 INNER_TABLE, FIELD_VALUE_TRANSFORMED, operator,
-                SPLIT_TABLE, FIELD_NAME, field,
+                SPLIT_TABLE, FIELD_NAME,
                 SPLIT_TABLE, FIELD_VALUE_LITERAL, operator,
                 SPLIT_TABLE, FIELD_VALUE_TRANSFORMED, operator);
 
-        List<String> params = Collections.nCopies(4, term);
-        SqlQueryNode node = new SqlQueryNode(cte, params);
+        SqlQueryNode node = new SqlQueryNode(cte, List.of(field, term, term, field, term, term));
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
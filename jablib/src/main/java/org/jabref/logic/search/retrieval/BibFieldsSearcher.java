@@ -4,11 +4,22 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.PostgreConstants;
+import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResult;
+import org.jabref.model.search.query.SearchResultConsumer;
 import org.jabref.model.search.query.SearchResults;
 import org.jabref.model.search.query.SqlQueryNode;
 
@@ -16,21 +27,60 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
+import static org.jabref.model.search.PostgreConstants.ENTRY_POSITION;
 
+/**
+ * Searches the tables created by {@link org.jabref.logic.search.indexing.BibFieldsIndexer}.
+ * <p>
+ * The SQL created for a query only depends on the structure of the query, the search terms and field names are passed as parameters.
+ * Therefore, the prepared statements are kept per SQL string, so that repeated query shapes (e.g., while typing) are not planned again by Postgres.
+ * In addition, the results of the most recent queries are kept until the index changes, see {@link #invalidateCache()}.
+ */
 public class BibFieldsSearcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsSearcher.class);
 
+    private static final int STATEMENT_CACHE_SIZE = 32;
+    private static final int RESULT_CACHE_SIZE = 16;
+
     private final Connection connection;
     private final String tableName;
+    private final String schemaPositionsTableReference;
+
+    private final Map<String, PreparedStatement> statementCache = new LinkedHashMap<>(STATEMENT_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() <= STATEMENT_CACHE_SIZE) {
+                return false;
+            }
+            closeStatement(eldest.getValue());
+            return true;
+        }
+    };
+
+    private final Map<CacheKey, List<String>> resultCache = new LinkedHashMap<>(RESULT_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, List<String>> eldest) {
+            return size() > RESULT_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Incremented whenever the content of the index changes. Cached results of older revisions are not used anymore.
+     */
+    private long indexRevision;
 
     public BibFieldsSearcher(Connection connection, String tableName) {
         this.connection = connection;
         this.tableName = tableName;
+        this.schemaPositionsTableReference = PostgreConstants.getPositionsTableSchemaReference(tableName);
     }
 
     public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
         SearchQuery newSearchQuery = createBooleanQueryForEntry(entry, searchQuery);
-        return search(newSearchQuery).isMatched(entry);
+        // Not cached, because there is one query per entry
+        List<String> matchedEntries = new ArrayList<>();
+        execute(newSearchQuery, Integer.MAX_VALUE, matchedEntries::add);
+        return matchedEntries.contains(entry.getId());
     }
 
     private static SearchQuery createBooleanQueryForEntry(BibEntry entry, SearchQuery oldSearchQuery) {
@@ -39,24 +89,153 @@ public class BibFieldsSearcher {
     }
 
     public SearchResults search(SearchQuery searchQuery) {
+        SearchResults searchResults = new SearchResults();
+        search(searchQuery, Integer.MAX_VALUE, (entryId, result) -> {
+            searchResults.addSearchResult(entryId, result);
+            return true;
+        });
+        return searchResults;
+    }
+
+    /**
+     * Passes the ids of the matching entries to the consumer in the order the entries appear in the library.
+     * The consumer is called while the rows are read and must not start another search.
+     *
+     * @param limit the maximum number of matches, {@link Integer#MAX_VALUE} for all
+     */
+    public void search(SearchQuery searchQuery, int limit, SearchResultConsumer consumer) {
         if (!searchQuery.isValid()) {
-            return new SearchResults();
+            return;
         }
-        SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery);
-        SearchResults searchResults = new SearchResults();
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQueryNode.cte())) {
-            for (int i = 0; i < sqlQueryNode.params().size(); i++) {
-                preparedStatement.setString(i + 1, sqlQueryNode.params().get(i));
+
+        CacheKey cacheKey;
+        Optional<List<String>> cachedResult;
+        synchronized (resultCache) {
+            cacheKey = new CacheKey(searchQuery.getSearchExpression(), EnumSet.copyOf(searchQuery.getSearchFlags()), indexRevision);
+            cachedResult = Optional.ofNullable(resultCache.get(cacheKey));
+        }
+
+        if (cachedResult.isPresent()) {
+            LOGGER.debug("Using cached result for search query: {}", searchQuery);
+            int passedEntries = 0;
+            for (String entryId : cachedResult.get()) {
+                if (passedEntries++ >= limit || !consumer.accept(entryId, new SearchResult())) {
+                    return;
+                }
             }
-            LOGGER.debug("Executing search query: {}", preparedStatement);
-            ResultSet resultSet = preparedStatement.executeQuery();
-            while (resultSet.next()) {
-                String entryId = resultSet.getString(1);
-                searchResults.addSearchResult(entryId, new SearchResult());
+            return;
+        }
+
+        // The matches are collected for the cache on the side
+        List<String> matchedEntries = new ArrayList<>();
+        boolean isComplete = execute(searchQuery, limit, entryId -> {
+            matchedEntries.add(entryId);
+            return consumer.accept(entryId, new SearchResult());
+        });
+        if (isComplete && matchedEntries.size() < limit) {
+            synchronized (resultCache) {
+                resultCache.put(cacheKey, List.copyOf(matchedEntries));
+            }
+        }
+    }
+
+    /**
+     * Passes the ids of the matching entries to the given consumer while reading the rows, until it returns false.
+     * The prepared statement is locked meanwhile, so that no other search uses it.
+     *
+     * @return false if the query could not be executed or the consumer stopped reading the rows
+     */
+    private boolean execute(SearchQuery searchQuery, int limit, Predicate<String> matchConsumer) {
+        SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery);
+        try {
+            while (true) {
+                PreparedStatement preparedStatement = getStatement(inLibraryOrder(sqlQueryNode.cte()));
+                synchronized (preparedStatement) {
+                    if (preparedStatement.isClosed()) {
+                        // evicted from the cache in the meantime
+                        continue;
+                    }
+                    for (int i = 0; i < sqlQueryNode.params().size(); i++) {
+                        preparedStatement.setString(i + 1, sqlQueryNode.params().get(i));
+                    }
+                    // Lets the server stop after the requested number of rows, 0 means no limit
+                    preparedStatement.setMaxRows(limit < Integer.MAX_VALUE ? limit : 0);
+                    LOGGER.debug("Executing search query: {}", preparedStatement);
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            if (!matchConsumer.test(resultSet.getString(1))) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }
             }
         } catch (SQLException e) {
             LOGGER.error("Error during bib fields search execution", e);
+            return false;
         }
-        return searchResults;
+    }
+
+    /**
+     * Orders the matches of the given query by the positions of the entries in the library, which are stored by the indexer.
+     * Without an order, a limited query would return arbitrary matches.
+     */
+    private String inLibraryOrder(String sql) {
+        return """
+                SELECT matches."%s"
+                FROM (
+                %s
+                ) matches
+                LEFT JOIN %s positions ON positions."%s" = matches."%s"
+                ORDER BY positions."%s"
+                """.formatted(ENTRY_ID, sql, schemaPositionsTableReference, ENTRY_ID, ENTRY_ID, ENTRY_POSITION);
+    }
+
+    private PreparedStatement getStatement(String sql) throws SQLException {
+        synchronized (statementCache) {
+            PreparedStatement preparedStatement = statementCache.get(sql);
+            if (preparedStatement == null || preparedStatement.isClosed()) {
+                preparedStatement = connection.prepareStatement(sql);
+                statementCache.put(sql, preparedStatement);
+            }
+            return preparedStatement;
+        }
+    }
+
+    /**
+     * Discards the cached results. To be called before and after the index is changed.
+     */
+    public void invalidateCache() {
+        synchronized (resultCache) {
+            indexRevision++;
+            resultCache.clear();
+        }
+    }
+
+    public void close() {
+        synchronized (statementCache) {
+            statementCache.values().forEach(BibFieldsSearcher::closeStatement);
+            statementCache.clear();
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.error("Could not close connection of bib fields searcher", e);
+        }
+    }
+
+    private static void closeStatement(PreparedStatement preparedStatement) {
+        // waits until a running query using the statement finished
+        synchronized (preparedStatement) {
+            try {
+                preparedStatement.close();
+            } catch (SQLException e) {
+                LOGGER.debug("Could not close prepared statement", e);
+            }
+        }
+    }
+
+    private record CacheKey(String searchExpression, Set<SearchFlags> searchFlags, long indexRevision) {
     }
 }
@@ -0,0 +1,301 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.jabref.logic.search.indexing.BibFieldsRows;
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResult;
+import org.jabref.model.search.query.SearchResultConsumer;
+import org.jabref.model.search.query.SearchResults;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
+import static org.jabref.model.search.SearchFlags.CASE_INSENSITIVE;
+import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
+import static org.jabref.model.search.SearchFlags.EXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.INEXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.NEGATION;
+import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
+
+/**
+ * Searches the bib fields without the index by evaluating the search query directly on the entries.
+ * <p>
+ * Used while the {@link org.jabref.logic.search.indexing.BibFieldsIndexer} is still populating the tables after opening a library.
+ * The rows of each entry are produced by {@link BibFieldsRows} and matched with the same semantics as the SQL created by
+ * {@link org.jabref.logic.search.query.SearchToSqlVisitor}, so the results do not change once the index is ready.
+ */
+public class InMemoryBibFieldsSearcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryBibFieldsSearcher.class);
+    private static final String GROUPS_FIELD = StandardField.GROUPS.getName();
+
+    private final BibDatabaseContext databaseContext;
+    private final BibFieldsRows bibFieldsRows;
+
+    public InMemoryBibFieldsSearcher(BibDatabaseContext databaseContext, Character keywordSeparator) {
+        this.databaseContext = databaseContext;
+        this.bibFieldsRows = new BibFieldsRows(databaseContext, keywordSeparator);
+    }
+
+    public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
+        if (!searchQuery.isValid()) {
+            return false;
+        }
+        return createMatcher(searchQuery).test(getRows(entry));
+    }
+
+    public SearchResults search(SearchQuery searchQuery) {
+        SearchResults searchResults = new SearchResults();
+        if (!searchQuery.isValid()) {
+            return searchResults;
+        }
+        long startTime = System.currentTimeMillis();
+        Predicate<EntryRows> matcher = createMatcher(searchQuery);
+        databaseContext.getDatabase().getEntries()
+                       .parallelStream()
+                       .filter(entry -> matcher.test(getRows(entry)))
+                       .forEach(entry -> searchResults.addSearchResult(entry.getId(), new SearchResult()));
+        LOGGER.debug("Searched {} entries without index in {} ms", databaseContext.getDatabase().getEntryCount(), System.currentTimeMillis() - startTime);
+        return searchResults;
+    }
+
+    /**
+     * Passes the ids of the matching entries to the consumer in the order of the library.
+     *
+     * @param limit the maximum number of matches, {@link Integer#MAX_VALUE} for all
+     */
+    public void search(SearchQuery searchQuery, int limit, SearchResultConsumer consumer) {
+        if (!searchQuery.isValid()) {
+            return;
+        }
+        Predicate<EntryRows> matcher = createMatcher(searchQuery);
+        int matches = 0;
+        for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
+            if (matches >= limit) {
+                return;
+            }
+            if (matcher.test(getRows(entry))) {
+                matches++;
+                if (!consumer.accept(entry.getId(), new SearchResult())) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static Predicate<EntryRows> createMatcher(SearchQuery searchQuery) {
+        return new MatcherVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
+    }
+
+    private EntryRows getRows(BibEntry entry) {
+        EntryRows rows = new EntryRows(entry.getId());
+        bibFieldsRows.addMainRows(entry, (entryId, field, value, normalized) -> rows.main.add(new Row(field.getName(), value, normalized)));
+        bibFieldsRows.addSplitRows(entry, (entryId, field, value, normalized) -> rows.split.add(new Row(field.getName(), value, normalized)));
+        return rows;
+    }
+
+    private record Row(String field, String literal, String transformed) {
+        boolean matches(Predicate<String> valueMatcher) {
+            return valueMatcher.test(literal) || valueMatcher.test(transformed);
+        }
+    }
+
+    private static class EntryRows {
+        private final String entryId;
+        private final List<Row> main = new ArrayList<>();
+        private final List<Row> split = new ArrayList<>();
+
+        EntryRows(String entryId) {
+            this.entryId = entryId;
+        }
+    }
+
+    /**
+     * Mirrors {@link org.jabref.logic.search.query.SearchToSqlVisitor}, but creates a predicate instead of SQL.
+     */
+    private static class MatcherVisitor extends SearchBaseVisitor<Predicate<EntryRows>> {
+        private final EnumSet<SearchFlags> searchBarFlags;
+
+        MatcherVisitor(EnumSet<SearchFlags> searchBarFlags) {
+            this.searchBarFlags = searchBarFlags;
+        }
+
+        @Override
+        public Predicate<EntryRows> visitStart(SearchParser.StartContext ctx) {
+            if (ctx.andExpression() == null) {
+                return rows -> true;
+            }
+            return visit(ctx.andExpression());
+        }
+
+        @Override
+        public Predicate<EntryRows> visitImplicitAndExpression(SearchParser.ImplicitAndExpressionContext ctx) {
+            return ctx.expression().stream()
+                      .map(this::visit)
+                      .reduce(Predicate::and)
+                      .orElse(rows -> true);
+        }
+
+        @Override
+        public Predicate<EntryRows> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.andExpression());
+        }
+
+        @Override
+        public Predicate<EntryRows> visitNegatedExpression(SearchParser.NegatedExpressionContext ctx) {
+            return visit(ctx.expression()).negate();
+        }
+
+        @Override
+        public Predicate<EntryRows> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Predicate<EntryRows> left = visit(ctx.left);
+            Predicate<EntryRows> right = visit(ctx.right);
+            return ctx.bin_op.getType() == SearchParser.AND ? left.and(right) : left.or(right);
+        }
+
+        @Override
+        public Predicate<EntryRows> visitComparisonExpression(SearchParser.ComparisonExpressionContext ctx) {
+            return visit(ctx.comparison());
+        }
+
+        @Override
+        public Predicate<EntryRows> visitComparison(SearchParser.ComparisonContext ctx) {
+            EnumSet<SearchFlags> searchFlags = EnumSet.noneOf(SearchFlags.class);
+            String term = SearchQueryConversion.unescapeSearchValue(ctx.searchValue());
+
+            // unfielded expression
+            if (ctx.FIELD() == null) {
+                // apply search bar flags to unfielded expressions
+                boolean isCaseSensitive = searchBarFlags.contains(CASE_SENSITIVE);
+                if (searchBarFlags.contains(REGULAR_EXPRESSION)) {
+                    setFlags(searchFlags, REGULAR_EXPRESSION, isCaseSensitive, false);
+                } else {
+                    setFlags(searchFlags, INEXACT_MATCH, isCaseSensitive, false);
+                }
+                return getFieldMatcher("any", term, searchFlags);
+            }
+
+            // fielded expression
+            String field = ctx.FIELD().getText();
+            int operator = ctx.operator().getStart().getType();
+
+            if (operator == SearchParser.EQUAL || operator == SearchParser.CONTAINS) {
+                setFlags(searchFlags, INEXACT_MATCH, false, false);
+            } else if (operator == SearchParser.CEQUAL) {
+                setFlags(searchFlags, INEXACT_MATCH, true, false);
+            } else if (operator == SearchParser.EEQUAL || operator == SearchParser.MATCHES) {
+                setFlags(searchFlags, EXACT_MATCH, false, false);
+            } else if (operator == SearchParser.CEEQUAL) {
+                setFlags(searchFlags, EXACT_MATCH, true, false);
+            } else if (operator == SearchParser.REQUAL) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, false, false);
+            } else if (operator == SearchParser.CREEQUAL) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, true, false);
+            } else if (operator == SearchParser.NEQUAL) {
+                setFlags(searchFlags, INEXACT_MATCH, false, true);
+            } else if (operator == SearchParser.NCEQUAL) {
+                setFlags(searchFlags, INEXACT_MATCH, true, true);
+            } else if (operator == SearchParser.NEEQUAL) {
+                setFlags(searchFlags, EXACT_MATCH, false, true);
+            } else if (operator == SearchParser.NCEEQUAL) {
+                setFlags(searchFlags, EXACT_MATCH, true, true);
+            } else if (operator == SearchParser.NREQUAL) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, false, true);
+            } else if (operator == SearchParser.NCREEQUAL) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, true, true);
+            }
+
+            // field = "" -> should find entries where the field is empty
+            // field != "" -> should find entries where the field is not empty
+            if (term.isEmpty()) {
+                if (searchFlags.contains(NEGATION)) {
+                    searchFlags.remove(NEGATION);
+                } else {
+                    searchFlags.add(NEGATION);
+                }
+            }
+
+            return getFieldMatcher(field.toLowerCase(Locale.ROOT), term, searchFlags);
+        }
+
+        private static Predicate<EntryRows> getFieldMatcher(String field, String term, EnumSet<SearchFlags> searchFlags) {
+            // Pseudo-fields
+            String fieldName = switch (field) {
+                case "key" -> InternalField.KEY_FIELD.getName();
+                case "anykeyword" -> StandardField.KEYWORDS.getName();
+                case "anyfield" -> "any";
+                default -> field;
+            };
+
+            Predicate<EntryRows> matcher;
+            if (ENTRY_ID.toString().equals(fieldName)) {
+                return rows -> rows.entryId.equals(term);
+            } else if ("any".equals(fieldName)) {
+                Predicate<Row> isSearchedField = row -> !GROUPS_FIELD.equals(row.field()); // https://github.com/JabRef/jabref/issues/7996
+                matcher = getRowsMatcher(isSearchedField, term, searchFlags);
+            } else {
+                matcher = getRowsMatcher(row -> fieldName.equals(row.field()), term, searchFlags);
+            }
+            return searchFlags.contains(NEGATION) ? matcher.negate() : matcher;
+        }
+
+        /**
+         * Contains queries only look at the main table, exact queries (and regular expressions) also at the split values of multi-value fields.
+         */
+        private static Predicate<EntryRows> getRowsMatcher(Predicate<Row> isSearchedField, String term, EnumSet<SearchFlags> searchFlags) {
+            Predicate<String> valueMatcher = getValueMatcher(term, searchFlags);
+            Predicate<Row> rowMatcher = row -> isSearchedField.test(row) && row.matches(valueMatcher);
+            if (searchFlags.contains(EXACT_MATCH)) {
+                return rows -> rows.main.stream().anyMatch(rowMatcher) || rows.split.stream().anyMatch(rowMatcher);
+            }
+            return rows -> rows.main.stream().anyMatch(rowMatcher);
+        }
+
+        private static Predicate<String> getValueMatcher(String term, EnumSet<SearchFlags> searchFlags) {
+            boolean isCaseSensitive = searchFlags.contains(CASE_SENSITIVE);
+            if (searchFlags.contains(REGULAR_EXPRESSION)) {
+                try {
+                    Pattern pattern = isCaseSensitive
+                                      ? Pattern.compile(term)
+                                      : Pattern.compile(term, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+                    return value -> pattern.matcher(value).find();
+                } catch (PatternSyntaxException e) {
+                    LOGGER.debug("Invalid regular expression {}", term, e);
+                    return value -> false;
+                }
+            }
+            if (searchFlags.contains(EXACT_MATCH)) {
+                return isCaseSensitive ? term::equals : term::equalsIgnoreCase;
+            }
+            if (isCaseSensitive) {
+                return value -> value.contains(term);
+            }
+            String lowerCaseTerm = term.toLowerCase(Locale.ROOT);
+            return value -> value.toLowerCase(Locale.ROOT).contains(lowerCaseTerm);
+        }
+
+        private static void setFlags(EnumSet<SearchFlags> flags, SearchFlags matchType, boolean caseSensitive, boolean negation) {
+            flags.add(matchType);
+
+            flags.add(caseSensitive ? CASE_SENSITIVE : CASE_INSENSITIVE);
+            if (negation) {
+                flags.add(NEGATION);
+            }
+        }
+    }
+}
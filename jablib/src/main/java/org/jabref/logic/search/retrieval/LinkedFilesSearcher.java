@@ -18,6 +18,7 @@ import org.jabref.model.search.LinkedFilesConstants;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResult;
+import org.jabref.model.search.query.SearchResultConsumer;
 import org.jabref.model.search.query.SearchResults;
 
 import org.apache.lucene.document.Document;
@@ -39,12 +40,19 @@ import org.slf4j.LoggerFactory;
 public final class LinkedFilesSearcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(LinkedFilesSearcher.class);
 
+    /**
+     * Number of hits fetched from the index at once.
+     */
+    private static final int PAGE_SIZE = 100;
+
     private final FilePreferences filePreferences;
     private final BibDatabaseContext databaseContext;
+    private final LuceneIndexer linkedFilesIndexer;
     private final SearcherManager searcherManager;
     private final MultiFieldQueryParser parser;
 
     public LinkedFilesSearcher(BibDatabaseContext databaseContext, LuceneIndexer linkedFilesIndexer, FilePreferences filePreferences) {
+        this.linkedFilesIndexer = linkedFilesIndexer;
         this.searcherManager = linkedFilesIndexer.getSearcherManager();
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
@@ -53,31 +61,45 @@ public final class LinkedFilesSearcher {
     }
 
     public SearchResults search(SearchQuery searchQuery) {
+        SearchResults searchResults = new SearchResults();
+        search(searchQuery, (entryId, result) -> {
+            searchResults.addSearchResult(entryId, result);
+            return true;
+        });
+        return searchResults;
+    }
+
+    /**
+     * Passes the matches to the consumer while paging through the hits, best hits first.
+     * An entry is passed once per matching page of each of its linked files.
+     */
+    public void search(SearchQuery searchQuery, SearchResultConsumer consumer) {
         if (!searchQuery.isValid()) {
-            return new SearchResults();
+            return;
         }
 
         Optional<Query> luceneQuery = getLuceneQuery(searchQuery);
         if (luceneQuery.isEmpty()) {
-            return new SearchResults();
+            return;
         }
 
         EnumSet<SearchFlags> searchFlags = searchQuery.getSearchFlags();
         boolean shouldSearchInLinkedFiles = searchFlags.contains(SearchFlags.FULLTEXT) && filePreferences.shouldFulltextIndexLinkedFiles();
         if (!shouldSearchInLinkedFiles) {
-            return new SearchResults();
+            return;
         }
 
         LOGGER.debug("Searching in linked files with query: {}", luceneQuery.get());
         try {
             IndexSearcher linkedFilesIndexSearcher = acquireIndexSearcher(searcherManager);
-            SearchResults searchResults = search(linkedFilesIndexSearcher, luceneQuery.get());
-            releaseIndexSearcher(searcherManager, linkedFilesIndexSearcher);
-            return searchResults;
+            try {
+                search(linkedFilesIndexSearcher, luceneQuery.get(), consumer);
+            } finally {
+                releaseIndexSearcher(searcherManager, linkedFilesIndexSearcher);
+            }
         } catch (IOException | IndexSearcher.TooManyClauses e) {
             LOGGER.error("Error during linked files search execution", e);
         }
-        return new SearchResults();
     }
 
     private Optional<Query> getLuceneQuery(SearchQuery searchQuery) {
@@ -90,39 +112,45 @@ public final class LinkedFilesSearcher {
         }
     }
 
-    private SearchResults search(IndexSearcher indexSearcher, Query searchQuery) throws IOException {
-        TopDocs topDocs = indexSearcher.search(searchQuery, Integer.MAX_VALUE);
-        StoredFields storedFields = indexSearcher.storedFields();
-        LOGGER.debug("Found {} matching documents", topDocs.totalHits.value());
-        return getSearchResults(topDocs, storedFields, searchQuery);
-    }
-
-    private SearchResults getSearchResults(TopDocs topDocs, StoredFields storedFields, Query searchQuery) throws IOException {
-        SearchResults searchResults = new SearchResults();
+    private void search(IndexSearcher indexSearcher, Query searchQuery, SearchResultConsumer consumer) throws IOException {
         long startTime = System.currentTimeMillis();
-
+        StoredFields storedFields = indexSearcher.storedFields();
         Map<String, List<String>> linkedFilesMap = getLinkedFilesMap();
         Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"), new QueryScorer(searchQuery));
 
-        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-            Document document = storedFields.document(scoreDoc.doc);
-            String fileLink = getFieldContents(document, LinkedFilesConstants.PATH);
-
-            if (!fileLink.isEmpty()) {
+        ScoreDoc lastScoreDoc = null;
+        TopDocs topDocs;
+        do {
+            topDocs = indexSearcher.searchAfter(lastScoreDoc, searchQuery, PAGE_SIZE);
+            if (lastScoreDoc == null) {
+                LOGGER.debug("Found {} matching documents", topDocs.totalHits.value());
+            }
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                lastScoreDoc = scoreDoc;
+                Document document = storedFields.document(scoreDoc.doc);
+                String fileLink = getFieldContents(document, LinkedFilesConstants.PATH);
+                if (fileLink.isEmpty()) {
+                    continue;
+                }
                 List<String> entriesWithFile = linkedFilesMap.get(fileLink);
-                if (entriesWithFile != null && !entriesWithFile.isEmpty()) {
-                    SearchResult searchResult = new SearchResult(
-                            fileLink,
-                            getFieldContents(document, LinkedFilesConstants.CONTENT),
-                            getFieldContents(document, LinkedFilesConstants.ANNOTATIONS),
-                            Integer.parseInt(getFieldContents(document, LinkedFilesConstants.PAGE_NUMBER)),
-                            highlighter);
-                    searchResults.addSearchResult(entriesWithFile, searchResult);
+                if (entriesWithFile == null || entriesWithFile.isEmpty()) {
+                    continue;
+                }
+                SearchResult searchResult = new SearchResult(
+                        fileLink,
+                        getFieldContents(document, LinkedFilesConstants.CONTENT),
+                        getFieldContents(document, LinkedFilesConstants.ANNOTATIONS),
+                        Integer.parseInt(getFieldContents(document, LinkedFilesConstants.PAGE_NUMBER)),
+                        highlighter);
+                for (String entryId : entriesWithFile) {
+                    if (!consumer.accept(entryId, searchResult)) {
+                        LOGGER.debug("Linked files search stopped after {} ms", System.currentTimeMillis() - startTime);
+                        return;
+                    }
                 }
             }
-        }
+        } while (topDocs.scoreDocs.length == PAGE_SIZE);
         LOGGER.debug("Getting linked files results took {} ms", System.currentTimeMillis() - startTime);
-        return searchResults;
     }
 
     private Map<String, List<String>> getLinkedFilesMap() {
@@ -140,8 +168,8 @@ public final class LinkedFilesSearcher {
         return Optional.ofNullable(document.get(field.toString())).orElse("");
     }
 
-    private static IndexSearcher acquireIndexSearcher(SearcherManager searcherManager) throws IOException {
-        searcherManager.maybeRefreshBlocking();
+    private IndexSearcher acquireIndexSearcher(SearcherManager searcherManager) throws IOException {
+        linkedFilesIndexer.refreshSearcher();
         return searcherManager.acquire();
     }
 
@@ -148,31 +148,54 @@ public abstract class DBMSProcessor {
      * For use in test only. Inserts the BibEntry into the shared database.
      *
      * @param bibEntry {@link BibEntry} to be inserted.
+     * @throws SQLException in case of error
      */
-    public void insertEntry(BibEntry bibEntry) {
+    public void insertEntry(BibEntry bibEntry) throws SQLException {
         insertEntries(List.of(bibEntry));
     }
 
     /**
-     * Inserts the List of BibEntry into the shared database.
+     * Inserts the List of BibEntry into the shared database. Either all entries including their fields are inserted or none.
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
+     * @throws SQLException in case of error. Then, nothing has been inserted.
      */
-    public void insertEntries(List<BibEntry> bibEntries) {
+    public void insertEntries(List<BibEntry> bibEntries) throws SQLException {
         List<BibEntry> notYetExistingEntries = getNotYetExistingEntries(bibEntries);
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+        try {
+            // Insert entries and fields in one transaction, so that other clients never see an entry without its fields
+            connection.setAutoCommit(false);
+            insertIntoEntryTable(notYetExistingEntries);
+            insertIntoFieldTable(notYetExistingEntries);
+            connection.commit();
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackException) {
+                e.addSuppressed(rollbackException);
+            }
+            // The shared IDs assigned during the insertion do not exist anymore
+            notYetExistingEntries.forEach(entry -> entry.getSharedBibEntryData().setSharedID(-1));
+            throw e;
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error while enabling auto commit", e);
+            }
+        }
     }
 
     /**
      * Inserts the given List of BibEntry into the ENTRY table.
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
+     * @throws SQLException in case of error
      */
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -200,8 +223,6 @@ public abstract class DBMSProcessor {
                     LOGGER.error("Error: Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -243,50 +264,47 @@ public abstract class DBMSProcessor {
      * Inserts the given list of BibEntry into FIELD table.
      *
      * @param bibEntries {@link BibEntry} to be inserted
+     * @throws SQLException in case of error
      */
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape_Table("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        // Inserting into FIELD table
+        // Coerce to ArrayList in order to use List.get()
+        List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
+                                             .collect(Collectors.toList());
 
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
-            }
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape_Table("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
+        int numFields = 0;
+        for (List<Field> entryFields : fields) {
+            numFields += entryFields.size();
+        }
 
-            // Number of commas is fields.size() - 1
-            insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, numFields - 1)));
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+        if (numFields == 0) {
+            return; // Prevent SQL Exception
+        }
+
+        // Number of commas is fields.size() - 1
+        insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, numFields - 1)));
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+            int fieldsCompleted = 0;
+            for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
+                for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
+                    // columnIndex starts with 1
+                    preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
+                    fieldsCompleted += 1;
                 }
-                preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+            preparedFieldStatement.executeUpdate();
         }
     }
 
@@ -579,10 +597,11 @@ public abstract class DBMSProcessor {
      */
     public Map<Integer, Integer> getSharedIDVersionMapping() {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
-        String selectEntryQuery = "SELECT * FROM " +
-                escape_Table("ENTRY") +
-                " ORDER BY " +
-                escape("SHARED_ID");
+        String selectEntryQuery = "SELECT " +
+                escape("SHARED_ID") + ", " +
+                escape("VERSION") +
+                " FROM " +
+                escape_Table("ENTRY");
 
         try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery)) {
             while (selectEntryResultSet.next()) {
@@ -691,4 +710,33 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Sets up the log of changes of shared entries. Needs to be implemented if the DBMS supports a change log.
+     *
+     * @return <code>true</code> if the change log is available, else <code>false</code>.
+     */
+    public boolean setUpChangeLog() {
+        return false;
+    }
+
+    /**
+     * Returns the sequence number of the latest change in the change log.
+     *
+     * @return the sequence number or -1 if there is no change log
+     */
+    public long getLatestChangeSequence() {
+        return -1;
+    }
+
+    /**
+     * Fetches the changes of shared entries made after the given change, ordered by their sequence number. The result may
+     * additionally contain some changes made before, which were possibly committed later.
+     *
+     * @param sequence sequence number of the latest change already known
+     * @return the changes or an empty Optional if the changes are not available (anymore). In this case, all entries have to be synchronized.
+     */
+    public Optional<List<SharedEntryChange>> getSharedEntryChangesSince(@SuppressWarnings("unused") long sequence) {
+        return Optional.empty();
+    }
 }
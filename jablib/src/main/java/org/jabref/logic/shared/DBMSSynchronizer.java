@@ -3,6 +3,8 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,6 +30,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -57,6 +60,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final FieldPreferences fieldPreferences;
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
+    private boolean changeLogAvailable;
+    private volatile long latestKnownChangeSequence = -1;
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             FieldPreferences fieldPreferences,
@@ -83,9 +88,13 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             synchronizeLocalDatabase();
-            dbmsProcessor.insertEntries(event.getBibEntries());
-            // Reset last changed entry because it just has already been synchronized -> Why necessary?
-            lastEntryChanged = Optional.empty();
+            try {
+                dbmsProcessor.insertEntries(event.getBibEntries());
+                // Reset last changed entry because it just has already been synchronized -> Why necessary?
+                lastEntryChanged = Optional.empty();
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error during entry insertion", e);
+            }
         }
     }
 
@@ -160,6 +169,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             throw new IllegalStateException(e);
         }
 
+        changeLogAvailable = dbmsProcessor.setUpChangeLog();
         dbmsProcessor.startNotificationListener(this);
         synchronizeLocalMetaData();
         synchronizeLocalDatabase();
@@ -168,6 +178,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * If the shared database keeps a change log, only the entries changed since the last synchronization are compared.
+     * Otherwise, the versions of all entries are compared.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -175,43 +188,104 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
+        if (!changeLogAvailable) {
+            synchronizeAllEntries();
+            return;
+        }
+
+        Optional<List<SharedEntryChange>> changes = latestKnownChangeSequence < 0
+                                                    ? Optional.empty()
+                                                    : dbmsProcessor.getSharedEntryChangesSince(latestKnownChangeSequence);
+        if (changes.isPresent()) {
+            applySharedEntryChanges(changes.get());
+        } else {
+            // Read the latest change before the entries. Changes made in between are applied again with the next synchronization, which does not harm.
+            long latestChangeSequence = dbmsProcessor.getLatestChangeSequence();
+            synchronizeAllEntries();
+            latestKnownChangeSequence = latestChangeSequence;
+        }
+    }
+
+    /**
+     * @return the sequence number of the latest change of the change log which has been applied locally, -1 if unknown
+     */
+    public long getLatestKnownChangeSequence() {
+        return latestKnownChangeSequence;
+    }
+
+    private void synchronizeAllEntries() {
         List<BibEntry> localEntries = bibDatabase.getEntries();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
+
+        synchronizeEntryVersions(idVersionMap);
+    }
+
+    /**
+     * Applies the latest change of each entry in the given list of changes.
+     */
+    private void applySharedEntryChanges(List<SharedEntryChange> changes) {
+        Map<Integer, SharedEntryChange> latestChanges = new HashMap<>();
+        long latestChangeSequence = latestKnownChangeSequence;
+        for (SharedEntryChange change : changes) {
+            latestChanges.put(change.sharedID(), change);
+            latestChangeSequence = Math.max(latestChangeSequence, change.sequence());
+        }
+
+        Set<Integer> removedIDs = new HashSet<>();
+        Map<Integer, Integer> idVersionMap = new HashMap<>();
+        for (SharedEntryChange change : latestChanges.values()) {
+            if (change.operation() == SharedEntryChange.Operation.DELETE) {
+                removedIDs.add(change.sharedID());
+            } else {
+                idVersionMap.put(change.sharedID(), change.version());
+            }
+        }
+
+        if (!removedIDs.isEmpty()) {
+            removeEntries(bibDatabase.getEntries().stream()
+                                     .filter(localEntry -> removedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                     .toList());
+        }
+        synchronizeEntryVersions(idVersionMap);
+        latestKnownChangeSequence = latestChangeSequence;
+    }
+
+    /**
+     * Inserts the shared entries not present locally and updates the local entries having an older version than the shared ones.
+     *
+     * @param idVersionMap the shared IDs and versions of the shared entries to compare
+     */
+    private void synchronizeEntryVersions(Map<Integer, Integer> idVersionMap) {
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesBySharedID.computeIfAbsent(localEntry.getSharedBibEntryData().getSharedID(), _ -> new ArrayList<>()).add(localEntry);
+        }
+
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
+        // compare versions to find the local entries which need an update
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (matchingLocalEntries == null) {
+                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (matchingLocalEntries.stream().anyMatch(localEntry -> idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        if (!entriesToUpdateInLocalDatabase.isEmpty()) {
+            // fetch all outdated entries at once instead of one query per entry
+            for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToUpdateInLocalDatabase)) {
+                int sharedID = sharedEntry.getSharedBibEntryData().getSharedID();
+                for (BibEntry localEntry : localEntriesBySharedID.get(sharedID)) {
+                    if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                        updateLocalEntry(localEntry, sharedEntry);
                     }
                 }
             }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
-            }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
@@ -220,6 +294,24 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Applies the type, the version and the fields of the shared entry to the local one.
+     * Only fields having a different value are changed, thus listeners are only notified about actual changes.
+     */
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+
+        // copy remote values to local entry
+        Map<Field, String> sharedFields = sharedEntry.getFieldMap();
+        sharedFields.forEach((field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED));
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedFields.containsKey(field))
+                  .forEach(field -> localEntry.clearField(field, EntriesEventSource.SHARED));
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -231,6 +323,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                 localEntries.stream()
                             .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
                             .collect(Collectors.toList());
+        removeEntries(entriesToRemove);
+    }
+
+    private void removeEntries(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
@@ -4,8 +4,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
 import org.jabref.logic.util.HeadlessExecutorService;
@@ -19,6 +22,10 @@ import org.postgresql.PGConnection;
  */
 public class PostgreSQLProcessor extends DBMSProcessor {
 
+    private static final String NOTIFICATION_CHANNEL = "jabrefLiveUpdate";
+    private static final int CHANGE_LOG_RETENTION_DAYS = 30;
+    private static final int CHANGE_LOG_OVERLAP = 1000;
+
     private PostgresSQLNotificationListener listener;
 
     private int VERSION_DB_STRUCT_DEFAULT = -1;
@@ -91,7 +98,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -118,8 +125,6 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                     LOGGER.error("Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error during entry insertion", e);
         }
     }
 
@@ -143,7 +148,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         // Disable cleanup output of ThreadedHousekeeper
         // Logger.getLogger(ThreadedHousekeeper.class.getName()).setLevel(Level.SEVERE);
         try {
-            connection.createStatement().execute("LISTEN jabrefLiveUpdate");
+            connection.createStatement().execute("LISTEN " + NOTIFICATION_CHANNEL);
             // Do not use `new PostgresSQLNotificationListener(...)` as the object has to exist continuously!
             // Otherwise, the listener is going to be deleted by Java's garbage collector.
             PGConnection pgConnection = connection.unwrap(PGConnection.class);
@@ -164,10 +169,116 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    /**
+     * Creates the table {@code CHANGE} and a trigger logging each insertion, update and deletion of a row of the table
+     * {@code ENTRY}. For each change, the trigger additionally sends a notification with the payload
+     * {@code sequence,sharedID,version,operation} (see {@link SharedEntryChange#fromNotificationPayload(String)}).
+     * Thus, also changes of clients not knowing the change log are logged.
+     */
+    @Override
+    public boolean setUpChangeLog() {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(
+                    "CREATE TABLE IF NOT EXISTS " + escape_Table("CHANGE") + " (" +
+                            "\"SEQUENCE\" BIGSERIAL PRIMARY KEY, " +
+                            "\"SHARED_ID\" INTEGER NOT NULL, " +
+                            "\"VERSION\" INTEGER NOT NULL, " +
+                            "\"OPERATION\" CHAR(1) NOT NULL, " +
+                            "\"CHANGED_AT\" TIMESTAMP DEFAULT now())");
+
+            // LISTEN converts the unquoted channel name to lower case, pg_notify does not
+            statement.executeUpdate(
+                    "CREATE OR REPLACE FUNCTION jabref.log_entry_change() RETURNS trigger AS $$ " +
+                            "DECLARE change_row " + escape_Table("CHANGE") + "; " +
+                            "BEGIN " +
+                            "IF TG_OP = 'DELETE' THEN " +
+                            "INSERT INTO " + escape_Table("CHANGE") + "(\"SHARED_ID\", \"VERSION\", \"OPERATION\") " +
+                            "VALUES (OLD.\"SHARED_ID\", OLD.\"VERSION\", 'D') RETURNING * INTO change_row; " +
+                            "ELSE " +
+                            "INSERT INTO " + escape_Table("CHANGE") + "(\"SHARED_ID\", \"VERSION\", \"OPERATION\") " +
+                            "VALUES (NEW.\"SHARED_ID\", NEW.\"VERSION\", left(TG_OP, 1)) RETURNING * INTO change_row; " +
+                            "END IF; " +
+                            "PERFORM pg_notify('" + NOTIFICATION_CHANNEL.toLowerCase(Locale.ROOT) + "', change_row.\"SEQUENCE\" || ',' || change_row.\"SHARED_ID\" || ',' " +
+                            "|| change_row.\"VERSION\" || ',' || change_row.\"OPERATION\"); " +
+                            "RETURN NULL; " +
+                            "END $$ LANGUAGE plpgsql");
+            // Other clients may set up the change log at the same time. Thus, the trigger is not dropped and recreated,
+            // but only created if it is missing. If another client created it in the meantime, this is fine as well.
+            statement.executeUpdate(
+                    "DO $$ BEGIN " +
+                            "IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'log_entry_change' " +
+                            "AND tgrelid = '" + escape_Table("ENTRY") + "'::regclass) THEN " +
+                            "CREATE TRIGGER log_entry_change AFTER INSERT OR UPDATE OR DELETE ON " + escape_Table("ENTRY") +
+                            " FOR EACH ROW EXECUTE FUNCTION jabref.log_entry_change(); " +
+                            "END IF; " +
+                            "EXCEPTION WHEN duplicate_object THEN NULL; " +
+                            "END $$");
+
+            // Keep the latest change, so that clients notice that older changes are not available anymore
+            statement.executeUpdate("DELETE FROM " + escape_Table("CHANGE") +
+                    " WHERE \"CHANGED_AT\" < now() - INTERVAL '" + CHANGE_LOG_RETENTION_DAYS + " days'" +
+                    " AND \"SEQUENCE\" < (SELECT max(\"SEQUENCE\") FROM " + escape_Table("CHANGE") + ")");
+            return true;
+        } catch (SQLException e) {
+            LOGGER.warn("Could not set up the change log. All entries are going to be compared on each synchronization.", e);
+            return false;
+        }
+    }
+
+    @Override
+    public long getLatestChangeSequence() {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT coalesce(max(\"SEQUENCE\"), 0) FROM " + escape_Table("CHANGE"))) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error while reading the latest change", e);
+            return -1;
+        }
+    }
+
+    @Override
+    public Optional<List<SharedEntryChange>> getSharedEntryChangesSince(long sequence) {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT min(\"SEQUENCE\") FROM " + escape_Table("CHANGE"))) {
+            resultSet.next();
+            long oldestSequence = resultSet.getLong(1);
+            if (oldestSequence > (sequence + 1)) {
+                // Changes have been deleted from the log (or the sequence skipped some numbers because of a rollback)
+                return Optional.empty();
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error while reading the change log", e);
+            return Optional.empty();
+        }
+
+        String query = "SELECT \"SEQUENCE\", \"SHARED_ID\", \"VERSION\", \"OPERATION\" FROM " + escape_Table("CHANGE") +
+                " WHERE \"SEQUENCE\" > ? ORDER BY \"SEQUENCE\"";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            // Sequence numbers are assigned when a change is made, not when it is committed. Thus, a change with a lower
+            // number may become visible after one with a higher number. Such changes are caught by reading some
+            // changes again. Applying a change twice does not harm.
+            preparedStatement.setLong(1, Math.max(0, sequence - CHANGE_LOG_OVERLAP));
+            List<SharedEntryChange> changes = new ArrayList<>();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    Optional<SharedEntryChange.Operation> operation = SharedEntryChange.Operation.fromCode(resultSet.getString("OPERATION").charAt(0));
+                    if (operation.isPresent()) {
+                        changes.add(new SharedEntryChange(resultSet.getLong("SEQUENCE"), resultSet.getInt("SHARED_ID"), resultSet.getInt("VERSION"), operation.get()));
+                    }
+                }
+            }
+            return Optional.of(changes);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error while reading the change log", e);
+            return Optional.empty();
+        }
+    }
+
     @Override
     public void notifyClients() {
         try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+            connection.createStatement().execute("NOTIFY " + NOTIFICATION_CHANNEL + ", '" + PROCESSOR_ID + "';");
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
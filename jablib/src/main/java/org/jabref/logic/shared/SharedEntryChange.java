@@ -0,0 +1,67 @@
+package org.jabref.logic.shared;
+
+import java.util.Optional;
+
+/**
+ * A change of a shared entry recorded in the change log of the shared database.
+ *
+ * @param sequence  number of the change, increasing with each change
+ * @param sharedID  shared ID of the changed entry
+ * @param version   version of the entry after the change (before the change for deletions)
+ * @param operation kind of the change
+ */
+public record SharedEntryChange(
+        long sequence,
+        int sharedID,
+        int version,
+        Operation operation) {
+
+    public enum Operation {
+        INSERT('I'),
+        UPDATE('U'),
+        DELETE('D');
+
+        private final char code;
+
+        Operation(char code) {
+            this.code = code;
+        }
+
+        public char getCode() {
+            return code;
+        }
+
+        public static Optional<Operation> fromCode(char code) {
+            for (Operation operation : values()) {
+                if (operation.code == code) {
+                    return Optional.of(operation);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses the payload of a notification sent for a change, formatted as {@code sequence,sharedID,version,operation}.
+     *
+     * @return the change or an empty Optional if the payload does not describe a change (e.g., a notification about changed meta data)
+     */
+    public static Optional<SharedEntryChange> fromNotificationPayload(String payload) {
+        if (payload == null) {
+            return Optional.empty();
+        }
+        String[] parts = payload.split(",");
+        if ((parts.length != 4) || (parts[3].length() != 1)) {
+            return Optional.empty();
+        }
+        try {
+            long sequence = Long.parseLong(parts[0]);
+            int sharedID = Integer.parseInt(parts[1]);
+            int version = Integer.parseInt(parts[2]);
+            return Operation.fromCode(parts[3].charAt(0))
+                            .map(operation -> new SharedEntryChange(sequence, sharedID, version, operation));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
+import org.jabref.logic.shared.SharedEntryChange;
 
 import org.postgresql.PGConnection;
 import org.postgresql.PGNotification;
@@ -34,12 +36,9 @@ public class PostgresSQLNotificationListener implements Runnable {
             while (!stop) {
                 PGNotification[] notifications = pgConnection.getNotifications();
 
-                if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
+                if ((notifications != null) && Arrays.stream(notifications).anyMatch(this::requiresPull)) {
+                    // Pull once for all notifications, the synchronizer fetches all changes since its last synchronization
+                    dbmsSynchronizer.pullChanges();
                 }
 
                 // Wait a while before checking again for new notifications
@@ -50,6 +49,19 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    /**
+     * Notifications about entry changes carry the sequence number of the change. Changes already applied, e.g., by a
+     * synchronization triggered locally, do not need to be pulled again.
+     */
+    private boolean requiresPull(PGNotification notification) {
+        if (DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
+            return false;
+        }
+        return SharedEntryChange.fromNotificationPayload(notification.getParameter())
+                                .map(change -> change.sequence() > dbmsSynchronizer.getLatestKnownChangeSequence())
+                                .orElse(true);
+    }
+
     public void stop() {
         stop = true;
     }
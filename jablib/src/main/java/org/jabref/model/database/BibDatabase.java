@@ -7,7 +7,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -32,7 +31,6 @@ import org.jabref.model.entry.Month;
 import org.jabref.model.entry.ParsedEntryLink;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
-import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
@@ -40,7 +38,6 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,11 +52,14 @@ public class BibDatabase {
 
     /**
      * State attributes
+     * <p>
+     * The list does not report updates of its entries, because an extractor would create the observables of every entry.
+     * Views that need them (such as the main table) wrap the list themselves; other listeners use the {@link #registerListener(Object) event bus}.
      */
-    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
+    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList());
 
     // BibEntryId to BibEntry
-    private final Map<String, BibEntry> entriesId = new HashMap<>();
+    private final Map<String, BibEntry> entriesId = new ConcurrentHashMap<>();
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
     // Not included in equals, because it is not relevant for the content of the database
@@ -68,6 +68,8 @@ public class BibDatabase {
     // Reverse index for citation links
     private final Map<String, Set<BibEntry>> citationIndex = new ConcurrentHashMap<>();
 
+    private final CitationKeyIndex citationKeyIndex = new CitationKeyIndex(entry -> entriesId.get(entry.getId()) == entry, entries);
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -88,6 +90,7 @@ public class BibDatabase {
     }
 
     public BibDatabase() {
+        this.registerListener(citationKeyIndex);
         this.registerListener(new KeyChangeListener(this));
     }
 
@@ -141,10 +144,10 @@ public class BibDatabase {
     }
 
     /**
-     * Returns the entry with the given citation key.
+     * Returns the entry with the given citation key. If several entries have the key, the first one in the database is returned.
      */
-    public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+    public Optional<BibEntry> getEntryByCitationKey(String key) {
+        return citationKeyIndex.getEntries(key).stream().findFirst();
     }
 
     /**
@@ -153,17 +156,8 @@ public class BibDatabase {
      *
      * @return list of entries that contains the given key
      */
-    public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
-        }
-        return result;
+    public List<BibEntry> getEntriesByCitationKey(String key) {
+        return new ArrayList<>(citationKeyIndex.getEntries(key));
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -191,7 +185,7 @@ public class BibDatabase {
     public synchronized void insertEntries(List<BibEntry> newEntries, EntriesEventSource eventSource) {
         Objects.requireNonNull(newEntries);
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            entry.postEventsTo(eventBus);
         }
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
@@ -201,6 +195,7 @@ public class BibDatabase {
         entries.addAll(newEntries);
         newEntries.forEach(entry -> {
                     entriesId.put(entry.getId(), entry);
+                    citationKeyIndex.add(entry);
                     indexEntry(entry);
                 }
         );
@@ -249,7 +244,9 @@ public class BibDatabase {
         newEntries.removeIf(entry -> idsToBeDeleted.contains(entry.getId()));
 
         toBeDeleted.forEach(entry -> {
-            entriesId.remove(entry.getId());
+            if (entriesId.remove(entry.getId(), entry)) {
+                citationKeyIndex.remove(entry);
+            }
             removeEntryFromIndex(entry);
         });
 
@@ -623,11 +620,6 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
-    private void relayEntryChangeEvent(FieldChangedEvent event) {
-        eventBus.post(event);
-    }
-
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
@@ -662,10 +654,7 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return citationKeyIndex.getNumberOfOccurrences(key);
     }
 
     /**
@@ -0,0 +1,126 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.InternalField;
+
+import com.google.common.eventbus.Subscribe;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Index of the entries of a {@link BibDatabase} by their citation key.
+ * <p>
+ * The database adds and removes its entries, the index listens to the changes of the citation keys.
+ * Several entries may have the same citation key, thus each key is mapped to all entries having it.
+ * Entries are compared by identity, as two entries with the same content are still counted twice.
+ * The entries of a key are kept in the order they appear in the database.
+ */
+public class CitationKeyIndex {
+
+    // The lists are never modified, but replaced
+    private final Map<String, List<BibEntry>> entriesByKey = new ConcurrentHashMap<>();
+    private final Predicate<BibEntry> isInDatabase;
+    private final List<BibEntry> databaseEntries;
+
+    /**
+     * @param isInDatabase    checks whether the entry of a change belongs to the database, as removed entries still post their changes
+     * @param databaseEntries the entries of the database in their order, a synchronized list
+     */
+    CitationKeyIndex(Predicate<BibEntry> isInDatabase, List<BibEntry> databaseEntries) {
+        this.isInDatabase = isInDatabase;
+        this.databaseEntries = databaseEntries;
+    }
+
+    /**
+     * Adds an entry appended to the database, thus it is the last one of its key
+     */
+    void add(BibEntry entry) {
+        entry.getCitationKey().ifPresent(key -> add(key, entry));
+    }
+
+    void remove(BibEntry entry) {
+        entry.getCitationKey().ifPresent(key -> remove(key, entry));
+    }
+
+    long getNumberOfOccurrences(@Nullable String key) {
+        return getEntries(key).size();
+    }
+
+    /**
+     * Returns the entries having the given key in the order they appear in the database
+     */
+    List<BibEntry> getEntries(@Nullable String key) {
+        // explicit null check because entriesByKey is a ConcurrentHashMap and will throw NPE on null
+        return key != null ? entriesByKey.getOrDefault(key, List.of()) : List.of();
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        if (!event.getField().equals(InternalField.KEY_FIELD) || !isInDatabase.test(event.getBibEntry())) {
+            return;
+        }
+        BibEntry entry = event.getBibEntry();
+        if (event.getOldValue() != null) {
+            remove(event.getOldValue(), entry);
+        }
+        if (event.getNewValue() != null) {
+            addInDatabaseOrder(event.getNewValue(), entry);
+        }
+    }
+
+    private void add(String key, BibEntry entry) {
+        entriesByKey.compute(key, (_, entries) -> {
+            if (entries == null) {
+                return List.of(entry);
+            }
+            if (entries.stream().anyMatch(existing -> existing == entry)) {
+                return entries;
+            }
+            List<BibEntry> extended = new ArrayList<>(entries.size() + 1);
+            extended.addAll(entries);
+            extended.add(entry);
+            return List.copyOf(extended);
+        });
+    }
+
+    /**
+     * Adds an entry whose key changed. The entry might be placed before other entries having the key in the database.
+     * Then, the order is taken from the database, which is scanned only if the key is used by other entries.
+     */
+    private void addInDatabaseOrder(String key, BibEntry entry) {
+        List<BibEntry> entries = getEntries(key);
+        if (entries.isEmpty() || (entries.getLast() == entry)) {
+            add(key, entry);
+            return;
+        }
+        List<BibEntry> orderedEntries = List.copyOf(databaseEntries);
+        entriesByKey.compute(key, (_, currentEntries) -> {
+            Set<BibEntry> keyEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (currentEntries != null) {
+                keyEntries.addAll(currentEntries);
+            }
+            keyEntries.add(entry);
+            List<BibEntry> ordered = new ArrayList<>(orderedEntries.stream().filter(keyEntries::contains).toList());
+            // Entries added to the database after the copy are appended
+            ordered.forEach(keyEntries::remove);
+            ordered.addAll(keyEntries);
+            return List.copyOf(ordered);
+        });
+    }
+
+    private void remove(String key, BibEntry entry) {
+        entriesByKey.computeIfPresent(key, (_, entries) -> {
+            List<BibEntry> remaining = entries.stream().filter(existing -> existing != entry).toList();
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+}
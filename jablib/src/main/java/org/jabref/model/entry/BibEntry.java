@@ -91,28 +91,45 @@ public class BibEntry implements Cloneable {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private final SharedBibEntryData sharedBibEntryData;
 
+    /*
+     * Large libraries contain hundreds of thousands of entries. Thus, the caches, the observables, and the event bus are
+     * only created when they are used for the first time.
+     */
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
 
-    private final EventBus eventBus = new EventBus();
+    private EventBus eventBus;
+
+    /**
+     * The event buses of the databases containing this entry. The events of this entry are posted to them directly.
+     */
+    private List<EventBus> databaseEventBuses = List.of();
 
     private String id;
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    private EntryType type = DEFAULT_TYPE;
+
+    private ObjectProperty<EntryType> typeProperty;
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private Map<Field, String> fields = new ConcurrentHashMap<>();
+
+    /**
+     * Observable view of {@link #fields}. If present, all changes go through it so that its listeners are notified.
+     */
+    private ObservableMap<Field, String> fieldsObservable;
 
     /**
      * The part before the start of the entry
@@ -131,6 +148,13 @@ public class BibEntry implements Cloneable {
      */
     private boolean changed;
 
+    /**
+     * Incremented at each change of the entry, after the change has been applied. Allows to detect whether the entry
+     * was changed while it was serialized. Guarded by this entry together with {@link #changed} and {@link #parsedSerialization}, as the entry may be
+     * serialized on another thread than the one changing it.
+     */
+    private int changeCount;
+
     /**
      * Constructs a new BibEntry. The internal ID is set to IdGenerator.next()
      */
@@ -321,7 +345,7 @@ public class BibEntry implements Cloneable {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(getType().getDisplayName());
         }
 
         if (InternalField.KEY_FIELD == field) {
@@ -334,8 +358,8 @@ public class BibEntry implements Cloneable {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().getType();
+                EntryType targetEntry = getType();
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -371,9 +395,9 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
-        changed = true;
+        markChanged();
     }
 
     /**
@@ -412,11 +436,17 @@ public class BibEntry implements Cloneable {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        if (typeProperty != null) {
+            return typeProperty.getValue();
+        }
+        return type;
     }
 
-    public ObjectProperty<EntryType> typeProperty() {
-        return type;
+    public synchronized ObjectProperty<EntryType> typeProperty() {
+        if (typeProperty == null) {
+            typeProperty = new SimpleObjectProperty<>(type);
+        }
+        return typeProperty;
     }
 
     /**
@@ -433,16 +463,19 @@ public class BibEntry implements Cloneable {
     public Optional<FieldChange> setType(EntryType newType, EntriesEventSource eventSource) {
         Objects.requireNonNull(newType);
 
-        EntryType oldType = type.get();
+        EntryType oldType = getType();
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
-        changed = true;
-        this.type.setValue(newType);
+        this.type = newType;
+        if (typeProperty != null) {
+            typeProperty.setValue(newType);
+        }
+        markChanged();
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -472,15 +505,15 @@ public class BibEntry implements Cloneable {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
+            return Optional.of(getType().getDisplayName());
+        } else if ((latexFreeFields != null) && latexFreeFields.containsKey(field)) {
             return Optional.ofNullable(latexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                getLatexFreeFields().put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -621,16 +654,16 @@ public class BibEntry implements Cloneable {
         }
 
         boolean isNewField = oldValue == null;
-        changed = true;
 
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        mutableFields().put(field, value.intern());
+        markChanged();
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -667,13 +700,12 @@ public class BibEntry implements Cloneable {
             return Optional.empty();
         }
 
-        changed = true;
-
         invalidateFieldCache(field);
-        fields.remove(field);
+        mutableFields().remove(field);
+        markChanged();
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -698,8 +730,8 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public Object clone() {
-        BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        BibEntry clone = new BibEntry(getType());
+        clone.fields = new ConcurrentHashMap<>(fields);
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
         clone.changed = changed;
@@ -770,25 +802,53 @@ public class BibEntry implements Cloneable {
         return getFieldOrAlias(StandardField.DATE).flatMap(Date::parse);
     }
 
-    public String getParsedSerialization() {
+    public synchronized String getParsedSerialization() {
         return parsedSerialization;
     }
 
-    public void setParsedSerialization(String parsedSerialization) {
+    public synchronized void setParsedSerialization(String parsedSerialization) {
         changed = false;
         this.parsedSerialization = parsedSerialization;
     }
 
+    /**
+     * Sets the parsed serialization to a serialization created from the current state of the entry, e.g., while saving.
+     * The serialization is discarded if the entry was changed after {@link #getChangeCount()} returned the given count.
+     * The check and the update are atomic with respect to changes of the entry, which may happen on other threads.
+     *
+     * @return true if the serialization was set
+     */
+    public synchronized boolean setParsedSerialization(String parsedSerialization, int expectedChangeCount) {
+        if (changeCount != expectedChangeCount) {
+            return false;
+        }
+        setParsedSerialization(parsedSerialization);
+        return true;
+    }
+
+    public synchronized int getChangeCount() {
+        return changeCount;
+    }
+
+    private synchronized void markChanged() {
+        changed = true;
+        changeCount++;
+    }
+
     public void setCommentsBeforeEntry(String parsedComments) {
         this.commentsBeforeEntry = parsedComments;
     }
 
-    public boolean hasChanged() {
+    public synchronized boolean hasChanged() {
         return changed;
     }
 
-    public void setChanged(boolean changed) {
-        this.changed = changed;
+    public synchronized void setChanged(boolean changed) {
+        if (changed) {
+            markChanged();
+        } else {
+            this.changed = false;
+        }
     }
 
     /**
@@ -797,7 +857,7 @@ public class BibEntry implements Cloneable {
      * we need to construct a BibEntry with <code>changed=false</code> (which is the default) and thus we need a workaround.
      */
     public BibEntry withChanged(boolean changed) {
-        this.changed = changed;
+        setChanged(changed);
         return this;
     }
 
@@ -896,7 +956,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Map<Field, String> getFieldMap() {
-        return fields;
+        return mutableFields();
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
@@ -923,7 +983,7 @@ public class BibEntry implements Cloneable {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(getType(), entry.getType())
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
@@ -941,14 +1001,21 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
+        return Objects.hash(getType(), fields, commentsBeforeEntry);
     }
 
-    public void registerListener(Object object) {
+    public synchronized void registerListener(Object object) {
+        if (eventBus == null) {
+            eventBus = new EventBus();
+        }
         this.eventBus.register(object);
     }
 
-    public void unregisterListener(Object object) {
+    public synchronized void unregisterListener(Object object) {
+        if (eventBus == null) {
+            LOGGER.debug("Problem unregistering: no listener registered");
+            return;
+        }
         try {
             this.eventBus.unregister(object);
         } catch (IllegalArgumentException e) {
@@ -957,6 +1024,27 @@ public class BibEntry implements Cloneable {
         }
     }
 
+    /**
+     * Posts all events of this entry to the given event bus of a database containing this entry.
+     * In contrast to {@link #registerListener(Object)}, no event bus has to be created for this entry.
+     */
+    public synchronized void postEventsTo(EventBus databaseEventBus) {
+        if (!databaseEventBuses.contains(databaseEventBus)) {
+            List<EventBus> eventBuses = new ArrayList<>(databaseEventBuses);
+            eventBuses.add(databaseEventBus);
+            databaseEventBuses = List.copyOf(eventBuses);
+        }
+    }
+
+    private void postEvent(Object event) {
+        if (eventBus != null) {
+            eventBus.post(event);
+        }
+        for (EventBus databaseEventBus : databaseEventBuses) {
+            databaseEventBus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -967,7 +1055,8 @@ public class BibEntry implements Cloneable {
      * A copy is made of the parameter
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        this.fields = new HashMap<>(content);
+        this.fieldsObservable = null;
         this.setChanged(false);
         return this;
     }
@@ -1007,6 +1096,9 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        if (fieldsAsWords == null) {
+            fieldsAsWords = new HashMap<>();
+        }
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1023,7 +1115,7 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
                 return storedList.get();
@@ -1035,6 +1127,9 @@ public class BibEntry implements Cloneable {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField standardField) {
+            if (fieldsAsKeywords == null) {
+                fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+            }
             fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
         }
         return keywords;
@@ -1045,14 +1140,38 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
-
-        if (field instanceof StandardField standardField) {
+        if (latexFreeFields != null) {
+            latexFreeFields.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             fieldsAsKeywords.remove(standardField);
         }
     }
 
+    private Map<Field, String> getLatexFreeFields() {
+        Map<Field, String> cache = latexFreeFields;
+        if (cache == null) {
+            synchronized (this) {
+                if (latexFreeFields == null) {
+                    latexFreeFields = new ConcurrentHashMap<>();
+                }
+                cache = latexFreeFields;
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the map to change the fields. If there is an observable view of the fields, it is returned so that its listeners are notified.
+     */
+    private Map<Field, String> mutableFields() {
+        ObservableMap<Field, String> observable = fieldsObservable;
+        return observable != null ? observable : fields;
+    }
+
     // region files
     public Optional<FieldChange> setFiles(List<LinkedFile> files) {
         Optional<String> oldValue = this.getField(StandardField.FILE);
@@ -1148,24 +1267,27 @@ public class BibEntry implements Cloneable {
 
     public OptionalBinding<String> getFieldBinding(Field field) {
         if ((field == InternalField.TYPE_HEADER) || (field == InternalField.OBSOLETE_TYPE_HEADER)) {
-            return EasyBind.wrapNullable(type).mapOpt(EntryType::getDisplayName);
+            return EasyBind.wrapNullable(typeProperty()).mapOpt(EntryType::getDisplayName);
         }
-        return EasyBind.valueAt(fields, field);
+        return EasyBind.valueAt(getFieldsObservable(), field);
     }
 
     public OptionalBinding<String> getCiteKeyBinding() {
         return getFieldBinding(InternalField.KEY_FIELD);
     }
 
-    public ObservableMap<Field, String> getFieldsObservable() {
-        return fields;
+    public synchronized ObservableMap<Field, String> getFieldsObservable() {
+        if (fieldsObservable == null) {
+            fieldsObservable = FXCollections.observableMap(fields);
+        }
+        return fieldsObservable;
     }
 
     /**
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        return new Observable[] {getFieldsObservable(), typeProperty()};
     }
 
     /**
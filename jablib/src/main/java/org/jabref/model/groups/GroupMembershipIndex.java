@@ -0,0 +1,239 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps track of the entries of a {@link BibDatabase} matched by groups, so that the entries of a group and their number
+ * are available without checking all entries against the group again.
+ * <p>
+ * Each entry of the database gets a position (slot). For each group, a {@link BitSet} stores which entries the group
+ * {@link AbstractGroup#contains contains}. The bitset of a group is computed when the group is queried the first time.
+ * Afterwards, it is updated whenever an entry is added, removed or changed: only the changed entry is checked against
+ * the groups. The hierarchical context of the groups ({@link GroupHierarchyType}) is applied by combining the bitsets
+ * of the group and its parent (intersection) or its children (union), the same way as {@link GroupTreeNode#getSearchMatcher()}.
+ * <p>
+ * Groups whose matches do not only depend on the entry itself, e.g., search groups and LaTeX groups, have to be
+ * {@link #invalidate(GroupTreeNode) invalidated} or {@link #update(BibEntry) updated} when their matches change.
+ * <p>
+ * The groups are referenced weakly, thus groups no longer used are dropped from the index.
+ */
+public class GroupMembershipIndex {
+
+    private static class Membership {
+        private final AbstractGroup group;
+        private final BitSet members;
+        private int size;
+
+        private Membership(AbstractGroup group, BitSet members) {
+            this.group = group;
+            this.members = members;
+            this.size = members.cardinality();
+        }
+
+        private void set(int slot, boolean isMember) {
+            if (members.get(slot) != isMember) {
+                members.set(slot, isMember);
+                size += isMember ? 1 : -1;
+            }
+        }
+    }
+
+    private final Map<BibEntry, Integer> slots = new IdentityHashMap<>();
+    // null at free slots
+    private final List<BibEntry> entriesBySlot = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+
+    // Keys are compared by identity, as the equality of tree nodes depends on their (mutable) groups and children
+    private final Map<GroupTreeNode, Membership> memberships = new MapMaker().weakKeys().makeMap();
+
+    public GroupMembershipIndex(BibDatabase database) {
+        database.registerListener(this);
+        synchronized (this) {
+            database.getEntries().forEach(this::addEntry);
+        }
+    }
+
+    /**
+     * Returns the number of entries matched by the given group, while taking the hierarchical context into account.
+     * If the hierarchical context does not apply, this number is available without any computation.
+     */
+    public synchronized int getNumberOfMatches(GroupTreeNode node) {
+        if (isIndependent(node)) {
+            return getMembership(node).size;
+        }
+        return getMembers(node, node.getGroup().getHierarchicalContext()).cardinality();
+    }
+
+    /**
+     * Returns the number of entries the group of the given node {@link AbstractGroup#contains contains}, ignoring the hierarchical context.
+     */
+    public synchronized int getNumberOfMembers(GroupTreeNode node) {
+        return getMembership(node).size;
+    }
+
+    /**
+     * Returns the entries matched by the given group, while taking the hierarchical context into account.
+     * The entries are not in the order of the database.
+     */
+    public synchronized List<BibEntry> getMatches(GroupTreeNode node) {
+        return getMatchedSlots(node).stream().mapToObj(entriesBySlot::get).toList();
+    }
+
+    /**
+     * Returns the entries matched by all (or any) of the given groups, while taking the hierarchical context into account.
+     * This corresponds to the {@link org.jabref.model.search.matchers.MatcherSets.MatcherType#AND AND} (or {@link org.jabref.model.search.matchers.MatcherSets.MatcherType#OR OR}) combination of their matchers.
+     * The returned set compares the entries by identity.
+     */
+    public synchronized Set<BibEntry> getMatches(Collection<GroupTreeNode> nodes, boolean matchAll) {
+        BitSet matchedSlots = null;
+        for (GroupTreeNode node : nodes) {
+            BitSet nodeSlots = getMatchedSlots(node);
+            if (matchedSlots == null) {
+                matchedSlots = (BitSet) nodeSlots.clone();
+            } else if (matchAll) {
+                matchedSlots.and(nodeSlots);
+            } else {
+                matchedSlots.or(nodeSlots);
+            }
+        }
+        Set<BibEntry> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (matchedSlots != null) {
+            matchedSlots.stream().mapToObj(entriesBySlot::get).forEach(matches::add);
+        }
+        return matches;
+    }
+
+    /**
+     * Checks the given entry against all groups again, e.g., after the matches of a search group changed.
+     */
+    public synchronized void update(BibEntry entry) {
+        Integer slot = slots.get(entry);
+        if (slot == null) {
+            return;
+        }
+        for (Membership membership : memberships.values()) {
+            membership.set(slot, membership.group.contains(entry));
+        }
+    }
+
+    /**
+     * Checks all entries against the group of the given node again, when the group is queried the next time.
+     */
+    public synchronized void invalidate(GroupTreeNode node) {
+        memberships.remove(node);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::addEntry);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::removeEntry);
+    }
+
+    @Subscribe
+    public void listen(EntryChangedEvent event) {
+        // Entries removed from the database still post their changes, these are ignored as the entries have no slot anymore
+        update(event.getBibEntry());
+    }
+
+    /**
+     * The returned bitset must not be modified, it might be the one stored in the index
+     */
+    private BitSet getMatchedSlots(GroupTreeNode node) {
+        return isIndependent(node) ? getMembership(node).members : getMembers(node, node.getGroup().getHierarchicalContext());
+    }
+
+    private boolean isIndependent(GroupTreeNode node) {
+        return switch (node.getGroup().getHierarchicalContext()) {
+            case INDEPENDENT -> true;
+            case INCLUDING -> node.getChildren().isEmpty();
+            case REFINING -> node.isRoot();
+        };
+    }
+
+    /**
+     * Combines the members of the groups like {@link GroupTreeNode#getSearchMatcher()} combines the matchers of the groups
+     */
+    private BitSet getMembers(GroupTreeNode node, GroupHierarchyType originalContext) {
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        BitSet members = (BitSet) getMembership(node).members.clone();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                members.or(getMembers(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            // noinspection OptionalGetWithoutIsPresent
+            members.and(getMembers(node.getParent().get(), originalContext));
+        }
+        return members;
+    }
+
+    private Membership getMembership(GroupTreeNode node) {
+        AbstractGroup group = node.getGroup();
+        Membership membership = memberships.get(node);
+        if ((membership == null) || (membership.group != group)) {
+            // Not queried before or the group of the node was replaced
+            BitSet members = new BitSet(entriesBySlot.size());
+            int[] matchedSlots = IntStream.range(0, entriesBySlot.size())
+                                          .parallel()
+                                          .filter(slot -> (entriesBySlot.get(slot) != null) && group.contains(entriesBySlot.get(slot)))
+                                          .toArray();
+            for (int slot : matchedSlots) {
+                members.set(slot);
+            }
+            membership = new Membership(group, members);
+            memberships.put(node, membership);
+        }
+        return membership;
+    }
+
+    private void addEntry(BibEntry entry) {
+        if (slots.containsKey(entry)) {
+            return;
+        }
+        int slot = freeSlots.nextSetBit(0);
+        if (slot < 0) {
+            slot = entriesBySlot.size();
+            entriesBySlot.add(entry);
+        } else {
+            freeSlots.clear(slot);
+            entriesBySlot.set(slot, entry);
+        }
+        slots.put(entry, slot);
+        for (Membership membership : memberships.values()) {
+            membership.set(slot, membership.group.contains(entry));
+        }
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Integer slot = slots.remove(entry);
+        if (slot == null) {
+            return;
+        }
+        entriesBySlot.set(slot, null);
+        freeSlots.set(slot);
+        for (Membership membership : memberships.values()) {
+            membership.set(slot, false);
+        }
+    }
+}
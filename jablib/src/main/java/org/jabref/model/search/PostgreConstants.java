@@ -8,7 +8,20 @@ public enum PostgreConstants {
     ENTRY_ID("entryid"),
     FIELD_NAME("field_name"),
     FIELD_VALUE_LITERAL("field_value_literal"), // contains the value as-is
-    FIELD_VALUE_TRANSFORMED("field_value_transformed"); // contains the value transformed for better querying
+    FIELD_VALUE_TRANSFORMED("field_value_transformed"), // contains the value transformed for better querying
+    ENTRIES_TABLE_SUFFIX("_entries"),
+    ENTRY_FINGERPRINT("fingerprint"),
+    POSITIONS_TABLE_SUFFIX("_positions"),
+    ENTRY_POSITION("entry_position"), // position of the entry in the library
+    LIBRARIES_TABLE("libraries"), // indexes kept across sessions
+    LIBRARY_PATH("library_path"),
+    MAIN_TABLE("main_table"),
+    CONTEXT_FINGERPRINT("context_fingerprint");
+
+    /**
+     * Version of the table layout. Increase if the content of the tables changes, so that indexes kept from previous sessions are not reused.
+     */
+    public static final int VERSION = 1;
 
     public static final List<String> POSTGRES_FUNCTIONS = List.of(
             // HTML highlighting function
@@ -71,6 +84,24 @@ public enum PostgreConstants {
         return BIB_FIELDS_SCHEME + ".\"" + mainTable + SPLIT_TABLE_SUFFIX + "\"";
     }
 
+    /**
+     * Generates the schema reference for the table storing the fingerprint of each indexed entry, used to reuse the index in the next session.
+     */
+    public static String getEntriesTableSchemaReference(String mainTable) {
+        return BIB_FIELDS_SCHEME + ".\"" + mainTable + ENTRIES_TABLE_SUFFIX + "\"";
+    }
+
+    /**
+     * Generates the schema reference for the table storing the position of each indexed entry in the library, used to return the matches in library order.
+     */
+    public static String getPositionsTableSchemaReference(String mainTable) {
+        return BIB_FIELDS_SCHEME + ".\"" + mainTable + POSITIONS_TABLE_SUFFIX + "\"";
+    }
+
+    public static String getLibrariesTableSchemaReference() {
+        return BIB_FIELDS_SCHEME + "." + LIBRARIES_TABLE;
+    }
+
     @Override
     public String toString() {
         return value;
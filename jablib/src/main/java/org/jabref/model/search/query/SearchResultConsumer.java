@@ -0,0 +1,15 @@
+package org.jabref.model.search.query;
+
+/**
+ * Receives the matches of a search one by one while they are retrieved.
+ */
+@FunctionalInterface
+public interface SearchResultConsumer {
+
+    /**
+     * @param entryId the id of the matching entry
+     * @param result  details of the match, e.g., the matching page of a linked file
+     * @return true to continue the search, false to stop it
+     */
+    boolean accept(String entryId, SearchResult result);
+}
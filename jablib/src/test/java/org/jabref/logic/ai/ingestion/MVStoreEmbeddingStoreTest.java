@@ -0,0 +1,136 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class MVStoreEmbeddingStoreTest {
+    private static final int DIMENSION = 16;
+    private static final int NUMBER_OF_EMBEDDINGS = 500;
+
+    @TempDir Path tempDir;
+
+    // Always uses the HNSW index
+    private MVStoreEmbeddingStore store;
+    private final List<String> ids = new ArrayList<>();
+    private final List<Embedding> embeddings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        store = openStore(0);
+        Random random = new Random(42);
+        for (int i = 0; i < NUMBER_OF_EMBEDDINGS; i++) {
+            Embedding embedding = randomEmbedding(random);
+            String file = i % 2 == 0 ? "even.pdf" : "odd.pdf";
+            embeddings.add(embedding);
+            ids.add(store.add(embedding, new TextSegment("segment " + i, new Metadata(Map.of(LINK_METADATA_KEY, file)))));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void searchFindsEmbeddingEqualToQuery() {
+        for (int i = 0; i < NUMBER_OF_EMBEDDINGS; i += 50) {
+            assertEquals(ids.get(i), search(store, embeddings.get(i), null).getFirst().embeddingId());
+        }
+    }
+
+    @Test
+    void searchFindsMostOfTheExactMatches() {
+        Random random = new Random(7);
+        List<Embedding> queries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            queries.add(randomEmbedding(random));
+        }
+
+        store.close();
+        store = openStore(Integer.MAX_VALUE);
+        List<List<String>> exactIds = queries.stream()
+                                             .map(query -> search(store, query, null).stream().map(EmbeddingMatch::embeddingId).toList())
+                                             .toList();
+        store.close();
+        store = openStore(0);
+
+        int found = 0;
+        for (int i = 0; i < queries.size(); i++) {
+            List<String> expected = exactIds.get(i);
+            found += (int) search(store, queries.get(i), null).stream().filter(match -> expected.contains(match.embeddingId())).count();
+        }
+        assertTrue(found >= 0.9 * 20 * 10, "recall too low: " + found);
+    }
+
+    @Test
+    void searchOnlyReturnsEmbeddingsOfFilteredFile() {
+        List<EmbeddingMatch<TextSegment>> matches = search(store, embeddings.get(1), new IsEqualTo(LINK_METADATA_KEY, "even.pdf"));
+
+        assertEquals(10, matches.size());
+        assertTrue(matches.stream().allMatch(match -> "even.pdf".equals(match.embedded().metadata().getString(LINK_METADATA_KEY))));
+    }
+
+    @Test
+    void searchDoesNotReturnRemovedEmbeddings() {
+        store.remove(ids.getFirst());
+        store.removeAll(new IsEqualTo(LINK_METADATA_KEY, "odd.pdf"));
+
+        List<EmbeddingMatch<TextSegment>> matches = search(store, embeddings.getFirst(), null);
+
+        assertEquals(10, matches.size());
+        assertFalse(matches.stream().anyMatch(match -> match.embeddingId().equals(ids.getFirst())));
+        assertTrue(matches.stream().allMatch(match -> "even.pdf".equals(match.embedded().metadata().getString(LINK_METADATA_KEY))));
+        assertEquals(List.of(), search(store, embeddings.get(1), new IsEqualTo(LINK_METADATA_KEY, "odd.pdf")));
+    }
+
+    @Test
+    void indexIsAvailableAfterReopening() {
+        store.close();
+        store = openStore(0);
+
+        assertEquals(ids.get(100), search(store, embeddings.get(100), null).getFirst().embeddingId());
+    }
+
+    private MVStoreEmbeddingStore openStore(int exactSearchThreshold) {
+        return new MVStoreEmbeddingStore(tempDir.resolve("embeddings.mv"), mock(NotificationService.class), exactSearchThreshold);
+    }
+
+    private static List<EmbeddingMatch<TextSegment>> search(MVStoreEmbeddingStore store, Embedding query, IsEqualTo filter) {
+        return store.search(EmbeddingSearchRequest.builder()
+                                                  .queryEmbedding(query)
+                                                  .maxResults(10)
+                                                  .filter(filter)
+                                                  .build())
+                    .matches();
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+}
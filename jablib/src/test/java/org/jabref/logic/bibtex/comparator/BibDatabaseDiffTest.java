@@ -1,5 +1,6 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -134,6 +135,45 @@ class BibDatabaseDiffTest {
         assertEquals(entryTwo, diff.getEntryDifferences().getFirst().newEntry(), "there is another value as newEntry");
     }
 
+    @Test
+    void compareOfEntriesWithSameDoiReportsOneDifference() {
+        BibEntry entryOne = new BibEntry(BibEntry.DEFAULT_TYPE)
+                .withField(StandardField.TITLE, "test")
+                .withField(StandardField.DOI, "10.1000/182");
+        BibEntry entryTwo = new BibEntry(BibEntry.DEFAULT_TYPE)
+                .withField(StandardField.TITLE, "something completely different")
+                .withField(StandardField.YEAR, "2020")
+                .withField(StandardField.DOI, "10.1000/182");
+
+        BibDatabaseDiff diff = compareEntries(entryOne, entryTwo);
+
+        assertEquals(List.of(new BibEntryDiff(entryOne, entryTwo)), diff.getEntryDifferences());
+    }
+
+    @Test
+    void compareOfLargeDatabasesReportsOnlyChangedEntries() {
+        List<BibEntry> originalEntries = new ArrayList<>();
+        List<BibEntry> newEntries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            originalEntries.add(new BibEntry(BibEntry.DEFAULT_TYPE)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.TITLE, "title " + i));
+            newEntries.add(new BibEntry(BibEntry.DEFAULT_TYPE)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.TITLE, "title " + i));
+        }
+        BibEntry changedEntry = newEntries.get(42).withField(StandardField.YEAR, "2020");
+        BibEntry addedEntry = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "added");
+        newEntries.add(addedEntry);
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(
+                new BibDatabaseContext(new BibDatabase(originalEntries)),
+                new BibDatabaseContext(new BibDatabase(newEntries)));
+
+        assertEquals(List.of(new BibEntryDiff(originalEntries.get(42), changedEntry), new BibEntryDiff(null, addedEntry)),
+                diff.getEntryDifferences());
+    }
+
     private BibDatabaseDiff compareEntries(BibEntry entryOne, BibEntry entryTwo) {
         BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(List.of(entryOne)));
         BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(List.of(entryTwo)));
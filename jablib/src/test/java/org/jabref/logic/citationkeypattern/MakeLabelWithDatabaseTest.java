@@ -1,5 +1,6 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
@@ -523,4 +524,30 @@ class MakeLabelWithDatabaseTest {
         new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKey(entry);
         assertEquals(Optional.of("Aapoj"), entry.getCitationKey());
     }
+
+    @Test
+    void generateKeysForAllEntriesLikeOneAfterAnother() {
+        BibDatabase sequentialDatabase = createLibraryWithDuplicateKeys();
+        CitationKeyGenerator sequentialGenerator = new CitationKeyGenerator(bibtexKeyPattern, sequentialDatabase, preferences);
+        sequentialDatabase.getEntries().forEach(sequentialGenerator::generateAndSetKey);
+
+        BibDatabase bulkDatabase = createLibraryWithDuplicateKeys();
+        new CitationKeyGenerator(bibtexKeyPattern, bulkDatabase, preferences).generateAndSetKeys(bulkDatabase.getEntries());
+
+        List<String> expectedKeys = sequentialDatabase.getEntries().stream().map(entry -> entry.getCitationKey().orElse("")).toList();
+        assertEquals(List.of("Doe2016", "Doe2016a", "Doe2016b", "Roe2016", "Roe2016a", "Doe2016c"), expectedKeys);
+        assertEquals(expectedKeys, bulkDatabase.getEntries().stream().map(entry -> entry.getCitationKey().orElse("")).toList());
+    }
+
+    private static BibDatabase createLibraryWithDuplicateKeys() {
+        BibDatabase library = new BibDatabase();
+        library.insertEntry(new BibEntry().withCitationKey("Doe2016").withField(StandardField.AUTHOR, "John Doe").withField(StandardField.YEAR, "2016"));
+        library.insertEntry(new BibEntry().withCitationKey("Doe2016a").withField(StandardField.AUTHOR, "Jane Doe").withField(StandardField.YEAR, "2016"));
+        library.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "John Doe").withField(StandardField.YEAR, "2016"));
+        library.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "Richard Roe").withField(StandardField.YEAR, "2016"));
+        library.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "Richard Roe").withField(StandardField.YEAR, "2016"));
+        // Resolves author and year from the first entry
+        library.insertEntry(new BibEntry().withField(StandardField.CROSSREF, "Doe2016"));
+        return library;
+    }
 }
@@ -0,0 +1,66 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateFinderTest {
+
+    private final DuplicateFinder duplicateFinder = new DuplicateFinder(new BibEntryTypesManager());
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Single Author")
+            .withField(StandardField.TITLE, "A serious paper about something")
+            .withField(StandardField.JOURNAL, "Journal of Something")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry unrelatedArticle = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Completely Different")
+            .withField(StandardField.TITLE, "Feature Engineering for Machine Learning")
+            .withField(StandardField.YEAR, "2019");
+
+    @Test
+    void entriesWithSameDoiAreCandidates() {
+        List<BibEntry> entries = List.of(
+                new BibEntry().withField(StandardField.DOI, "10.1000/182").withField(StandardField.TITLE, "First"),
+                unrelatedArticle,
+                new BibEntry().withField(StandardField.DOI, "10.1000/182").withField(StandardField.TITLE, "Second"));
+
+        assertArrayEquals(new long[] {2L}, DuplicateFinder.findCandidatePairs(entries));
+    }
+
+    @Test
+    void findsEntryWithSlightlyDifferentTitle() {
+        BibEntry copy = ((BibEntry) article.clone())
+                .withField(StandardField.TITLE, "A Serious Paper About {Something}.");
+        List<BibEntry> entries = List.of(article, unrelatedArticle, copy);
+
+        assertEquals(List.of(List.of(article, copy)), duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void unrelatedEntriesAreNoCandidates() {
+        assertArrayEquals(new long[0], DuplicateFinder.findCandidatePairs(List.of(article, unrelatedArticle)));
+    }
+
+    @Test
+    void consumerReceivesDuplicatesInOrderOfEntries() {
+        BibEntry firstCopy = (BibEntry) article.clone();
+        BibEntry secondCopy = (BibEntry) unrelatedArticle.clone();
+        List<BibEntry> entries = List.of(article, unrelatedArticle, firstCopy, secondCopy);
+
+        List<List<BibEntry>> duplicates = new ArrayList<>();
+        duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX, duplicates::add);
+
+        assertEquals(List.of(List.of(article, firstCopy), List.of(unrelatedArticle, secondCopy)), duplicates);
+    }
+}
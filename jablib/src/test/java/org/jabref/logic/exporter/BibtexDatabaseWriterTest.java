@@ -9,11 +9,14 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.citationkeypattern.AbstractCitationKeyPatterns;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.DatabaseCitationKeyPatterns;
@@ -57,6 +60,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -164,6 +168,30 @@ class BibtexDatabaseWriterTest {
                 stringWriter.toString());
     }
 
+    @Test
+    void writeManyEntriesInSaveOrder() throws IOException {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + (1500 - i))
+                    .withField(StandardField.TITLE, "Title " + i);
+            if ((i % 2) == 0) {
+                entry.setParsedSerialization("% comment" + OS.NEWLINE + "@Article{key" + (1500 - i) + ", title = {Title " + i + "}}");
+                entry.setChanged(false);
+            }
+            entries.add(entry);
+        }
+        database.insertEntries(entries);
+        saveConfiguration = new SelfContainedSaveConfiguration(new SaveOrder(SaveOrder.OrderType.SPECIFIED, List.of(new SaveOrder.SortCriterion(StandardField.TITLE, false))), false, BibDatabaseWriter.SaveType.PLAIN_BIBTEX, false);
+        initializeDatabaseWriter();
+
+        databaseWriter.savePartOfDatabase(bibtexContext, entries);
+
+        List<BibEntry> sortedEntries = BibDatabaseWriter.getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
+        String expected = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager).serializeAll(sortedEntries, bibtexContext.getMode());
+        assertEquals(expected, stringWriter.toString());
+    }
+
     @Test
     void writeEntryWithDuplicateKeywords() throws IOException {
         BibEntry entry = new BibEntry();
@@ -717,6 +745,59 @@ class BibtexDatabaseWriterTest {
                 stringWriter.toString());
     }
 
+    @Test
+    void incrementalSaveStoresSerializationOfWrittenEntry() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Mr. author")
+                .withChanged(true);
+        database.insertEntry(entry);
+        saveConfiguration.withIncrementalSave(true);
+
+        databaseWriter.savePartOfDatabase(bibtexContext, List.of(entry));
+
+        String expected = "@Article{," + OS.NEWLINE + "  author = {Mr. author}," + OS.NEWLINE + "}" + OS.NEWLINE;
+        assertEquals(expected, stringWriter.toString());
+        assertEquals(expected, entry.getParsedSerialization());
+        assertFalse(entry.hasChanged());
+    }
+
+    @Test
+    void incrementalSaveWritesStoredSerializationAgain() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Mr. author")
+                .withChanged(true);
+        database.insertEntry(entry);
+        saveConfiguration.withIncrementalSave(true);
+        databaseWriter.savePartOfDatabase(bibtexContext, List.of(entry));
+        String firstSave = stringWriter.toString();
+
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        initializeDatabaseWriter();
+        databaseWriter.savePartOfDatabase(bibtexContext, List.of(entry));
+
+        assertEquals(firstSave, stringWriter.toString());
+    }
+
+    @Test
+    void incrementalSaveSerializesEntryChangedAfterPreviousSave() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Mr. author")
+                .withChanged(true);
+        database.insertEntry(entry);
+        saveConfiguration.withIncrementalSave(true);
+        databaseWriter.savePartOfDatabase(bibtexContext, List.of(entry));
+
+        entry.setField(StandardField.TITLE, "The title");
+        stringWriter = new StringWriter();
+        bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
+        initializeDatabaseWriter();
+        databaseWriter.savePartOfDatabase(bibtexContext, List.of(entry));
+
+        assertEquals("@Article{," + OS.NEWLINE + "  author = {Mr. author}," + OS.NEWLINE + "  title  = {The title}," + OS.NEWLINE + "}" + OS.NEWLINE,
+                stringWriter.toString());
+    }
+
     @Test
     void writeSavedSerializationOfStringIfUnchanged() throws IOException {
         BibtexString string = new BibtexString("name", "content", "serialization");
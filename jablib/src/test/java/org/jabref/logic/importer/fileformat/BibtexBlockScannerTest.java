@@ -0,0 +1,52 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibtexBlockScannerTest {
+
+    @Test
+    void chunksStartAfterNewlineOfEntries() {
+        String content = "@article{a, title = {{A}}}\n@book{b}\r\n  @misc{c}\n";
+
+        assertEquals(List.of(27, 37), BibtexBlockScanner.findChunkStarts(content, 1));
+    }
+
+    @Test
+    void chunksDoNotStartAfterNonEntryBlocks() {
+        String content = "@String{a = {b}}\n@Comment{c}\n@Preamble{d}\n@article{e}\n";
+
+        assertEquals(List.of(), BibtexBlockScanner.findChunkStarts(content, 1));
+    }
+
+    @Test
+    void chunksDoNotStartBeforeText() {
+        String content = "@article{a}\n% comment\n@article{b}\n@article{c}\n";
+
+        assertEquals(List.of(34), BibtexBlockScanner.findChunkStarts(content, 1));
+    }
+
+    @Test
+    void escapedBracesAreNotCounted() {
+        String content = "@article{a, title = {\\{}}\n@article{b, title = {\\}}}\n@article{c}\n";
+
+        assertEquals(List.of(26, 52), BibtexBlockScanner.findChunkStarts(content, 1));
+    }
+
+    @Test
+    void chunksRespectMinimumSize() {
+        String content = "@article{a}\n@article{b}\n@article{c}\n";
+
+        assertEquals(List.of(24), BibtexBlockScanner.findChunkStarts(content, 20));
+    }
+
+    @Test
+    void scanStopsAtEntryUsingParentheses() {
+        String content = "@article{a}\n@article(b)\n@article{c}\n@article{d}\n";
+
+        assertEquals(List.of(12), BibtexBlockScanner.findChunkStarts(content, 1));
+    }
+}
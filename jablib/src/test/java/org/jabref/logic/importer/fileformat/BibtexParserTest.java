@@ -11,6 +11,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 
@@ -339,6 +340,72 @@ class BibtexParserTest {
         assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
     }
 
+    @Test
+    void parseSetsParsedSerializationOfLibraryLargerThanReadBuffer() throws IOException {
+        StringBuilder library = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                library.append("% comment ").append(i).append(OS.NEWLINE);
+            }
+            library.append("@article{key").append(i).append(", abstract = {").append("word ".repeat(50 * i)).append("}}").append(OS.NEWLINE);
+        }
+        List<BibEntry> parsedEntries = parser.parse(Reader.of(library.toString()))
+                                             .getDatabase().getEntries();
+
+        assertEquals(100, parsedEntries.size());
+        assertEquals(library.toString(), parsedEntries.stream().map(BibEntry::getParsedSerialization).collect(Collectors.joining()));
+        assertEquals("% comment 99" + OS.NEWLINE, parsedEntries.getLast().getCommentsBeforeEntry());
+    }
+
+    @Test
+    void parseInParallelReturnsSameResultAsParse() throws IOException {
+        StringBuilder library = new StringBuilder("@String{journal = {Journal}}" + OS.NEWLINE + "@Preamble{first}" + OS.NEWLINE);
+        for (int i = 0; i < 3000; i++) {
+            library.append("@article{key").append(i).append(", journal = journal, abstract = {").append("word ".repeat(100)).append("}}").append(OS.NEWLINE);
+            if ((i % 1000) == 999) {
+                library.append("@String{string").append(i).append(" = {value}}").append(OS.NEWLINE)
+                       .append("@Preamble{preamble").append(i).append("}").append(OS.NEWLINE);
+            }
+        }
+        library.append("@Comment{jabref-meta: databaseType:bibtex;}").append(OS.NEWLINE).append("epilog");
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(Reader.of(library.toString()));
+
+        // A small chunk size splits the library into many chunks
+        assertTrue(BibtexBlockScanner.findChunkStarts(library.toString(), 100_000).size() > 1);
+        Optional<ParserResult> chunkedResult = parser.parseInChunks(library.toString(), 100_000);
+
+        assertTrue(chunkedResult.isPresent(), "chunks are combined without falling back to sequential parsing");
+        ParserResult result = chunkedResult.get();
+        assertEquals(expected.getDatabase().getEntries(), result.getDatabase().getEntries());
+        assertEquals(expected.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                result.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(expected.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).sorted().toList(),
+                result.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).sorted().toList());
+        assertEquals(expected.getDatabase().getPreamble(), result.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+        assertEquals(expected.getMetaData(), result.getMetaData());
+        assertEquals(expected.warnings(), result.warnings());
+    }
+
+    @Test
+    void parseInParallelAssignsIdsInFileOrder() throws IOException {
+        StringBuilder library = new StringBuilder();
+        // Large enough to be split into several chunks of the minimum size
+        for (int i = 0; i < 6000; i++) {
+            library.append("@article{key").append(i).append(", abstract = {").append("word ".repeat(100)).append("}}").append(OS.NEWLINE);
+        }
+
+        BibDatabase database = parser.parseInParallel(library.toString()).getDatabase();
+
+        List<BibEntry> entries = database.getEntries();
+        assertEquals(6000, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(Optional.of("key" + i), entries.get(i).getCitationKey());
+            assertEquals(i, database.indexOf(entries.get(i)));
+            assertFalse(entries.get(i).hasChanged());
+        }
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         ParserResult result = parser
@@ -686,6 +753,17 @@ class BibtexParserTest {
         assertTrue(result.hasWarnings());
     }
 
+    @Test
+    void parseRecoversKeyWithMissingCommaBeforeField() throws IOException {
+        ParserResult result = parser.parse(Reader.of("@article{key author = {Ed von Test}}"));
+
+        BibEntry expected = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key")
+                .withField(StandardField.AUTHOR, "Ed von Test");
+        assertEquals(List.of(expected), result.getDatabase().getEntries());
+        assertTrue(result.hasWarnings());
+    }
+
     @Test
     void parseIgnoresAndWarnsAboutCorruptedEntryButRecognizeOthers() throws IOException {
         ParserResult result = parser.parse(
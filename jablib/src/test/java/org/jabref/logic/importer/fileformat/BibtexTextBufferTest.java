@@ -0,0 +1,64 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibtexTextBufferTest {
+
+    @Test
+    void takeTextReturnsTextReadSinceLastCall() throws IOException {
+        BibtexTextBuffer buffer = new BibtexTextBuffer(Reader.of("abcd"), 2);
+        buffer.read();
+        buffer.read();
+        assertEquals("ab", buffer.takeText());
+
+        buffer.read();
+        buffer.unread('c');
+        assertEquals("", buffer.takeText());
+        assertEquals('c', buffer.read());
+    }
+
+    @Test
+    void textLargerThanChunkIsKept() throws IOException {
+        String text = "x".repeat(100_000);
+        BibtexTextBuffer buffer = new BibtexTextBuffer(Reader.of(text), 2);
+        while (buffer.read() != -1) {
+            // read everything
+        }
+        assertEquals(text, buffer.takeText());
+    }
+
+    @Test
+    void pushedBackEofIsReadAsEofCharacter() throws IOException {
+        BibtexTextBuffer buffer = new BibtexTextBuffer(Reader.of("a"), 2);
+        assertEquals('a', buffer.read());
+        assertEquals(-1, buffer.read());
+        buffer.unread(-1);
+        buffer.unread('a');
+
+        assertEquals('a', buffer.read());
+        assertEquals('\uFFFF', buffer.read());
+        assertEquals(-1, buffer.read());
+        assertEquals("a", buffer.takeText());
+    }
+
+    @Test
+    void pushedBackCharacterDifferentFromReadCharacterIsRead() throws IOException {
+        BibtexTextBuffer buffer = new BibtexTextBuffer(Reader.of("a b="), 4);
+        for (int i = 0; i < 4; i++) {
+            buffer.read();
+        }
+        buffer.unread('=');
+        buffer.unread('b');
+        buffer.unread('a');
+
+        assertEquals('a', buffer.read());
+        assertEquals('b', buffer.read());
+        assertEquals('=', buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+}
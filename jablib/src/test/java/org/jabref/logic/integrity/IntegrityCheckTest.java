@@ -3,7 +3,9 @@ package org.jabref.logic.integrity;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -13,6 +15,7 @@ import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -32,7 +35,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -146,6 +151,58 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkAgainFindsProblemsOfChangedEntry() {
+        BibDatabaseContext context = createContext(StandardField.AUTHOR, "Knuth, Donald E. and Kurt Cobain and A. Einstein");
+        IntegrityCheck integrityCheck = createIntegrityCheck(context);
+        BibEntry entry = context.getEntries().getFirst();
+
+        assertNotEquals(List.of(), integrityCheck.check());
+
+        entry.setField(StandardField.AUTHOR, "Donald E. Knuth and Kurt Cobain and A. Einstein");
+        assertEquals(List.of(), integrityCheck.check());
+
+        entry.setField(StandardField.AUTHOR, "and Kurt Cobain and A. Einstein");
+        assertNotEquals(List.of(), integrityCheck.check());
+    }
+
+    @Test
+    void checkAgainFindsDuplicateKeyOfUnchangedEntry() {
+        BibEntry first = new BibEntry(StandardEntryType.Misc).withCitationKey("first");
+        BibEntry second = new BibEntry(StandardEntryType.Misc).withCitationKey("second");
+        BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(List.of(first, second)));
+        IntegrityCheck integrityCheck = createIntegrityCheck(context);
+        IntegrityMessage duplicateKey = new IntegrityMessage(Localization.lang("Duplicate citation key"), first, StandardField.KEY);
+
+        assertFalse(integrityCheck.check().contains(duplicateKey));
+
+        second.setCitationKey("first");
+        assertTrue(integrityCheck.check().contains(duplicateKey));
+    }
+
+    @Test
+    void cancelledCheckSkipsEntries() {
+        BibDatabaseContext context = createContext(StandardField.AUTHOR, "Knuth, Donald E. and Kurt Cobain and A. Einstein");
+        IntegrityCheck integrityCheck = createIntegrityCheck(context);
+
+        assertEquals(List.of(), integrityCheck.checkEntries(context.getEntries(), _ -> {
+        }, () -> true));
+        assertNotEquals(List.of(), integrityCheck.checkEntries(context.getEntries(), _ -> {
+        }, () -> false));
+    }
+
+    @Test
+    void checkerDurationsContainRunCheckers() {
+        IntegrityCheck integrityCheck = createIntegrityCheck(createContext(StandardField.TITLE, "sometitle"));
+
+        integrityCheck.check();
+
+        Map<String, Duration> durations = integrityCheck.getCheckerDurations();
+        assertTrue(durations.containsKey(TitleChecker.class.getSimpleName()));
+        assertTrue(durations.containsKey(CitationKeyDuplicationChecker.class.getSimpleName()));
+        assertTrue(durations.containsKey(DoiDuplicationChecker.class.getSimpleName()));
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
@@ -196,6 +253,14 @@ class IntegrityCheckTest {
         assertEquals(List.of(), messages);
     }
 
+    private IntegrityCheck createIntegrityCheck(BibDatabaseContext context) {
+        return new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+    }
+
     private CitationKeyPatternPreferences createCitationKeyPatternPreferences() {
         return new CitationKeyPatternPreferences(
                 false,
@@ -1,6 +1,7 @@
 package org.jabref.logic.integrity;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jabref.model.entry.BibEntry;
@@ -9,6 +10,7 @@ import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UserSpecificCommentField;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -21,6 +23,16 @@ class LatexIntegrityCheckerTest {
     private final LatexIntegrityChecker checker = new LatexIntegrityChecker();
     private final BibEntry entry = new BibEntry();
 
+    @Test
+    void entriesCanBeCheckedInParallel() {
+        List<BibEntry> entries = IntStream.range(0, 1000)
+                                          .mapToObj(i -> new BibEntry().withField(StandardField.TITLE, (i % 2) == 0 ? "Unbalanced braces {" + i : "Simple Text " + i))
+                                          .toList();
+        List<List<IntegrityMessage>> expected = entries.stream().map(checker::check).toList();
+
+        assertEquals(expected, entries.parallelStream().map(checker::check).toList());
+    }
+
     @ParameterizedTest
     @MethodSource("provideAcceptedInputs")
     void acceptsAllowedInputs(Field field, String value) {
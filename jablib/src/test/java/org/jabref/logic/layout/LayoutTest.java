@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -184,4 +185,28 @@ class LayoutTest {
 
         assertEquals("Joe Doe and Mary Jane: Joe Doe and Mary Jane 1:corresponding,2:highlight", layoutText);
     }
+
+    @Test
+    void numberIsTakenFromContext() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Joe Doe");
+        Layout layout = new LayoutHelper(Reader.of("\\format[Number]{\\author}. \\author"), List.of(), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+
+        assertEquals("1. Joe Doe", layout.doLayout(entry, null));
+        assertEquals("42. Joe Doe", layout.doLayout(entry, null, new LayoutContext(42)));
+    }
+
+    @Test
+    void groupIsOnlyWrittenIfChangedWithinContext() throws IOException {
+        BibEntry first = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2020");
+        BibEntry second = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2020");
+        Layout layout = new LayoutHelper(Reader.of("\\begingroup{year}\\year: \\endgroup{year}x"), List.of(), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+        LayoutContext context = new LayoutContext(1);
+
+        assertTrue(layout.containsGroups());
+        assertEquals("2020: x", layout.doLayout(first, null, context));
+        assertEquals("x", layout.doLayout(second, null, context));
+        assertEquals("2020: x", layout.doLayout(second, null, new LayoutContext(2)));
+    }
 }
@@ -0,0 +1,43 @@
+package org.jabref.logic.layout.format;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jabref.logic.layout.LayoutFormatter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class XMLCharsTest {
+    private final LayoutFormatter formatter = new XMLChars();
+
+    @ParameterizedTest
+    @MethodSource("provideArguments")
+    void formatText(String formattedString, String originalString) {
+        assertEquals(formattedString, formatter.format(originalString));
+    }
+
+    private static Stream<Arguments> provideArguments() {
+        return Stream.of(
+                Arguments.of("", ""),
+                Arguments.of("simple", "simple"),
+                Arguments.of("a&#44; b", "a, b"),
+                Arguments.of("a&lt;b", "a<b")
+        );
+    }
+
+    @Test
+    void formatsTextsInParallel() {
+        List<String> texts = IntStream.range(0, 1000)
+                                      .mapToObj(i -> "Title " + i + ", with <" + i + "> and ^" + i)
+                                      .toList();
+        List<String> expected = texts.stream().map(new XMLChars()::format).toList();
+
+        assertEquals(expected, texts.parallelStream().map(formatter::format).toList());
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.logic.search;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -20,6 +21,7 @@ import org.jabref.model.search.query.SearchQuery;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -71,6 +73,19 @@ public class DatabaseSearcherTest {
         assertEquals(expectedMatches, matches);
     }
 
+    @Test
+    void getMatchesReturnsFirstMatchesInLibraryOrder() throws IOException {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, i % 2 == 0 ? "harrer" : "smith");
+            entries.add(entry);
+            databaseContext.getDatabase().insertEntry(entry);
+        }
+        DatabaseSearcher searcher = new DatabaseSearcher(new SearchQuery("harrer"), databaseContext, TASK_EXECUTOR, preferences, postgreServer);
+
+        assertEquals(List.of(entries.get(0), entries.get(2), entries.get(4)), searcher.getMatches(3));
+    }
+
     private static Stream<Arguments> databaseSearcher() {
         BibEntry emptyEntry = new BibEntry();
 
@@ -0,0 +1,78 @@
+package org.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.util.TaskExecutor;
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class IndexUpdateQueueTest {
+
+    private final TaskExecutor taskExecutor = mock(TaskExecutor.class);
+    private final List<List<FieldChange>> flushedChanges = new ArrayList<>();
+    private IndexUpdateQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new IndexUpdateQueue(taskExecutor, 100, (changes, task) -> flushedChanges.add(changes));
+    }
+
+    @Test
+    void repeatedChangesOfSameFieldAreCollapsed() {
+        BibEntry entry = new BibEntry();
+        queue.add(new FieldChangedEvent(entry, StandardField.TITLE, "a", null));
+        queue.add(new FieldChangedEvent(entry, StandardField.TITLE, "ab", "a"));
+        queue.add(new FieldChangedEvent(entry, StandardField.TITLE, "abc", "ab"));
+        queue.add(new FieldChangedEvent(entry, StandardField.AUTHOR, "Smith", null));
+
+        assertEquals(2, queue.getQueueDepth());
+        queue.flush();
+
+        assertEquals(List.of(List.of(
+                new FieldChange(entry, StandardField.TITLE, null, "abc"),
+                new FieldChange(entry, StandardField.AUTHOR, null, "Smith"))), flushedChanges);
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(2.0, queue.getCoalescingRatio());
+    }
+
+    @Test
+    void sameFieldOfDifferentEntriesIsNotCollapsed() {
+        queue.add(new FieldChangedEvent(new BibEntry(), StandardField.TITLE, "a", null));
+        queue.add(new FieldChangedEvent(new BibEntry(), StandardField.TITLE, "a", null));
+
+        assertEquals(2, queue.getQueueDepth());
+        assertEquals(1.0, queue.getCoalescingRatio());
+    }
+
+    @Test
+    void flushIsScheduledOncePerWindow() {
+        BibEntry entry = new BibEntry();
+        queue.add(new FieldChangedEvent(entry, StandardField.TITLE, "a", null));
+        queue.add(new FieldChangedEvent(entry, StandardField.AUTHOR, "b", null));
+        verify(taskExecutor, times(1)).schedule(any(), anyLong(), any());
+
+        queue.flush();
+        queue.add(new FieldChangedEvent(entry, StandardField.TITLE, "c", "a"));
+        verify(taskExecutor, times(2)).schedule(any(), anyLong(), any());
+    }
+
+    @Test
+    void flushWithoutChangesDoesNothing() {
+        queue.flush();
+
+        assertEquals(List.of(), flushedChanges);
+    }
+}
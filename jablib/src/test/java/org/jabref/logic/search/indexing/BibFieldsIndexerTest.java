@@ -0,0 +1,157 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.PostgreConstants;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BibFieldsIndexerTest {
+
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private PostgreServer postgreServer;
+
+    @BeforeEach
+    void setUp() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        postgreServer = new PostgreServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postgreServer.shutdown();
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void escapeCopyValue(String expected, String value) {
+        assertEquals(expected, BibFieldsIndexer.escapeCopyValue(value));
+    }
+
+    private static Stream<Arguments> escapeCopyValue() {
+        return Stream.of(
+                Arguments.of("Title", "Title"),
+                Arguments.of("\\\\textbf{Title}", "\\textbf{Title}"),
+                Arguments.of("first\\tsecond", "first\tsecond"),
+                Arguments.of("first\\r\\nsecond", "first\r\nsecond")
+        );
+    }
+
+    @Test
+    void bulkLoadAddsSameRowsAsAddingPerEntry() throws SQLException {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Tom Smith and Anna M{\\\"u}ller")
+                    .withField(StandardField.TITLE, "A title\twith\nspecial \\emph{characters} " + i)
+                    .withField(StandardField.KEYWORDS, "one, two")
+                    .withField(StandardField.YEAR, "2024"));
+        }
+
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(entries));
+
+        BibFieldsIndexer bulkIndexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+        bulkIndexer.bulkLoad(entries, BackgroundTask.wrap(() -> null));
+
+        BibFieldsIndexer perEntryIndexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+        for (BibEntry entry : entries) {
+            perEntryIndexer.addToIndex(List.of(entry), BackgroundTask.wrap(() -> null));
+        }
+
+        assertEquals(getRows(PostgreConstants.getMainTableSchemaReference(perEntryIndexer.getTable())),
+                getRows(PostgreConstants.getMainTableSchemaReference(bulkIndexer.getTable())));
+        assertEquals(getRows(PostgreConstants.getSplitTableSchemaReference(perEntryIndexer.getTable())),
+                getRows(PostgreConstants.getSplitTableSchemaReference(bulkIndexer.getTable())));
+    }
+
+    @Test
+    void storedIndexIsReusedAfterRestart(@TempDir Path tempDir) throws IOException, SQLException {
+        Path libraryPath = Files.createFile(tempDir.resolve("library.bib"));
+        Path dataDirectory = tempDir.resolve("postgres");
+
+        PostgreServer persistentServer = new PostgreServer(dataDirectory);
+        BibDatabaseContext previousSession = new BibDatabaseContext(new BibDatabase(createEntries("Old")), new MetaData(), libraryPath);
+        BibFieldsIndexer previousIndexer = new BibFieldsIndexer(bibEntryPreferences, previousSession, persistentServer.getConnection(), true);
+        previousIndexer.updateOnStart(BackgroundTask.wrap(() -> null));
+        previousIndexer.closeAndWait();
+        persistentServer.shutdown();
+
+        persistentServer = new PostgreServer(dataDirectory);
+        try {
+            List<BibEntry> entries = createEntries("Old");
+            entries.getLast().setField(StandardField.TITLE, "Changed title");
+            BibDatabaseContext currentSession = new BibDatabaseContext(new BibDatabase(entries), new MetaData(), libraryPath);
+            BibFieldsIndexer reusingIndexer = new BibFieldsIndexer(bibEntryPreferences, currentSession, persistentServer.getConnection(), true);
+            reusingIndexer.updateOnStart(BackgroundTask.wrap(() -> null));
+
+            BibFieldsIndexer freshIndexer = new BibFieldsIndexer(bibEntryPreferences, currentSession, persistentServer.getConnection());
+            freshIndexer.updateOnStart(BackgroundTask.wrap(() -> null));
+
+            assertTrue(persistentServer.isPersistent());
+            assertEquals(getRows(persistentServer, PostgreConstants.getMainTableSchemaReference(freshIndexer.getTable())),
+                    getRows(persistentServer, PostgreConstants.getMainTableSchemaReference(reusingIndexer.getTable())));
+            assertEquals(getRows(persistentServer, PostgreConstants.getSplitTableSchemaReference(freshIndexer.getTable())),
+                    getRows(persistentServer, PostgreConstants.getSplitTableSchemaReference(reusingIndexer.getTable())));
+        } finally {
+            persistentServer.shutdown();
+        }
+    }
+
+    private static List<BibEntry> createEntries(String title) {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Tom Smith and Anna M{\\\"u}ller")
+                    .withField(StandardField.TITLE, title + " title " + i)
+                    .withField(StandardField.KEYWORDS, "one, two"));
+        }
+        return entries;
+    }
+
+    private List<String> getRows(String tableReference) throws SQLException {
+        return getRows(postgreServer, tableReference);
+    }
+
+    private static List<String> getRows(PostgreServer postgreServer, String tableReference) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Connection connection = postgreServer.getConnection();
+             ResultSet resultSet = connection.createStatement().executeQuery("""
+                     SELECT * FROM %s ORDER BY 1, 2, 3, 4
+                     """.formatted(tableReference))) {
+            while (resultSet.next()) {
+                rows.add(String.join("|", resultSet.getString(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4)));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,80 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.jabref.logic.FilePreferences;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LinkedFilesIndexSchedulerTest {
+
+    private final FilePreferences filePreferences = mock(FilePreferences.class);
+    private final ScheduledExecutorService commitExecutor = mock(ScheduledExecutorService.class);
+
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private LinkedFilesIndexScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(filePreferences.getFulltextIndexCommitDocuments()).thenReturn(10);
+        directory = new ByteBuffersDirectory();
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()));
+        scheduler = new LinkedFilesIndexScheduler(indexWriter, new SearcherManager(indexWriter, null), filePreferences, commitExecutor);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        scheduler.close();
+        indexWriter.close();
+    }
+
+    @Test
+    void indexIsCommittedAfterConfiguredNumberOfPages() throws IOException {
+        addPages(10);
+        scheduler.documentsWritten(10);
+
+        ArgumentCaptor<Runnable> commit = ArgumentCaptor.forClass(Runnable.class);
+        verify(commitExecutor).execute(commit.capture());
+        commit.getValue().run();
+
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            assertEquals(10, reader.numDocs());
+        }
+    }
+
+    @Test
+    void indexIsNotCommittedBelowConfiguredNumberOfPages() throws IOException {
+        addPages(9);
+        scheduler.documentsWritten(9);
+
+        verify(commitExecutor, never()).execute(any());
+        assertFalse(DirectoryReader.indexExists(directory));
+    }
+
+    private void addPages(int pages) throws IOException {
+        for (int i = 0; i < pages; i++) {
+            indexWriter.addDocument(new Document());
+        }
+    }
+}
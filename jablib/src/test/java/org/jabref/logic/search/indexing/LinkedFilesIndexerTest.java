@@ -6,13 +6,16 @@ import java.util.List;
 import java.util.Optional;
 
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.FileFieldWriter;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.search.LuceneIndexer;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import org.apache.lucene.index.IndexReader;
@@ -161,6 +164,92 @@ public class LinkedFilesIndexerTest {
         }
     }
 
+    @Test
+    void pagesOfMultipleFilesAreIndexed() throws IOException {
+        // given
+        BibEntry exampleThesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article)
+                .withFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+
+        // when
+        indexer.addToIndex(List.of(exampleThesis, metadata), mock(BackgroundTask.class));
+
+        // then
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = indexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(34, reader.numDocs());
+        }
+    }
+
+    @Test
+    void identicalFileUnderDifferentLinkReusesIndexedPages() throws IOException {
+        // given
+        BibEntry exampleThesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        indexer.addToIndex(List.of(exampleThesis), mock(BackgroundTask.class));
+        BibEntry sameThesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "./thesis-example.pdf", StandardFileType.PDF.getName())));
+
+        // when
+        indexer.addToIndex(List.of(sameThesis), mock(BackgroundTask.class));
+
+        // then
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = indexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(66, reader.numDocs());
+        }
+    }
+
+    @Test
+    void identicalFileInOtherLibraryReusesIndexedPages(@TempDir Path otherIndexDir) throws IOException {
+        // given
+        BibEntry exampleThesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        indexer.addToIndex(List.of(exampleThesis), mock(BackgroundTask.class));
+
+        BibDatabaseContext otherContext = mock(BibDatabaseContext.class);
+        when(otherContext.getDatabasePath()).thenReturn(Optional.of(Path.of("src/test/resources/pdfs/")));
+        when(otherContext.getFileDirectories(Mockito.any())).thenReturn(List.of(Path.of("src/test/resources/pdfs")));
+        when(otherContext.getFulltextIndexPath()).thenReturn(otherIndexDir);
+        LuceneIndexer otherIndexer = new DefaultLinkedFilesIndexer(otherContext, filePreferences);
+        try {
+            BibEntry sameThesis = new BibEntry(StandardEntryType.PhdThesis)
+                    .withFiles(List.of(new LinkedFile("Example Thesis", "./thesis-example.pdf", StandardFileType.PDF.getName())));
+
+            // when
+            otherIndexer.addToIndex(List.of(sameThesis), mock(BackgroundTask.class));
+
+            // then
+            otherIndexer.getSearcherManager().maybeRefreshBlocking();
+            try (IndexReader reader = otherIndexer.getSearcherManager().acquire().getIndexReader()) {
+                assertEquals(33, reader.numDocs());
+            }
+        } finally {
+            otherIndexer.closeAndWait();
+        }
+    }
+
+    @Test
+    void changesOfFileFieldsAreAppliedTogether() throws IOException {
+        LinkedFile thesis = new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName());
+        LinkedFile metadata = new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName());
+        BibEntry thesisEntry = new BibEntry(StandardEntryType.PhdThesis).withFiles(List.of(thesis));
+        indexer.addToIndex(List.of(thesisEntry), mock(BackgroundTask.class));
+        BibEntry metadataEntry = new BibEntry(StandardEntryType.Article).withFiles(List.of(metadata));
+
+        // when
+        indexer.updateEntries(List.of(
+                new FieldChange(thesisEntry, StandardField.FILE, FileFieldWriter.getStringRepresentation(thesis), null),
+                new FieldChange(metadataEntry, StandardField.FILE, null, FileFieldWriter.getStringRepresentation(metadata))), mock(BackgroundTask.class));
+
+        // then
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = indexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(1, reader.numDocs());
+        }
+    }
+
     @Test
     public void flushIndex() throws IOException {
         // given
@@ -182,4 +271,17 @@ public class LinkedFilesIndexerTest {
             assertEquals(0, reader.numDocs());
         }
     }
+
+    @Test
+    void refreshSearcherMakesIndexedPagesVisible() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+
+        indexer.addToIndex(List.of(entry), mock(BackgroundTask.class));
+
+        indexer.refreshSearcher();
+        try (IndexReader reader = indexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(33, reader.numDocs());
+        }
+    }
 }
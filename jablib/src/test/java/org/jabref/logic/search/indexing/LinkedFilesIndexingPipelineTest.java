@@ -0,0 +1,116 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.util.Pair;
+
+import org.jabref.logic.util.BackgroundTask;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LinkedFilesIndexingPipelineTest {
+
+    private static final int PARALLELISM = 2;
+    private static final int NUMBER_OF_FILES = 12;
+
+    private final DocumentReader documentReader = mock(DocumentReader.class);
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger indexed = new AtomicInteger();
+    private final AtomicInteger reading = new AtomicInteger();
+    private final AtomicInteger maxReading = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private IndexWriter indexWriter;
+    private LinkedFilesIndexingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        indexWriter = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(new StandardAnalyzer()));
+        pipeline = new LinkedFilesIndexingPipeline(documentReader, indexWriter, mock(LinkedFilesIndexScheduler.class), "library", PARALLELISM);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        pipeline.close();
+        indexWriter.close();
+    }
+
+    @Test
+    void filesAreReadConcurrently() throws IOException {
+        // Each file is only read after another file is read at the same time, otherwise the barrier times out
+        CyclicBarrier barrier = new CyclicBarrier(PARALLELISM);
+        when(documentReader.readPdfContents(anyString(), any(Path.class))).thenAnswer(_ -> {
+            barrier.await(10, TimeUnit.SECONDS);
+            return List.of(new Document());
+        });
+
+        int added = pipeline.run(files(PARALLELISM * 3), mock(BackgroundTask.class), (_, _) -> indexed.incrementAndGet());
+
+        assertEquals(PARALLELISM * 3, added);
+        assertEquals(PARALLELISM * 3, indexed.get());
+        assertEquals(PARALLELISM * 3, indexWriter.getDocStats().numDocs);
+    }
+
+    @Test
+    void numberOfFilesInFlightIsBounded() {
+        when(documentReader.readPdfContents(anyString(), any(Path.class))).thenAnswer(_ -> {
+            // Files started but not yet added to the index
+            maxInFlight.accumulateAndGet(started.incrementAndGet() - indexed.get(), Math::max);
+            maxReading.accumulateAndGet(reading.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            reading.decrementAndGet();
+            return List.of(new Document());
+        });
+
+        int added = pipeline.run(files(NUMBER_OF_FILES), mock(BackgroundTask.class), (_, _) -> indexed.incrementAndGet());
+
+        assertEquals(NUMBER_OF_FILES, added);
+        assertTrue(maxReading.get() <= PARALLELISM, "at most one file per worker is read at the same time");
+        assertTrue(maxInFlight.get() <= 2 * PARALLELISM, "at most two files per worker are parsed but not yet written");
+    }
+
+    @Test
+    void unreadableFilesAreNotCountedAsAdded() {
+        when(documentReader.readPdfContents(anyString(), any(Path.class))).thenAnswer(invocation -> {
+            if (invocation.getArgument(0, String.class).startsWith("file1")) {
+                throw new IllegalStateException("unreadable");
+            }
+            return List.of(new Document());
+        });
+
+        // file1.pdf, file10.pdf and file11.pdf cannot be read
+        int added = pipeline.run(files(NUMBER_OF_FILES), mock(BackgroundTask.class), (_, _) -> indexed.incrementAndGet());
+
+        assertEquals(NUMBER_OF_FILES - 3, added);
+        assertEquals(NUMBER_OF_FILES - 3, indexed.get());
+    }
+
+    private static Map<String, Pair<Long, Path>> files(int number) {
+        Map<String, Pair<Long, Path>> files = new HashMap<>();
+        for (int i = 0; i < number; i++) {
+            files.put("file" + i + ".pdf", new Pair<>(0L, Path.of("file" + i + ".pdf")));
+        }
+        return files;
+    }
+}
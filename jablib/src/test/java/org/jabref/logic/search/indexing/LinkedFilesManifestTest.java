@@ -0,0 +1,68 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.search.indexing.LinkedFilesManifest.FileState;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LinkedFilesManifestTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void savedManifestIsLoadedAgain() {
+        Path manifestFile = tempDir.resolve("index.manifest");
+        LinkedFilesManifest manifest = LinkedFilesManifest.load(manifestFile);
+        manifest.put("some file;with=special:chars.pdf", new FileState(42, 1700000000, "abc"));
+        manifest.put("recovered.pdf", new FileState(-1, 1700000001, null));
+        manifest.save();
+
+        LinkedFilesManifest loaded = LinkedFilesManifest.load(manifestFile);
+
+        assertTrue(loaded.exists());
+        assertEquals(Optional.of(new FileState(42, 1700000000, "abc")), loaded.get("some file;with=special:chars.pdf"));
+        assertEquals(Optional.of(new FileState(-1, 1700000001, null)), loaded.get("recovered.pdf"));
+    }
+
+    @Test
+    void loadingDeletesManifestFile() {
+        Path manifestFile = tempDir.resolve("index.manifest");
+        LinkedFilesManifest.load(manifestFile).save();
+
+        LinkedFilesManifest.load(manifestFile);
+
+        assertFalse(Files.exists(manifestFile));
+        assertFalse(LinkedFilesManifest.load(manifestFile).exists());
+    }
+
+    @Test
+    void identicalContentHasSameHash() throws IOException {
+        Path first = Files.writeString(tempDir.resolve("first.pdf"), "content");
+        Path second = Files.writeString(tempDir.resolve("second.pdf"), "content");
+        Path third = Files.writeString(tempDir.resolve("third.pdf"), "other content");
+
+        assertEquals(LinkedFilesManifest.computeHash(first), LinkedFilesManifest.computeHash(second));
+        assertNotEquals(LinkedFilesManifest.computeHash(first), LinkedFilesManifest.computeHash(third));
+    }
+
+    @Test
+    void linksByHashSkipsUnknownHashes() {
+        LinkedFilesManifest manifest = LinkedFilesManifest.load(tempDir.resolve("index.manifest"));
+        manifest.put("a.pdf", new FileState(1, 1, "hash"));
+        manifest.put("b.pdf", new FileState(1, 1, null));
+
+        assertEquals(Map.of("hash", "a.pdf"), manifest.getLinksByHash());
+    }
+}
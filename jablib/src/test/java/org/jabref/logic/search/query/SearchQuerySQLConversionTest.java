@@ -45,7 +45,7 @@ class SearchQuerySQLConversionTest {
                             SELECT main_table.entryid
                             FROM bib_fields."tableName" AS main_table
                             WHERE (
-                                (main_table.field_name = 'author') AND ((main_table.field_value_literal ILIKE ('%smith%')) OR (main_table.field_value_transformed ILIKE ('%smith%')))
+                                (main_table.field_name = ('author')) AND ((main_table.field_value_literal ILIKE ('%smith%')) OR (main_table.field_value_transformed ILIKE ('%smith%')))
                             )
                         )
                         SELECT * FROM cte0 GROUP BY entryid"""
@@ -59,7 +59,7 @@ class SearchQuerySQLConversionTest {
                             SELECT main_table.entryid
                             FROM bib_fields."tableName" AS main_table
                             WHERE (
-                                (main_table.field_name = 'author') AND ((main_table.field_value_literal ILIKE ('%smith%')) OR (main_table.field_value_transformed ILIKE ('%smith%')))
+                                (main_table.field_name = ('author')) AND ((main_table.field_value_literal ILIKE ('%smith%')) OR (main_table.field_value_transformed ILIKE ('%smith%')))
                             )
                         )
                         SELECT * FROM cte0 GROUP BY entryid"""
@@ -73,7 +73,7 @@ class SearchQuerySQLConversionTest {
                             SELECT main_table.entryid
                             FROM bib_fields."tableName" AS main_table
                             WHERE (
-                                (main_table.field_name = 'author') AND ((main_table.field_value_literal LIKE ('%smith%')) OR (main_table.field_value_transformed LIKE ('%smith%')))
+                                (main_table.field_name = ('author')) AND ((main_table.field_value_literal LIKE ('%smith%')) OR (main_table.field_value_transformed LIKE ('%smith%')))
                             )
                         )
                         SELECT * FROM cte0 GROUP BY entryid"""
@@ -90,7 +90,7 @@ class SearchQuerySQLConversionTest {
                                 SELECT inner_table.entryid
                                 FROM bib_fields."tableName" AS inner_table
                                 WHERE (
-                                    (inner_table.field_name = 'author') AND ((inner_table.field_value_literal ILIKE ('%smith%')) OR (inner_table.field_value_transformed ILIKE ('%smith%')))
+                                    (inner_table.field_name = ('author')) AND ((inner_table.field_value_literal ILIKE ('%smith%')) OR (inner_table.field_value_transformed ILIKE ('%smith%')))
                                 )
                             )
                         )
@@ -108,7 +108,7 @@ class SearchQuerySQLConversionTest {
                                 SELECT inner_table.entryid
                                 FROM bib_fields."tableName" AS inner_table
                                 WHERE (
-                                    (inner_table.field_name = 'author') AND ((inner_table.field_value_literal LIKE ('%smith%')) OR (inner_table.field_value_transformed LIKE ('%smith%')))
+                                    (inner_table.field_name = ('author')) AND ((inner_table.field_value_literal LIKE ('%smith%')) OR (inner_table.field_value_transformed LIKE ('%smith%')))
                                 )
                             )
                         )
@@ -125,9 +125,9 @@ class SearchQuerySQLConversionTest {
                             LEFT JOIN bib_fields."tableName_split_values" AS split_table
                             ON (main_table.entryid = split_table.entryid AND main_table.field_name = split_table.field_name)
                             WHERE (
-                                ((main_table.field_name = 'author') AND ((main_table.field_value_literal ILIKE ('smith')) OR (main_table.field_value_transformed ILIKE ('smith'))))
+                                ((main_table.field_name = ('author')) AND ((main_table.field_value_literal ILIKE ('smith')) OR (main_table.field_value_transformed ILIKE ('smith'))))
                                 OR
-                                ((split_table.field_name = 'author') AND ((split_table.field_value_literal ILIKE ('smith')) OR (split_table.field_value_transformed ILIKE ('smith'))))
+                                ((split_table.field_name = ('author')) AND ((split_table.field_value_literal ILIKE ('smith')) OR (split_table.field_value_transformed ILIKE ('smith'))))
                             )
                         )
                         SELECT * FROM cte0 GROUP BY entryid"""
@@ -143,9 +143,9 @@ class SearchQuerySQLConversionTest {
                             LEFT JOIN bib_fields."tableName_split_values" AS split_table
                             ON (main_table.entryid = split_table.entryid AND main_table.field_name = split_table.field_name)
                             WHERE (
-                                ((main_table.field_name = 'author') AND ((main_table.field_value_literal ILIKE ('smith')) OR (main_table.field_value_transformed ILIKE ('smith'))))
+                                ((main_table.field_name = ('author')) AND ((main_table.field_value_literal ILIKE ('smith')) OR (main_table.field_value_transformed ILIKE ('smith'))))
                                 OR
-                                ((split_table.field_name = 'author') AND ((split_table.field_value_literal ILIKE ('smith')) OR (split_table.field_value_transformed ILIKE ('smith'))))
+                                ((split_table.field_name = ('author')) AND ((split_table.field_value_literal ILIKE ('smith')) OR (split_table.field_value_transformed ILIKE ('smith'))))
                             )
                         )
                         SELECT * FROM cte0 GROUP BY entryid"""
@@ -161,9 +161,9 @@ class SearchQuerySQLConversionTest {
                             LEFT JOIN bib_fields."tableName_split_values" AS split_table
                             ON (main_table.entryid = split_table.entryid AND main_table.field_name = split_table.field_name)
                             WHERE (
-                                ((main_table.field_name = 'author') AND ((main_table.field_value_literal LIKE ('smith')) OR (main_table.field_value_transformed LIKE ('smith'))))
+                                ((main_table.field_name = ('author')) AND ((main_table.field_value_literal LIKE ('smith')) OR (main_table.field_value_transformed LIKE ('smith'))))
                                 OR
-                                ((split_table.field_name = 'author') AND ((split_table.field_value_literal LIKE ('smith')) OR (split_table.field_value_transformed LIKE ('smith'))))
+                                ((split_table.field_name = ('author')) AND ((split_table.field_value_literal LIKE ('smith')) OR (split_table.field_value_transformed LIKE ('smith'))))
                             )
                         )
                         SELECT * FROM cte0 GROUP BY entryid"""
@@ -182,9 +182,9 @@ class SearchQuerySQLConversionTest {
                                 LEFT JOIN bib_fields."tableName_split_values" AS split_table
                                 ON (inner_table.entryid = split_table.entryid AND inner_table.field_name = split_table.field_name)
                                 WHERE (
-                                    ((inner_table.field_name = 'author') AND ((inner_table.field_value_literal ILIKE ('smith')) OR (inner_table.field_value_transformed ILIKE ('smith'))))
+                                    ((inner_table.field_name = ('author')) AND ((inner_table.field_value_literal ILIKE ('smith')) OR (inner_table.field_value_transformed ILIKE ('smith'))))
                                     OR
-                                    ((split_table.field_name = 'author') AND ((split_table.field_value_literal ILIKE ('smith')) OR (split_table.field_value_transformed ILIKE ('smith'))))
+                                    ((split_table.field_name = ('author')) AND ((split_table.field_value_literal ILIKE ('smith')) OR (split_table.field_value_transformed ILIKE ('smith'))))
                                 )
                             )
                         )
@@ -204,9 +204,9 @@ class SearchQuerySQLConversionTest {
                                 LEFT JOIN bib_fields."tableName_split_values" AS split_table
                                 ON (inner_table.entryid = split_table.entryid AND inner_table.field_name = split_table.field_name)
                                 WHERE (
-                                    ((inner_table.field_name = 'author') AND ((inner_table.field_value_literal LIKE ('smith')) OR (inner_table.field_value_transformed LIKE ('smith'))))
+                                    ((inner_table.field_name = ('author')) AND ((inner_table.field_value_literal LIKE ('smith')) OR (inner_table.field_value_transformed LIKE ('smith'))))
                                     OR
-                                    ((split_table.field_name = 'author') AND ((split_table.field_value_literal LIKE ('smith')) OR (split_table.field_value_transformed LIKE ('smith'))))
+                                    ((split_table.field_name = ('author')) AND ((split_table.field_value_literal LIKE ('smith')) OR (split_table.field_value_transformed LIKE ('smith'))))
                                 )
                             )
                         )
@@ -221,7 +221,7 @@ class SearchQuerySQLConversionTest {
                             SELECT main_table.entryid
                             FROM bib_fields."tableName" AS main_table
                             WHERE (
-                                (main_table.field_name = 'author') AND ((main_table.field_value_literal ~* ('smith')) OR (main_table.field_value_transformed ~* ('smith')))
+                                (main_table.field_name = ('author')) AND ((main_table.field_value_literal ~* ('smith')) OR (main_table.field_value_transformed ~* ('smith')))
                             )
                         )
                         SELECT * FROM cte0 GROUP BY entryid"""
@@ -235,7 +235,7 @@ class SearchQuerySQLConversionTest {
                             SELECT main_table.entryid
                             FROM bib_fields."tableName" AS main_table
                             WHERE (
-                                (main_table.field_name = 'author') AND ((main_table.field_value_literal ~ ('smith')) OR (main_table.field_value_transformed ~ ('smith')))
+                                (main_table.field_name = ('author')) AND ((main_table.field_value_literal ~ ('smith')) OR (main_table.field_value_transformed ~ ('smith')))
                             )
                         )
                         SELECT * FROM cte0 GROUP BY entryid"""
@@ -252,7 +252,7 @@ class SearchQuerySQLConversionTest {
                                 SELECT inner_table.entryid
                                 FROM bib_fields."tableName" AS inner_table
                                 WHERE (
-                                    (inner_table.field_name = 'author') AND ((inner_table.field_value_literal ~* ('smith')) OR (inner_table.field_value_transformed ~* ('smith')))
+                                    (inner_table.field_name = ('author')) AND ((inner_table.field_value_literal ~* ('smith')) OR (inner_table.field_value_transformed ~* ('smith')))
                                 )
                             )
                         )
@@ -270,7 +270,7 @@ class SearchQuerySQLConversionTest {
                                 SELECT inner_table.entryid
                                 FROM bib_fields."tableName" AS inner_table
                                 WHERE (
-                                    (inner_table.field_name = 'author') AND ((inner_table.field_value_literal ~ ('smith')) OR (inner_table.field_value_transformed ~ ('smith')))
+                                    (inner_table.field_name = ('author')) AND ((inner_table.field_value_literal ~ ('smith')) OR (inner_table.field_value_transformed ~ ('smith')))
                                 )
                             )
                         )
@@ -338,7 +338,7 @@ class SearchQuerySQLConversionTest {
                             SELECT main_table.entryid
                             FROM bib_fields."tableName" AS main_table
                             WHERE (
-                                (main_table.field_name = 'title') AND ((main_table.field_value_literal ILIKE ('%computer science%')) OR (main_table.field_value_transformed ILIKE ('%computer science%')))
+                                (main_table.field_name = ('title')) AND ((main_table.field_value_literal ILIKE ('%computer science%')) OR (main_table.field_value_transformed ILIKE ('%computer science%')))
                             )
                         )
                         SELECT * FROM cte0 GROUP BY entryid"""
@@ -708,7 +708,7 @@ class SearchQuerySQLConversionTest {
                                 SELECT inner_table.entryid
                                 FROM bib_fields."tableName" AS inner_table
                                 WHERE (
-                                    (inner_table.field_name = 'file') AND ((inner_table.field_value_literal ILIKE ('%%')) OR (inner_table.field_value_transformed ILIKE ('%%')))
+                                    (inner_table.field_name = ('file')) AND ((inner_table.field_value_literal ILIKE ('%%')) OR (inner_table.field_value_transformed ILIKE ('%%')))
                                 )
                             )
                         )
@@ -723,7 +723,7 @@ class SearchQuerySQLConversionTest {
                             SELECT main_table.entryid
                             FROM bib_fields."tableName" AS main_table
                             WHERE (
-                                (main_table.field_name = 'file') AND ((main_table.field_value_literal ILIKE ('%%')) OR (main_table.field_value_transformed ILIKE ('%%')))
+                                (main_table.field_name = ('file')) AND ((main_table.field_value_literal ILIKE ('%%')) OR (main_table.field_value_transformed ILIKE ('%%')))
                             )
                         )
                         SELECT * FROM cte0 GROUP BY entryid"""
@@ -825,7 +825,7 @@ class SearchQuerySQLConversionTest {
                             SELECT main_table.entryid
                             FROM bib_fields."tableName" AS main_table
                             WHERE (
-                                (main_table.field_name = 'author') AND ((main_table.field_value_literal LIKE ('%Smith%')) OR (main_table.field_value_transformed LIKE ('%Smith%')))
+                                (main_table.field_name = ('author')) AND ((main_table.field_value_literal LIKE ('%Smith%')) OR (main_table.field_value_transformed LIKE ('%Smith%')))
                             )
                         )
                         ,
@@ -856,7 +856,7 @@ class SearchQuerySQLConversionTest {
                             SELECT main_table.entryid
                             FROM bib_fields."tableName" AS main_table
                             WHERE (
-                                (main_table.field_name = 'author') AND ((main_table.field_value_literal LIKE ('%Smith%')) OR (main_table.field_value_transformed LIKE ('%Smith%')))
+                                (main_table.field_name = ('author')) AND ((main_table.field_value_literal LIKE ('%Smith%')) OR (main_table.field_value_transformed LIKE ('%Smith%')))
                             )
                         )
                         ,
@@ -887,7 +887,7 @@ class SearchQuerySQLConversionTest {
                             SELECT main_table.entryid
                             FROM bib_fields."tableName" AS main_table
                             WHERE (
-                                (main_table.field_name = 'author') AND ((main_table.field_value_literal LIKE ('%Smith%')) OR (main_table.field_value_transformed LIKE ('%Smith%')))
+                                (main_table.field_name = ('author')) AND ((main_table.field_value_literal LIKE ('%Smith%')) OR (main_table.field_value_transformed LIKE ('%Smith%')))
                             )
                         )
                         ,
@@ -0,0 +1,106 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BibFieldsSearcherTest {
+
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private final BibEntry smith = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Tom Smith");
+    private final BibEntry harrer = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Simon Harrer");
+    private PostgreServer postgreServer;
+    private BibFieldsIndexer indexer;
+    private BibFieldsSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        postgreServer = new PostgreServer();
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(smith, harrer)));
+        indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+        indexer.updateOnStart(BackgroundTask.wrap(() -> null));
+        searcher = new BibFieldsSearcher(postgreServer.getConnection(), indexer.getTable());
+    }
+
+    @AfterEach
+    void tearDown() {
+        searcher.close();
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void sameQueryShapeWithDifferentTermsFindsDifferentEntries() {
+        assertEquals(Set.of(smith.getId()), searcher.search(new SearchQuery("author=smith")).getMatchedEntries());
+        assertEquals(Set.of(harrer.getId()), searcher.search(new SearchQuery("author=harrer")).getMatchedEntries());
+        assertEquals(Set.of(), searcher.search(new SearchQuery("title=harrer")).getMatchedEntries());
+    }
+
+    @Test
+    void cachedResultIsUsedUntilInvalidated() {
+        assertEquals(Set.of(smith.getId()), searcher.search(new SearchQuery("author=smith")).getMatchedEntries());
+
+        BibEntry anotherSmith = new BibEntry(StandardEntryType.Book).withField(StandardField.AUTHOR, "Anna Smith");
+        indexer.addToIndex(List.of(anotherSmith), BackgroundTask.wrap(() -> null));
+        assertEquals(Set.of(smith.getId()), searcher.search(new SearchQuery("author=smith")).getMatchedEntries());
+
+        searcher.invalidateCache();
+        assertEquals(Set.of(smith.getId(), anotherSmith.getId()), searcher.search(new SearchQuery("author=smith")).getMatchedEntries());
+    }
+
+    @Test
+    void matchesAreReturnedInLibraryOrderRegardlessOfIds() {
+        // e.g., an entry re-inserted by undo keeps its (lower) id, but is appended to the library
+        BibEntry reinsertedSmith = new BibEntry(StandardEntryType.Book).withField(StandardField.AUTHOR, "Anna Smith");
+        reinsertedSmith.setId("00000000");
+        indexer.addToIndex(List.of(reinsertedSmith), BackgroundTask.wrap(() -> null));
+        searcher.invalidateCache();
+
+        List<String> matches = new ArrayList<>();
+        searcher.search(new SearchQuery("author=smith"), Integer.MAX_VALUE, (entryId, _) -> matches.add(entryId));
+        assertEquals(List.of(smith.getId(), reinsertedSmith.getId()), matches);
+    }
+
+    @Test
+    void consumerStoppingEarlyGetsNoFurtherMatches() {
+        BibEntry anotherSmith = new BibEntry(StandardEntryType.Book).withField(StandardField.AUTHOR, "Anna Smith");
+        indexer.addToIndex(List.of(anotherSmith), BackgroundTask.wrap(() -> null));
+        searcher.invalidateCache();
+
+        List<String> matches = new ArrayList<>();
+        searcher.search(new SearchQuery("author=smith"), Integer.MAX_VALUE, (entryId, _) -> {
+            matches.add(entryId);
+            return false;
+        });
+        assertEquals(List.of(smith.getId()), matches);
+        // The incomplete result is not cached
+        assertEquals(Set.of(smith.getId(), anotherSmith.getId()), searcher.search(new SearchQuery("author=smith")).getMatchedEntries());
+    }
+
+    @Test
+    void isMatched() {
+        assertTrue(searcher.isMatched(smith, new SearchQuery("author=smith")));
+        assertFalse(searcher.isMatched(harrer, new SearchQuery("author=smith")));
+    }
+}
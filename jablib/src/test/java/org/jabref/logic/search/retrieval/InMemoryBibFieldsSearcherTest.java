@@ -0,0 +1,88 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InMemoryBibFieldsSearcherTest {
+
+    private static final BibEntry ARTICLE = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Harrer2018")
+            .withField(StandardField.AUTHOR, "Simon Harrer and J{\\\"o}rg Lenhard")
+            .withField(StandardField.TITLE, "Java by Comparison")
+            .withField(StandardField.KEYWORDS, "java, programming")
+            .withField(StandardField.GROUPS, "favourites")
+            .withField(StandardField.YEAR, "2018");
+
+    private static final BibEntry BOOK = new BibEntry(StandardEntryType.Book)
+            .withCitationKey("Smith2020")
+            .withField(StandardField.AUTHOR, "Tom Smith")
+            .withField(StandardField.TITLE, "Programming Pearls")
+            .withField(StandardField.KEYWORDS, "programming");
+
+    @ParameterizedTest
+    @MethodSource
+    void search(List<BibEntry> expectedMatches, SearchQuery query) {
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(ARTICLE, BOOK)));
+        InMemoryBibFieldsSearcher searcher = new InMemoryBibFieldsSearcher(databaseContext, ',');
+
+        Set<String> expectedIds = expectedMatches.stream().map(BibEntry::getId).collect(Collectors.toSet());
+        assertEquals(expectedIds, searcher.search(query).getMatchedEntries());
+        for (BibEntry entry : List.of(ARTICLE, BOOK)) {
+            assertEquals(expectedIds.contains(entry.getId()), searcher.isMatched(entry, query));
+        }
+    }
+
+    private static Stream<Arguments> search() {
+        return Stream.of(
+                Arguments.of(List.of(ARTICLE, BOOK), new SearchQuery("programming")),
+                Arguments.of(List.of(BOOK), new SearchQuery("pearls")),
+                Arguments.of(List.of(), new SearchQuery("pearls", EnumSet.of(SearchFlags.CASE_SENSITIVE))),
+
+                // LaTeX-free values are searched as well
+                Arguments.of(List.of(ARTICLE), new SearchQuery("author=jörg")),
+
+                // exact matches also look at the split values of multi-value fields
+                Arguments.of(List.of(ARTICLE), new SearchQuery("author==\"Simon Harrer\"")),
+                Arguments.of(List.of(ARTICLE, BOOK), new SearchQuery("keywords==programming")),
+                Arguments.of(List.of(), new SearchQuery("author==Harrer")),
+
+                // groups are not searched by unfielded terms
+                Arguments.of(List.of(ARTICLE), new SearchQuery("groups=favourites")),
+                Arguments.of(List.of(), new SearchQuery("favourites")),
+
+                Arguments.of(List.of(BOOK), new SearchQuery("NOT author=harrer")),
+                Arguments.of(List.of(BOOK), new SearchQuery("author!=harrer")),
+                Arguments.of(List.of(ARTICLE), new SearchQuery("year=2018 AND title=java")),
+                Arguments.of(List.of(ARTICLE, BOOK), new SearchQuery("year=2018 OR author=smith")),
+                Arguments.of(List.of(BOOK), new SearchQuery("key=Smith2020")),
+                Arguments.of(List.of(BOOK), new SearchQuery("entrytype=book")),
+
+                // empty values
+                Arguments.of(List.of(BOOK), new SearchQuery("year=\"\"")),
+                Arguments.of(List.of(ARTICLE), new SearchQuery("year!=\"\"")),
+
+                Arguments.of(List.of(ARTICLE), new SearchQuery("title=~\"^Java.*son$\"")),
+                Arguments.of(List.of(BOOK), new SearchQuery("title=~!Pro")),
+
+                // invalid search syntax
+                Arguments.of(List.of(), new SearchQuery("author="))
+        );
+    }
+}
@@ -116,6 +116,18 @@ class DBMSProcessorTest {
         }
     }
 
+    @Test
+    void insertEntriesIsRolledBackOnError() throws SQLException {
+        BibEntry validEntry = getBibEntryExample();
+        // PostgreSQL does not accept the null character in text values
+        BibEntry invalidEntry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "\u0000");
+
+        assertThrows(SQLException.class, () -> dbmsProcessor.insertEntries(List.of(validEntry, invalidEntry)));
+
+        assertEquals(List.of(), dbmsProcessor.getSharedEntries());
+        assertEquals(-1, validEntry.getSharedBibEntryData().getSharedID());
+    }
+
     private static BibEntry getBibEntryExample() {
         return new BibEntry(StandardEntryType.InProceedings)
                 .withField(StandardField.AUTHOR, "Wirthlin, Michael J and Hutchings, Brad L and Gilson, Kent L")
@@ -155,7 +167,7 @@ class DBMSProcessorTest {
     }
 
     @Test
-    void getEntriesByIdList() {
+    void getEntriesByIdList() throws SQLException {
         BibEntry firstEntry = getBibEntryExample();
         firstEntry.setField(InternalField.INTERNAL_ID_FIELD, "00001");
         BibEntry secondEntry = getBibEntryExample();
@@ -170,7 +182,7 @@ class DBMSProcessorTest {
     }
 
     @Test
-    void updateNewerEntry() {
+    void updateNewerEntry() throws SQLException {
         BibEntry bibEntry = getBibEntryExample();
 
         dbmsProcessor.insertEntry(bibEntry);
@@ -258,7 +270,7 @@ class DBMSProcessorTest {
     }
 
     @Test
-    void getSharedEntries() {
+    void getSharedEntries() throws SQLException {
         BibEntry bibEntry = getBibEntryExampleWithEmptyFields();
 
         dbmsProcessor.insertEntry(bibEntry);
@@ -269,7 +281,7 @@ class DBMSProcessorTest {
     }
 
     @Test
-    void getSharedEntry() {
+    void getSharedEntry() throws SQLException {
         BibEntry expectedBibEntry = getBibEntryExampleWithEmptyFields();
 
         dbmsProcessor.insertEntry(expectedBibEntry);
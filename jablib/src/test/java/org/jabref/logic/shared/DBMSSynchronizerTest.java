@@ -172,7 +172,7 @@ class DBMSSynchronizerTest {
     }
 
     @Test
-    void synchronizeLocalDatabaseWithEntryRemoval() {
+    void synchronizeLocalDatabaseWithEntryRemoval() throws SQLException {
         List<BibEntry> expectedBibEntries = Arrays.asList(createExampleBibEntry(1), createExampleBibEntry(2));
 
         dbmsProcessor.insertEntry(expectedBibEntries.getFirst());
@@ -212,6 +212,22 @@ class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    void synchronizeLocalDatabaseWithSeveralEntryUpdates() throws SQLException, OfflineLockException {
+        List<BibEntry> bibEntries = List.of(createExampleBibEntry(1), createExampleBibEntry(2), createExampleBibEntry(3));
+        bibDatabase.insertEntries(bibEntries);
+
+        BibEntry firstModifiedEntry = createExampleBibEntry(1).withField(StandardField.YEAR, "2001");
+        BibEntry thirdModifiedEntry = createExampleBibEntry(3).withField(StandardField.YEAR, "2003");
+        dbmsProcessor.updateEntry(firstModifiedEntry);
+        dbmsProcessor.updateEntry(thirdModifiedEntry);
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(List.of(firstModifiedEntry, createExampleBibEntry(2), thirdModifiedEntry), bibDatabase.getEntries());
+        assertEquals(2, bibEntries.getFirst().getSharedBibEntryData().getVersion());
+        assertEquals(1, bibEntries.get(1).getSharedBibEntryData().getVersion());
+    }
+
     @Test
     void updateEntryDoesNotModifyLocalDatabase() throws SQLException, OfflineLockException {
         BibEntry bibEntry = createExampleBibEntry(1);
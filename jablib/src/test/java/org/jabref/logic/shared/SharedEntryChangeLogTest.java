@@ -0,0 +1,158 @@
+package org.jabref.logic.shared;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
+import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SharedEntryChangeLogTest {
+
+    private static EmbeddedPostgres postgres;
+
+    private DBMSConnection remoteConnection;
+    private DBMSProcessor remoteProcessor;
+    private DBMSSynchronizer synchronizer;
+    private BibDatabase localDatabase;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException, InvalidDBMSConnectionPropertiesException, DatabaseNotSupportedException {
+        remoteConnection = createConnection();
+        try (Statement statement = remoteConnection.getConnection().createStatement()) {
+            statement.executeUpdate("DROP SCHEMA IF EXISTS jabref CASCADE");
+        }
+        remoteProcessor = DBMSProcessor.getProcessorInstance(remoteConnection);
+        remoteProcessor.setupSharedDatabase();
+        assertTrue(remoteProcessor.setUpChangeLog());
+
+        FieldPreferences fieldPreferences = mock(FieldPreferences.class);
+        when(fieldPreferences.getNonWrappableFields()).thenReturn(FXCollections.observableArrayList());
+        localDatabase = new BibDatabase();
+        synchronizer = new DBMSSynchronizer(new BibDatabaseContext(localDatabase), ',', fieldPreferences,
+                GlobalCitationKeyPatterns.fromPattern("[auth][year]"), new DummyFileUpdateMonitor());
+        localDatabase.registerListener(synchronizer);
+        synchronizer.openSharedDatabase(createConnection());
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        synchronizer.closeSharedDatabase();
+        remoteConnection.getConnection().close();
+    }
+
+    @Test
+    void changeLogContainsInsertUpdateAndDelete() throws SQLException, OfflineLockException {
+        long sequenceBefore = remoteProcessor.getLatestChangeSequence();
+        BibEntry entry = createEntry("Title");
+        remoteProcessor.insertEntry(entry);
+        entry.setField(StandardField.YEAR, "2024");
+        remoteProcessor.updateEntry(entry);
+        remoteProcessor.removeEntries(List.of(entry));
+
+        List<SharedEntryChange.Operation> operations = remoteProcessor.getSharedEntryChangesSince(sequenceBefore).orElseThrow().stream()
+                                                                      .filter(change -> change.sequence() > sequenceBefore)
+                                                                      .map(SharedEntryChange::operation)
+                                                                      .toList();
+
+        assertEquals(List.of(SharedEntryChange.Operation.INSERT, SharedEntryChange.Operation.UPDATE, SharedEntryChange.Operation.DELETE), operations);
+    }
+
+    @Test
+    void settingUpChangeLogAgainKeepsSingleTrigger() throws SQLException {
+        assertTrue(remoteProcessor.setUpChangeLog());
+        long sequenceBefore = remoteProcessor.getLatestChangeSequence();
+
+        remoteProcessor.insertEntry(createEntry("Title"));
+
+        assertEquals(1, remoteProcessor.getSharedEntryChangesSince(sequenceBefore).orElseThrow().stream()
+                                       .filter(change -> change.sequence() > sequenceBefore)
+                                       .count());
+    }
+
+    @Test
+    void notificationsOfRemoteChangesArePulled() throws SQLException, OfflineLockException, InterruptedException {
+        BibEntry changedEntry = createEntry("Changed");
+        BibEntry removedEntry = createEntry("Removed");
+        remoteProcessor.insertEntries(List.of(changedEntry, removedEntry));
+        awaitLocalEntries(List.of(changedEntry, removedEntry));
+
+        changedEntry.setField(StandardField.YEAR, "2024");
+        remoteProcessor.updateEntry(changedEntry);
+        remoteProcessor.removeEntries(List.of(removedEntry));
+        BibEntry addedEntry = createEntry("Added");
+        remoteProcessor.insertEntry(addedEntry);
+        awaitLocalEntries(List.of(changedEntry, addedEntry));
+
+        assertEquals(remoteProcessor.getLatestChangeSequence(), synchronizer.getLatestKnownChangeSequence());
+    }
+
+    @Test
+    void notificationPayloadOfChangeIsParsed() {
+        assertEquals(Optional.of(new SharedEntryChange(12, 3, 2, SharedEntryChange.Operation.UPDATE)),
+                SharedEntryChange.fromNotificationPayload("12,3,2,U"));
+        assertEquals(Optional.empty(), SharedEntryChange.fromNotificationPayload(DBMSProcessor.PROCESSOR_ID));
+    }
+
+    /**
+     * The notification listener of the synchronizer polls for notifications, thus the changes arrive with a delay
+     */
+    private void awaitLocalEntries(List<BibEntry> expected) throws InterruptedException {
+        for (int i = 0; (i < 100) && !expected.equals(localDatabase.getEntries()); i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(expected, localDatabase.getEntries());
+    }
+
+    private static BibEntry createEntry(String title) {
+        return new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Author")
+                .withField(StandardField.TITLE, title);
+    }
+
+    private static DBMSConnection createConnection() throws SQLException, InvalidDBMSConnectionPropertiesException {
+        return new DBMSConnection(new DBMSConnectionPropertiesBuilder()
+                .setType(DBMSType.POSTGRESQL)
+                .setHost("localhost")
+                .setPort(postgres.getPort())
+                .setDatabase("postgres")
+                .setUser("postgres")
+                .setPassword("")
+                .setUseSSL(false)
+                .createDBMSConnectionProperties());
+    }
+}
@@ -332,6 +332,31 @@ class BibDatabaseTest {
         assertEquals(2, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void getEntryByCitationKeyReturnsFirstDuplicateInLibraryOrder() {
+        BibEntry first = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(first);
+        // e.g., an entry re-inserted by undo keeps its (lower) id, but is appended to the library
+        BibEntry second = new BibEntry().withCitationKey("AAA");
+        second.setId("00000000");
+        database.insertEntry(second);
+
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("AAA"));
+    }
+
+    @Test
+    void changedCitationKeyKeepsLibraryOrderOfDuplicates() {
+        BibEntry first = new BibEntry().withCitationKey("BBB");
+        BibEntry second = new BibEntry().withCitationKey("AAA");
+        database.insertEntries(first, second);
+
+        first.setCitationKey("AAA");
+
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+    }
+
     @Test
     void correctKeyCountAfterRemoving() {
         BibEntry entry = new BibEntry();
@@ -1,11 +1,15 @@
 package org.jabref.model.database;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.jabref.model.entry.BibEntry;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DuplicationCheckerTest {
 
@@ -104,4 +108,43 @@ class DuplicationCheckerTest {
         database.removeEntry(entry);
         assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
+
+    @Test
+    void clearCiteKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+
+        entry.clearCiteKey();
+
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+    }
+
+    @Test
+    void changeCiteKeyOfRemovedEntry() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void entriesWithSameKeyAreReturnedInDatabaseOrder() {
+        BibEntry entry0 = new BibEntry();
+        entry0.setCitationKey("BBB");
+        BibEntry entry1 = new BibEntry();
+        entry1.setCitationKey("AAA");
+        database.insertEntries(entry0, entry1);
+
+        entry0.setCitationKey("AAA");
+
+        assertEquals(List.of(entry0, entry1), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(entry0), database.getEntryByCitationKey("AAA"));
+        assertTrue(database.isDuplicateCitationKeyExisting("AAA"));
+    }
 }
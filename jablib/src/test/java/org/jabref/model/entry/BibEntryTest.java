@@ -10,6 +10,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import javafx.beans.property.ObjectProperty;
+import javafx.collections.MapChangeListener;
+
 import org.jabref.logic.util.URLUtil;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
@@ -21,6 +24,7 @@ import org.jabref.model.entry.field.OrFields;
 import org.jabref.model.entry.field.SpecialField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import com.google.common.collect.Sets;
@@ -81,6 +85,69 @@ class BibEntryTest {
         assertTrue(entry.hasChanged());
     }
 
+    @Test
+    void setParsedSerializationWithCurrentChangeCountMarksEntryUnchanged() {
+        entry.setField(StandardField.AUTHOR, "value");
+
+        assertTrue(entry.setParsedSerialization("serialization", entry.getChangeCount()));
+        assertFalse(entry.hasChanged());
+        assertEquals("serialization", entry.getParsedSerialization());
+    }
+
+    @Test
+    void setParsedSerializationIsDiscardedIfEntryChangedInBetween() {
+        int changeCount = entry.getChangeCount();
+        entry.setField(StandardField.AUTHOR, "value");
+
+        assertFalse(entry.setParsedSerialization("serialization", changeCount));
+        assertTrue(entry.hasChanged());
+    }
+
+    @Test
+    void serializationStoredWhileEntryIsChangedOnAnotherThreadIsNotKept() throws InterruptedException {
+        Thread editor = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                entry.setField(StandardField.AUTHOR, Integer.toString(i));
+            }
+        });
+        editor.start();
+        while (editor.isAlive()) {
+            int changeCount = entry.getChangeCount();
+            String serialization = entry.getField(StandardField.AUTHOR).orElse("");
+            // The editor changes the entry between computing the serialization and storing it
+            entry.setParsedSerialization(serialization, changeCount);
+        }
+        editor.join();
+
+        // An entry marked unchanged has to be serialized with its latest field value
+        if (!entry.hasChanged()) {
+            assertEquals("99999", entry.getParsedSerialization());
+        }
+    }
+
+    @Test
+    void fieldsObservableCreatedLaterContainsFieldsAndIsNotifiedOfChanges() {
+        entry.setField(StandardField.AUTHOR, "value");
+        List<Field> changedFields = new ArrayList<>();
+        entry.getFieldsObservable().addListener((MapChangeListener<Field, String>) change -> changedFields.add(change.getKey()));
+
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(Map.of(StandardField.AUTHOR, "value", StandardField.TITLE, "title"), entry.getFieldsObservable());
+        assertEquals(List.of(StandardField.TITLE), changedFields);
+    }
+
+    @Test
+    void typePropertyFollowsSetType() {
+        entry.setType(StandardEntryType.Book);
+        ObjectProperty<EntryType> typeProperty = entry.typeProperty();
+
+        entry.setType(StandardEntryType.Article);
+
+        assertEquals(StandardEntryType.Article, typeProperty.get());
+        assertEquals(StandardEntryType.Article, entry.getType());
+    }
+
     @Test
     void setFieldWorksWithBibFieldAsWell() {
         entry.setField(new BibField(StandardField.AUTHOR, FieldPriority.IMPORTANT).field(), "value");
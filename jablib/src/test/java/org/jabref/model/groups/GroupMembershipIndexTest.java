@@ -0,0 +1,123 @@
+package org.jabref.model.groups;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GroupMembershipIndexTest {
+
+    private final BibEntry physics = new BibEntry().withField(StandardField.KEYWORDS, "physics");
+    private final BibEntry physicsAndMath = new BibEntry().withField(StandardField.KEYWORDS, "physics, math");
+    private final BibEntry math = new BibEntry().withField(StandardField.KEYWORDS, "math");
+
+    private BibDatabase database;
+    private GroupTreeNode root;
+    private GroupMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase(List.of(physics, physicsAndMath, math));
+        root = new GroupTreeNode(new AllEntriesGroup("All entries"));
+        index = new GroupMembershipIndex(database);
+    }
+
+    @Test
+    void findsSameEntriesAsGroupTreeNode() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("math", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(Set.of(physicsAndMath, math), matches(node));
+        assertEquals(2, index.getNumberOfMatches(node));
+        assertEquals(Set.copyOf(node.findMatches(database)), matches(node));
+    }
+
+    @Test
+    void updatesMatchesWhenEntriesChange() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("math", GroupHierarchyType.INDEPENDENT));
+        assertEquals(2, index.getNumberOfMatches(node));
+
+        physics.setField(StandardField.KEYWORDS, "physics, math");
+        math.clearField(StandardField.KEYWORDS);
+        BibEntry newEntry = new BibEntry().withField(StandardField.KEYWORDS, "math");
+        database.insertEntry(newEntry);
+        database.removeEntry(physicsAndMath);
+
+        assertEquals(Set.of(physics, newEntry), matches(node));
+        assertEquals(2, index.getNumberOfMatches(node));
+    }
+
+    @Test
+    void ignoresChangesOfRemovedEntries() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("math", GroupHierarchyType.INDEPENDENT));
+        database.removeEntry(physics);
+
+        physics.setField(StandardField.KEYWORDS, "math");
+
+        assertEquals(Set.of(physicsAndMath, math), matches(node));
+    }
+
+    @Test
+    void refiningGroupMatchesIntersectionWithParent() {
+        GroupTreeNode parent = root.addSubgroup(keywordGroup("physics", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode node = parent.addSubgroup(keywordGroup("math", GroupHierarchyType.REFINING));
+
+        assertEquals(Set.of(physicsAndMath), matches(node));
+        assertEquals(1, index.getNumberOfMatches(node));
+        assertEquals(Set.copyOf(node.findMatches(database)), matches(node));
+    }
+
+    @Test
+    void includingGroupMatchesUnionWithChildren() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("chemistry", GroupHierarchyType.INCLUDING));
+        node.addSubgroup(keywordGroup("physics", GroupHierarchyType.INDEPENDENT));
+        node.addSubgroup(keywordGroup("math", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(Set.of(physics, physicsAndMath, math), matches(node));
+        assertEquals(3, index.getNumberOfMatches(node));
+        assertEquals(Set.copyOf(node.findMatches(database)), matches(node));
+    }
+
+    @Test
+    void combinesMatchesOfSeveralGroups() {
+        GroupTreeNode physicsNode = root.addSubgroup(keywordGroup("physics", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode mathNode = root.addSubgroup(keywordGroup("math", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(Set.of(physicsAndMath), index.getMatches(List.of(physicsNode, mathNode), true));
+        assertEquals(Set.of(physics, physicsAndMath, math), index.getMatches(List.of(physicsNode, mathNode), false));
+    }
+
+    @Test
+    void numberOfMembersIgnoresHierarchicalContext() {
+        GroupTreeNode parent = root.addSubgroup(keywordGroup("physics", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode node = parent.addSubgroup(keywordGroup("math", GroupHierarchyType.REFINING));
+
+        assertEquals(2, index.getNumberOfMembers(node));
+        assertEquals(node.getEntriesInGroup(database.getEntries()).size(), index.getNumberOfMembers(node));
+    }
+
+    @Test
+    void replacedGroupIsCheckedAgain() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("math", GroupHierarchyType.INDEPENDENT));
+        assertEquals(2, index.getNumberOfMatches(node));
+
+        node.setGroup(keywordGroup("physics", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(Set.of(physics, physicsAndMath), matches(node));
+    }
+
+    private Set<BibEntry> matches(GroupTreeNode node) {
+        return index.getMatches(node).stream().collect(Collectors.toSet());
+    }
+
+    private static WordKeywordGroup keywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, false, ',', false);
+    }
+}